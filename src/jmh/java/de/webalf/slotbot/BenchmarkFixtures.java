@@ -0,0 +1,109 @@
+package de.webalf.slotbot;
+
+import de.webalf.slotbot.model.*;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic data for the benchmarks
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@UtilityClass
+public final class BenchmarkFixtures {
+	public static final long GUILD_ID = 1;
+	public static final int SLOTS_PER_SQUAD = 10;
+	private static final long USER_ID_OFFSET = 100_000;
+
+	/**
+	 * Builds an event with squads of {@link #SLOTS_PER_SQUAD} slots each. The first slots are occupied
+	 *
+	 * @param slotCount    number of slots
+	 * @param slottedCount number of occupied slots
+	 * @return event with back references
+	 */
+	public static Event buildEvent(int slotCount, int slottedCount) {
+		return buildEvent(1, slotCount, slottedCount);
+	}
+
+	public static Event buildEvent(long id, int slotCount, int slottedCount) {
+		final List<Squad> squads = new ArrayList<>();
+		final Event event = Event.builder()
+				.id(id)
+				.name("Benchmark event " + id)
+				.dateTime(LocalDateTime.of(2026, 10, 17, 20, 0).plusDays(id))
+				.ownerGuild(Guild.builder().id(GUILD_ID).build())
+				.squadList(squads)
+				.details(new ArrayList<>())
+				.build();
+
+		for (int number = 1; number <= slotCount; number++) {
+			if ((number - 1) % SLOTS_PER_SQUAD == 0) {
+				squads.add(Squad.builder().name("Squad " + (squads.size() + 1)).slotList(new ArrayList<>()).event(event).build());
+			}
+			final Squad squad = squads.getLast();
+			squad.getSlotList().add(Slot.builder()
+					.number(number)
+					.name("Slot " + number)
+					.user(number <= slottedCount ? buildUser(number) : null)
+					.squad(squad)
+					.build());
+		}
+		return event;
+	}
+
+	public static User buildUser(long number) {
+		return User.builder().id(USER_ID_OFFSET + number).build();
+	}
+
+	/**
+	 * Builds the content of a mission.sqm with groups of {@link #SLOTS_PER_SQUAD} playable units each
+	 *
+	 * @param slotCount number of playable units
+	 * @return mission.sqm content
+	 */
+	public static String buildSqm(int slotCount) {
+		final StringBuilder sqm = new StringBuilder("version=54;\nclass Mission\n{\n\tclass Entities\n\t{\n\t\titems=")
+				.append((slotCount + SLOTS_PER_SQUAD - 1) / SLOTS_PER_SQUAD).append(";\n");
+		for (int group = 0; group * SLOTS_PER_SQUAD < slotCount; group++) {
+			sqm.append("\t\tclass Item").append(group).append("\n\t\t{\n")
+					.append("\t\t\tdataType=\"Group\";\n\t\t\tside=\"West\";\n")
+					.append("\t\t\tclass Entities\n\t\t\t{\n");
+			for (int unit = 0; unit < SLOTS_PER_SQUAD && group * SLOTS_PER_SQUAD + unit < slotCount; unit++) {
+				final int number = group * SLOTS_PER_SQUAD + unit + 1;
+				sqm.append("\t\t\t\tclass Item").append(unit).append("\n\t\t\t\t{\n")
+						.append("\t\t\t\t\tdataType=\"Object\";\n")
+						.append("\t\t\t\t\tclass Attributes\n\t\t\t\t\t{\n")
+						.append("\t\t\t\t\t\tdescription=\"").append(number).append(" Rifleman");
+				if (unit == 0) {
+					sqm.append("@Squad ").append(group + 1);
+				}
+				sqm.append("\";\n\t\t\t\t\t\tisPlayable=1;\n\t\t\t\t\t};\n")
+						.append("\t\t\t\t\tid=").append(number).append(";\n")
+						.append("\t\t\t\t\ttype=\"B_Soldier_F\";\n\t\t\t\t};\n");
+			}
+			sqm.append("\t\t\t};\n\t\t\tclass Attributes\n\t\t\t{\n\t\t\t};\n")
+					.append("\t\t\tid=").append(group).append(";\n\t\t};\n");
+		}
+		return sqm.append("\t};\n};\n").toString();
+	}
+
+	/**
+	 * Event description using the markdown supported by discord
+	 */
+	public static final String MARKDOWN_DESCRIPTION = """
+			# Operation Benchmark
+			**Briefing** um 19:30 Uhr, *Slotting* ab 19:45 Uhr.
+			## Ablauf
+			- __Anreise__ über den Teamspeak
+			- ~~Zeus-Einweisung~~ entfällt diesmal
+			- Missionsstart um **20:00 Uhr** mit _kurzer_ Ansprache
+			### Hinweise
+			Bitte die Modliste **vorher** aktualisieren. Fragen gerne an *@Zeus* oder im Kanal \\*events\\*.
+			Wer nicht erscheint, wird __ohne__ Rückmeldung ausgeslottet. **Wichtig:** Funk auf *Kanal 2* und _Kanal 3_.
+			""".repeat(4);
+}
@@ -0,0 +1,134 @@
+package de.webalf.slotbot.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.BenchmarkFixtures.buildEvent;
+import static de.webalf.slotbot.BenchmarkFixtures.buildUser;
+
+/**
+ * Measures the reserve handling that runs after every slot change of an {@link Event}
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventReserveBenchmark {
+	/**
+	 * Full event without a reserve. Slot update adds the reserve
+	 */
+	@State(Scope.Thread)
+	public static class FullEvent {
+		@Param({"10", "100", "1000"})
+		int slotCount;
+
+		Event event;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+			event = buildEvent(slotCount, slotCount);
+		}
+	}
+
+	/**
+	 * Full event whose reserve is too small after a new squad has been added. Slot update resizes the reserve
+	 */
+	@State(Scope.Thread)
+	public static class GrownEvent {
+		@Param({"10", "100", "1000"})
+		int slotCount;
+
+		Event event;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+			event = buildEvent(slotCount, slotCount);
+			event.slotUpdate();
+
+			final List<Slot> slots = new ArrayList<>();
+			final Squad squad = Squad.builder().name("Additional squad").slotList(slots).event(event).build();
+			for (int i = 0; i < slotCount; i++) {
+				slots.add(Slot.builder().number(10_000 + i).name("Additional slot").user(buildUser(10_000 + i)).squad(squad).build());
+			}
+			event.getSquadList().addFirst(squad);
+		}
+	}
+
+	/**
+	 * Event with a filled reserve and freed slots. Slot update moves the reservists
+	 */
+	@State(Scope.Thread)
+	public static class EventWithReservists {
+		@Param({"10", "100", "1000"})
+		int slotCount;
+
+		Event event;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+			event = buildEvent(slotCount, slotCount);
+			event.slotUpdate();
+
+			final Squad reserve = event.getSquadList().getLast();
+			final List<Slot> reserveSlots = reserve.getSlotList();
+			for (int i = 0; i < reserveSlots.size(); i++) {
+				reserveSlots.get(i).setUser(buildUser(20_000 + i));
+			}
+			for (int i = 0; i < reserveSlots.size(); i++) {
+				final Slot slot = event.getSquadList().get(i % (event.getSquadList().size() - 1)).getSlotList().get(i / (event.getSquadList().size() - 1));
+				slot.setUser(null);
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class HalfFilledEvent {
+		@Param({"10", "100", "1000"})
+		int slotCount;
+
+		Event event;
+		User lastSlottedUser;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			event = buildEvent(slotCount, slotCount / 2);
+			lastSlottedUser = event.findSlot(Math.max(slotCount / 2, 1)).orElseThrow().getUser();
+		}
+	}
+
+	@Benchmark
+	public Event addReserve(FullEvent state) {
+		state.event.slotUpdate();
+		return state.event;
+	}
+
+	@Benchmark
+	public Event adjustReserveSize(GrownEvent state) {
+		state.event.slotUpdate();
+		return state.event;
+	}
+
+	@Benchmark
+	public Event moveReservists(EventWithReservists state) {
+		state.event.slotUpdate();
+		return state.event;
+	}
+
+	@Benchmark
+	public int findFirstUnusedSlotNumber(HalfFilledEvent state) {
+		return state.event.findFirstUnusedSlotNumber();
+	}
+
+	@Benchmark
+	public Optional<Slot> findSlotOfUser(HalfFilledEvent state) {
+		return state.event.findSlotOfUser(state.lastSlottedUser);
+	}
+}
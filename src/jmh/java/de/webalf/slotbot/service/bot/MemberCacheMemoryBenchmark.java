@@ -0,0 +1,140 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.repository.GuildUsersRepository;
+import de.webalf.slotbot.repository.SlotRepository;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.internal.JDAImpl;
+import net.dv8tion.jda.internal.entities.EntityBuilder;
+import net.dv8tion.jda.internal.entities.GuildImpl;
+import net.dv8tion.jda.internal.entities.SelfUserImpl;
+import net.dv8tion.jda.internal.utils.config.AuthorizationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the heap retained by the member cache after a guild of {@link #MEMBERS} members has been chunked. The
+ * gateway is replaced by member chunks that are fed to the entity builder of an offline JDA instance, the same way
+ * the chunk handler of JDA does. {@link #RELEVANT_MEMBERS} of the members are known to the application.
+ * The auxiliary counters are summed over all measurement iterations.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class MemberCacheMemoryBenchmark {
+	static final int MEMBERS = 100_000;
+	static final int RELEVANT_MEMBERS = 1_000;
+	private static final long GUILD_ID = 1;
+	private static final long SELF_USER_ID = 2;
+	private static final long USER_ID_OFFSET = 100_000_000_000_000L;
+	/**
+	 * Maximum number of members in one chunk sent by discord
+	 */
+	private static final int CHUNK_SIZE = 1_000;
+
+	@Param({"ALL", "RELEVANT"})
+	String policy;
+
+	private List<DataArray> chunks;
+	private MemberCachePolicy memberCachePolicy;
+	private JDAImpl jda;
+	private GuildImpl guild;
+	private long heapBefore;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class RetainedMemory {
+		public long retainedKiloBytes;
+		public long cachedMembers;
+	}
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		chunks = LongStream.range(0, MEMBERS / CHUNK_SIZE)
+				.mapToObj(chunk -> {
+					final DataArray members = DataArray.empty();
+					LongStream.range(chunk * CHUNK_SIZE, (chunk + 1) * CHUNK_SIZE).forEach(i -> members.add(member(USER_ID_OFFSET + i)));
+					return members;
+				})
+				.toList();
+
+		if ("ALL".equals(policy)) {
+			memberCachePolicy = MemberCachePolicy.ALL;
+		} else {
+			final Set<Long> relevantUserIds = LongStream.range(0, RELEVANT_MEMBERS)
+					.map(i -> USER_ID_OFFSET + i * (MEMBERS / RELEVANT_MEMBERS))
+					.boxed()
+					.collect(Collectors.toSet());
+			final GuildUsersRepository guildUsersRepository = mock(GuildUsersRepository.class);
+			when(guildUsersRepository.findAllUserIds()).thenReturn(relevantUserIds);
+			final SlotRepository slotRepository = mock(SlotRepository.class);
+			when(slotRepository.findUserIdsBySquadEventDateTimeAfter(any())).thenReturn(Set.of());
+			final RelevantMemberCachePolicy relevantMemberCachePolicy = new RelevantMemberCachePolicy(guildUsersRepository, slotRepository, null);
+			relevantMemberCachePolicy.refresh();
+			memberCachePolicy = relevantMemberCachePolicy;
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		jda = new JDAImpl(new AuthorizationConfig("benchmark"));
+		//The member cache policy isn't asked for the bot itself
+		jda.setSelfUser(new SelfUserImpl(SELF_USER_ID, jda));
+		jda.setMemberCachePolicy(memberCachePolicy);
+		guild = new GuildImpl(jda, GUILD_ID);
+		heapBefore = usedHeapAfterGc();
+	}
+
+	@Benchmark
+	public void chunkGuild(RetainedMemory retainedMemory) {
+		final EntityBuilder entityBuilder = jda.getEntityBuilder();
+		for (DataArray chunk : chunks) {
+			for (int i = 0; i < chunk.length(); i++) {
+				entityBuilder.updateMemberCache(entityBuilder.createMember(guild, chunk.getObject(i)));
+			}
+		}
+
+		retainedMemory.retainedKiloBytes = (usedHeapAfterGc() - heapBefore) / 1024;
+		retainedMemory.cachedMembers = guild.getMemberCache().size();
+	}
+
+	private static DataObject member(long userId) {
+		return DataObject.empty()
+				.put("user", DataObject.empty()
+						.put("id", Long.toUnsignedString(userId))
+						.put("username", "user" + userId)
+						.put("global_name", "User " + userId)
+						.put("discriminator", "0")
+						.put("avatar", null))
+				.put("nick", null)
+				.put("roles", DataArray.empty())
+				.put("joined_at", "2026-10-17T20:00:00.000000+00:00")
+				.put("flags", 0);
+	}
+
+	private static long usedHeapAfterGc() {
+		final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return memoryBean.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,26 @@
+package de.webalf.slotbot.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.BenchmarkFixtures.MARKDOWN_DESCRIPTION;
+
+/**
+ * Measures the conversion of discord markdown to html
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscordMarkdownBenchmark {
+	@Benchmark
+	public String toHtml() {
+		return DiscordMarkdown.toHtml(MARKDOWN_DESCRIPTION);
+	}
+}
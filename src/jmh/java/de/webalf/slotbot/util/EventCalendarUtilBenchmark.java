@@ -0,0 +1,64 @@
+package de.webalf.slotbot.util;
+
+import de.webalf.slotbot.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.BenchmarkFixtures.buildEvent;
+
+/**
+ * Measures the rendering of a guild calendar
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCalendarUtilBenchmark {
+	private static final Instant LAST_MODIFIED = Instant.parse("2026-10-17T18:00:00Z");
+
+	@Param({"10", "100", "1000"})
+	int eventCount;
+
+	private List<Event> events;
+	private List<String> calendarEvents;
+
+	@Setup
+	public void setUp() {
+		events = new ArrayList<>(eventCount);
+		for (int id = 1; id <= eventCount; id++) {
+			events.add(buildEvent(id, 0, 0));
+		}
+		calendarEvents = events.stream().map(event -> EventCalendarUtil.buildCalendarEvent(event, 0, LAST_MODIFIED)).toList();
+	}
+
+	@Benchmark
+	public String buildCalendar() throws IOException {
+		final List<String> rendered = new ArrayList<>(eventCount);
+		for (Event event : events) {
+			rendered.add(EventCalendarUtil.buildCalendarEvent(event, 0, LAST_MODIFIED));
+		}
+		return write(rendered);
+	}
+
+	@Benchmark
+	public String writeCachedCalendar() throws IOException {
+		return write(calendarEvents);
+	}
+
+	private static String write(List<String> calendarEvents) throws IOException {
+		final StringWriter writer = new StringWriter();
+		EventCalendarUtil.writeCalendar(calendarEvents, writer);
+		return writer.toString();
+	}
+}
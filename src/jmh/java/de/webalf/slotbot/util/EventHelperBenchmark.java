@@ -0,0 +1,45 @@
+package de.webalf.slotbot.util;
+
+import de.webalf.slotbot.model.Event;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.BenchmarkFixtures.GUILD_ID;
+import static de.webalf.slotbot.BenchmarkFixtures.buildEvent;
+
+/**
+ * Measures the rendering of the discord slot list
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventHelperBenchmark {
+	@Param({"10", "100", "1000"})
+	int slotCount;
+
+	private EventHelper eventHelper;
+	private Event event;
+
+	@Setup
+	public void setUp() {
+		final StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage("event.slotlist.title", Locale.GERMAN, "Teilnahmeplatzaufzählung");
+		eventHelper = new EventHelper(messageSource);
+		event = buildEvent(slotCount, slotCount / 2);
+	}
+
+	@Benchmark
+	public List<String> buildSlotList() {
+		return eventHelper.buildSlotList(event, GUILD_ID, Locale.GERMAN);
+	}
+}
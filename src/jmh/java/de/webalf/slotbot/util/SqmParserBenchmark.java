@@ -0,0 +1,40 @@
+package de.webalf.slotbot.util;
+
+import de.webalf.slotbot.model.dtos.website.event.creation.MinimalSquadDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.BenchmarkFixtures.buildSqm;
+
+/**
+ * Measures the slot list import from a mission.sqm
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqmParserBenchmark {
+	@Param({"10", "100", "1000"})
+	int slotCount;
+
+	private MockMultipartFile file;
+
+	@Setup
+	public void setUp() {
+		file = new MockMultipartFile("mission.sqm", buildSqm(slotCount).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Benchmark
+	public List<MinimalSquadDto> createSlotListFromFile() {
+		return SqmParser.createSlotListFromFile(file);
+	}
+}
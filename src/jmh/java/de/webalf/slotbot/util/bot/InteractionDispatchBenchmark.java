@@ -0,0 +1,64 @@
+package de.webalf.slotbot.util.bot;
+
+import de.webalf.slotbot.model.bot.TranslatableOptionData;
+import de.webalf.slotbot.util.StaticContextAccessor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.util.bot.DiscordLocaleHelper.DEFAULT_LOCALE;
+
+/**
+ * Compares dispatching a slash command by reflection on a new command instance with dispatching it through the
+ * {@link InteractionRegistry}. {@code getOptions} stands in for the command body, so that only the dispatch is measured.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InteractionDispatchBenchmark {
+	@Param({"bot.slash.event.slot", "bot.slash.event.addEventToChannel", "bot.slash.event.swap"})
+	String command;
+
+	private String commandName;
+	private CommandClassHelper commandClassHelper;
+	private InteractionRegistry interactionRegistry;
+
+	@Setup
+	public void setUp() {
+		final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages");
+		messageSource.setFallbackToSystemLocale(false);
+		final GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(AbstractApplicationContext.MESSAGE_SOURCE_BEAN_NAME, MessageSource.class, () -> messageSource);
+		context.refresh();
+		new StaticContextAccessor().setApplicationContext(context);
+
+		commandName = DEFAULT_LOCALE.t(command).toLowerCase();
+		commandClassHelper = new CommandClassHelper(null, null, null, null, null);
+		interactionRegistry = new InteractionRegistry(commandClassHelper);
+		interactionRegistry.init();
+	}
+
+	@Benchmark
+	public Object reflectiveDispatch() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+		final Class<?> commandClass = SlashCommandUtils.get(commandName);
+		return commandClass.getMethod("getOptions", int.class).invoke(commandClassHelper.getConstructor(commandClass), 0);
+	}
+
+	@Benchmark
+	public List<TranslatableOptionData> registryDispatch() {
+		return interactionRegistry.getSlashCommand(commandName).getOptions(0);
+	}
+}
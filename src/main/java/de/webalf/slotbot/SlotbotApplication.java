@@ -1,8 +1,10 @@
 package de.webalf.slotbot;
 
+import de.webalf.slotbot.service.EventService;
 import de.webalf.slotbot.service.FileService;
 import de.webalf.slotbot.service.bot.BotService;
 import de.webalf.slotbot.service.bot.EventNotificationService;
+import de.webalf.slotbot.util.bot.DirectMessageDispatcher;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
@@ -35,10 +37,16 @@ public class SlotbotApplication {
 		//Initial fetch of file directories
 		applicationContext.getBean(FileService.class).listFiles();
 
+		//Initial build of the event visibility per guild
+		applicationContext.getBean(EventService.class).initGuildVisibility();
+
 		//Start discord bot
 		applicationContext.getBean(BotService.class).startUp();
 
-		//Create all notifications
-		applicationContext.getBean(EventNotificationService.class).rebuildAllNotifications();
+		//Start sending queued direct messages
+		applicationContext.getBean(DirectMessageDispatcher.class).startUp();
+
+		//Start sending event notifications
+		applicationContext.getBean(EventNotificationService.class).startUp();
 	}
 }
\ No newline at end of file
@@ -1,11 +1,10 @@
 package de.webalf.slotbot.assembler.website;
 
-import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.dtos.CalendarEventSummary;
 import de.webalf.slotbot.model.dtos.website.CalendarEventDto;
 import lombok.experimental.UtilityClass;
 
 import java.util.List;
-import java.util.stream.StreamSupport;
 
 /**
  * @author Alf
@@ -13,18 +12,18 @@ import java.util.stream.StreamSupport;
  */
 @UtilityClass
 public final class CalendarEventAssembler {
-	private static CalendarEventDto toDto(Event event) {
+	private static CalendarEventDto toDto(CalendarEventSummary summary) {
 		return CalendarEventDto.builder()
-				.id(event.getId())
-				.title(event.getName())
-				.start(event.getDateTime())
-				.color(event.getEventType().getColor())
-				.shortInformation(ShortEventInformationAssembler.toDto(event))
+				.id(summary.id())
+				.title(summary.name())
+				.start(summary.dateTime())
+				.color(summary.color())
+				.shortInformation(ShortEventInformationAssembler.toDto(summary))
 				.build();
 	}
 
-	public static List<CalendarEventDto> toDtoList(Iterable<? extends Event> content) {
-		return StreamSupport.stream(content.spliterator(), false)
+	public static List<CalendarEventDto> toDtoList(List<CalendarEventSummary> summaries) {
+		return summaries.stream()
 				.map(CalendarEventAssembler::toDto)
 				.toList();
 	}
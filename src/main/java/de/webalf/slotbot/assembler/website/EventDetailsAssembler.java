@@ -4,6 +4,7 @@ import de.webalf.slotbot.assembler.EventTypeAssembler;
 import de.webalf.slotbot.assembler.GuildAssembler;
 import de.webalf.slotbot.assembler.referenceless.EventFieldReferencelessAssembler;
 import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.Slot;
 import de.webalf.slotbot.model.Squad;
 import de.webalf.slotbot.model.User;
@@ -11,20 +12,20 @@ import de.webalf.slotbot.model.dtos.website.EventDetailsDto;
 import de.webalf.slotbot.model.dtos.website.EventDetailsSlotDto;
 import de.webalf.slotbot.model.dtos.website.EventDetailsSquadDto;
 import de.webalf.slotbot.service.UserService;
-import de.webalf.slotbot.service.external.DiscordApiService;
+import de.webalf.slotbot.service.external.DiscordMemberService;
 import de.webalf.slotbot.util.DateUtils;
 import de.webalf.slotbot.util.DiscordMarkdown;
-import de.webalf.slotbot.util.LongUtils;
 import de.webalf.slotbot.util.permissions.PermissionHelper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.StreamSupport;
 
-import static de.webalf.slotbot.util.permissions.PermissionHelper.isLoggedInUser;
-
 /**
  * @author Alf
  * @since 30.10.2020
@@ -32,11 +33,12 @@ import static de.webalf.slotbot.util.permissions.PermissionHelper.isLoggedInUser
 @Component
 @RequiredArgsConstructor
 public class EventDetailsAssembler {
-	private final DiscordApiService discordApiService;
+	private final DiscordMemberService discordMemberService;
 	private final EventFieldReferencelessAssembler eventFieldReferencelessAssembler;
 	private final UserService userService;
 
 	public EventDetailsDto toDto(@NonNull Event event) {
+		final DetailsContext context = buildContext(event);
 		return EventDetailsDto.builder()
 				.id(event.getId())
 				.hidden(event.isHidden())
@@ -48,19 +50,51 @@ public class EventDetailsAssembler {
 				.missionLength(event.getMissionLength())
 				.descriptionAsHtml(DiscordMarkdown.toHtml(event.getDescription()))
 				.creator(event.getCreator())
-				.squadList(toEventDetailsDtoList(event.getSquadList()))
+				.squadList(toEventDetailsDtoList(event.getSquadList(), context))
 				.details(eventFieldReferencelessAssembler.toDtoList(event))
 				.build();
 	}
 
-	private List<EventDetailsSquadDto> toEventDetailsDtoList(@NonNull Iterable<? extends Squad> squadList) {
+	/**
+	 * Everything about the logged-in user and the slotted users that is needed to build the slots of one event.
+	 * Resolved once per {@link #toDto(Event)} call, which may happen outside a web request.
+	 *
+	 * @param loggedInUser       logged-in user if slotting is possible for them, otherwise null
+	 * @param loggedInUserGuilds guilds of the logged-in user
+	 * @param loggedInUserId     id of the logged-in user or null if no one is logged in
+	 * @param names              display names of the slotted users
+	 */
+	private record DetailsContext(User loggedInUser, Set<Guild> loggedInUserGuilds, Long loggedInUserId,
+								  Map<Long, String> names) {}
+
+	private DetailsContext buildContext(@NonNull Event event) {
+		final List<Long> slottedUserIds = event.getSquadList().stream()
+				.flatMap(squad -> squad.getSlotList().stream())
+				.map(Slot::getUser)
+				.filter(user -> user != null && !user.isDefaultUser())
+				.map(User::getId)
+				.toList();
+		final Map<Long, String> names = slottedUserIds.isEmpty() ? Collections.emptyMap() : discordMemberService.getNames(slottedUserIds, event.getOwnerGuild().getId());
+
+		if (PermissionHelper.getLoggedIn() == null) {
+			return new DetailsContext(null, Collections.emptySet(), null, names);
+		}
+		final long loggedInUserId = Long.parseLong(PermissionHelper.getLoggedInUserId());
+		if (!DateUtils.isInFuture(event.getDateTime())) {
+			return new DetailsContext(null, Collections.emptySet(), loggedInUserId, names);
+		}
+		final User loggedInUser = userService.getLoggedIn();
+		return new DetailsContext(loggedInUser, loggedInUser.getGuilds(), loggedInUserId, names);
+	}
+
+	private List<EventDetailsSquadDto> toEventDetailsDtoList(@NonNull Iterable<? extends Squad> squadList, @NonNull DetailsContext context) {
 		return StreamSupport.stream(squadList.spliterator(), false)
-				.map(this::toEventDetailsDto)
+				.map(squad -> toEventDetailsDto(squad, context))
 				.toList();
 	}
 
-	private EventDetailsSquadDto toEventDetailsDto(@NonNull Squad squad) {
-		final List<EventDetailsSlotDto> slotList = toEventDetailsSlotDtoList(squad.getSlotList());
+	private EventDetailsSquadDto toEventDetailsDto(@NonNull Squad squad, @NonNull DetailsContext context) {
+		final List<EventDetailsSlotDto> slotList = toEventDetailsSlotDtoList(squad.getSlotList(), context);
 		return EventDetailsSquadDto.builder()
 				.id(squad.getId())
 				.name(squad.getName())
@@ -70,13 +104,13 @@ public class EventDetailsAssembler {
 				.build();
 	}
 
-	private List<EventDetailsSlotDto> toEventDetailsSlotDtoList(@NonNull Iterable<? extends Slot> slotList) {
+	private List<EventDetailsSlotDto> toEventDetailsSlotDtoList(@NonNull Iterable<? extends Slot> slotList, @NonNull DetailsContext context) {
 		return StreamSupport.stream(slotList.spliterator(), false)
-				.map(this::toEventDetailsSlotDto)
+				.map(slot -> toEventDetailsSlotDto(slot, context))
 				.toList();
 	}
 
-	private EventDetailsSlotDto toEventDetailsSlotDto(@NonNull Slot slot) {
+	private EventDetailsSlotDto toEventDetailsSlotDto(@NonNull Slot slot, @NonNull DetailsContext context) {
 		final User user = slot.getUser();
 		String text = null;
 		boolean occupied = false;
@@ -86,7 +120,7 @@ public class EventDetailsAssembler {
 				text = slot.getReplacementTextOrDefault();
 				blocked = true;
 			} else {
-				text = discordApiService.getName(LongUtils.toString(user.getId()), slot.getSquad().getEvent().getOwnerGuild().getId());
+				text = context.names().get(user.getId());
 				occupied = true;
 			}
 		}
@@ -99,8 +133,8 @@ public class EventDetailsAssembler {
 				.text(text)
 				.occupied(occupied)
 				.blocked(blocked)
-				.own(user != null && isLoggedInUser(user.getId()))
-				.slottable(PermissionHelper.getLoggedIn() == null || !DateUtils.isInFuture(slot.getEvent().getDateTime()) ? null : slot.slotIsPossible(userService.getLoggedIn()))
+				.own(user != null && context.loggedInUserId() != null && user.getId() == context.loggedInUserId())
+				.slottable(context.loggedInUser() == null ? null : slot.slotIsPossible(context.loggedInUser(), context.loggedInUserGuilds()))
 				.build();
 	}
 }
@@ -4,11 +4,15 @@ import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.GuildUser;
 import de.webalf.slotbot.model.dtos.website.UserInGuildDto;
 import de.webalf.slotbot.model.external.discord.DiscordGuildMember;
-import de.webalf.slotbot.service.external.DiscordBotService;
+import de.webalf.slotbot.service.external.DiscordMemberService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Alf
  * @since 18.01.2023
@@ -16,10 +20,18 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class UserInGuildAssembler {
-	private final DiscordBotService discordBotService;
+	private final DiscordMemberService discordMemberService;
+
+	/**
+	 * Resolves the members of the whole page at once
+	 */
+	public Page<UserInGuildDto> toDtoPage(@NonNull Page<GuildUser> guildUsers, @NonNull Guild guild) {
+		final List<Long> userIds = guildUsers.stream().map(guildUser -> guildUser.getId().getUserId()).toList();
+		final Map<Long, DiscordGuildMember> members = discordMemberService.getMembers(userIds, guild.getId());
+		return guildUsers.map(guildUser -> toDto(guildUser, members.get(guildUser.getId().getUserId())));
+	}
 
-	public UserInGuildDto toDto(@NonNull GuildUser guildUser, @NonNull Guild guild) {
-		final DiscordGuildMember member = discordBotService.getGuildMember(guildUser.getId().getUserId(), guild.getId());
+	private static UserInGuildDto toDto(@NonNull GuildUser guildUser, DiscordGuildMember member) {
 		if (member == null) return null;
 
 		return UserInGuildDto.builder()
@@ -0,0 +1,38 @@
+package de.webalf.slotbot.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.webalf.slotbot.configuration.properties.CacheProperties;
+import de.webalf.slotbot.configuration.properties.CacheProperties.CacheSpec;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounds every cache region in size and age as specified by {@link CacheProperties}
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CacheConfig {
+	private final CacheProperties cacheProperties;
+
+	@Bean
+	public CacheManager cacheManager() {
+		final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setCaffeine(buildCaffeine(cacheProperties.getDefaults()));
+		cacheProperties.getRegions().forEach((name, spec) -> cacheManager.registerCustomCache(name, buildCaffeine(spec).build()));
+		return cacheManager;
+	}
+
+	private static Caffeine<Object, Object> buildCaffeine(@NonNull CacheSpec spec) {
+		return Caffeine.newBuilder()
+				.maximumSize(spec.getMaximumSize())
+				.expireAfterWrite(spec.getExpireAfterWrite())
+				.recordStats();
+	}
+}
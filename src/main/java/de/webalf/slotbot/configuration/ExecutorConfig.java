@@ -0,0 +1,76 @@
+package de.webalf.slotbot.configuration;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Executors for background work that must not share the pool of {@link org.springframework.scheduling.annotation.Async}
+ * methods. Spring shuts them down with the application context.
+ *
+ * @author Alf
+ * @since 18.10.2026
+ */
+@Configuration
+public class ExecutorConfig {
+	public static final String EVENT_COMMAND_EXECUTOR = "eventCommandExecutor";
+	public static final String DIRECT_MESSAGE_SCHEDULER = "directMessageScheduler";
+	public static final String COMMAND_REGISTRATION_EXECUTOR = "commandRegistrationExecutor";
+
+	private static final int EVENT_COMMAND_THREADS = 4;
+	private static final int COMMAND_REGISTRATION_THREADS = 2;
+	private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+	/**
+	 * Spring Boot only creates the executor for async methods if no other executor exists. It is therefore declared
+	 * here the same way the auto-configuration would
+	 */
+	@Lazy
+	@Primary
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	/**
+	 * Workers of the {@link de.webalf.slotbot.service.EventCommandQueue}
+	 */
+	@Bean(EVENT_COMMAND_EXECUTOR)
+	public ThreadPoolTaskExecutor eventCommandExecutor() {
+		return buildFixedExecutor(EVENT_COMMAND_THREADS, "event-command-");
+	}
+
+	/**
+	 * Registers the application commands of the {@link de.webalf.slotbot.service.bot.CommandsService} in the guilds
+	 */
+	@Bean(COMMAND_REGISTRATION_EXECUTOR)
+	public ThreadPoolTaskExecutor commandRegistrationExecutor() {
+		return buildFixedExecutor(COMMAND_REGISTRATION_THREADS, "command-registration-");
+	}
+
+	/**
+	 * Paces the {@link de.webalf.slotbot.util.bot.DirectMessageDispatcher}
+	 */
+	@Bean(DIRECT_MESSAGE_SCHEDULER)
+	public ThreadPoolTaskScheduler directMessageScheduler() {
+		final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("direct-message-");
+		return scheduler;
+	}
+
+	private static ThreadPoolTaskExecutor buildFixedExecutor(int threads, String threadNamePrefix) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+		return executor;
+	}
+}
@@ -0,0 +1,32 @@
+package de.webalf.slotbot.configuration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * @author Alf
+ * @since 18.10.2026
+ */
+@Configuration
+public class JpaConfig {
+	/**
+	 * Spring Boot doesn't offer a property for the dialect. The transaction manager takes it from the entity manager
+	 * factory, so it is set there before the factory is initialized
+	 *
+	 * @see SavepointHibernateJpaDialect
+	 */
+	@Bean
+	static BeanPostProcessor savepointJpaDialectPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean) {
+					entityManagerFactoryBean.setJpaDialect(new SavepointHibernateJpaDialect());
+				}
+				return bean;
+			}
+		};
+	}
+}
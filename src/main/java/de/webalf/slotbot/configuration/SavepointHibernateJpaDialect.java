@@ -0,0 +1,86 @@
+package de.webalf.slotbot.configuration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * Adds JDBC savepoints to the {@link HibernateJpaDialect}, so that transactions with
+ * {@link TransactionDefinition#PROPAGATION_NESTED} can be rolled back without rolling back the surrounding
+ * transaction. The pending changes are flushed before a savepoint is created. Rolling back to a savepoint clears the
+ * session, because the loaded entities may contain changes that have been rolled back.
+ *
+ * @author Alf
+ * @since 18.10.2026
+ */
+@Slf4j
+final class SavepointHibernateJpaDialect extends HibernateJpaDialect {
+	private final class SavepointTransactionData implements SavepointManager {
+		private final Object transactionData;
+		private final Session session;
+
+		private SavepointTransactionData(Object transactionData, Session session) {
+			this.transactionData = transactionData;
+			this.session = session;
+		}
+
+		@Override
+		public Object createSavepoint() throws TransactionException {
+			try {
+				session.flush();
+			} catch (RuntimeException e) {
+				final DataAccessException translated = translateExceptionIfPossible(e);
+				throw translated != null ? translated : e;
+			}
+			try {
+				return session.doReturningWork(Connection::setSavepoint);
+			} catch (HibernateException e) {
+				throw new CannotCreateTransactionException("Could not create JDBC savepoint", e);
+			}
+		}
+
+		@Override
+		public void rollbackToSavepoint(Object savepoint) throws TransactionException {
+			try {
+				session.doWork(connection -> connection.rollback((Savepoint) savepoint));
+			} catch (HibernateException e) {
+				throw new TransactionSystemException("Could not roll back to JDBC savepoint", e);
+			}
+			session.clear();
+		}
+
+		@Override
+		public void releaseSavepoint(Object savepoint) throws TransactionException {
+			try {
+				session.doWork(connection -> connection.releaseSavepoint((Savepoint) savepoint));
+			} catch (HibernateException e) {
+				//Savepoints are released with the transaction anyway
+				log.debug("Could not release JDBC savepoint", e);
+			}
+		}
+	}
+
+	@Override
+	public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws PersistenceException, SQLException, TransactionException {
+		return new SavepointTransactionData(super.beginTransaction(entityManager, definition), entityManager.unwrap(Session.class));
+	}
+
+	@Override
+	public void cleanupTransaction(Object transactionData) {
+		super.cleanupTransaction(transactionData instanceof final SavepointTransactionData savepointTransactionData ?
+				savepointTransactionData.transactionData : transactionData);
+	}
+}
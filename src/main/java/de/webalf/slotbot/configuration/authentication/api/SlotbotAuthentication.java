@@ -20,6 +20,10 @@ import java.util.Collection;
 public class SlotbotAuthentication implements Authentication {
 	private String credentials;
 	private Collection<? extends GrantedAuthority> authorities;
+	/**
+	 * Owning guild of the token
+	 */
+	private long guildId;
 
 	public SlotbotAuthentication(String token) {
 		credentials = token;
@@ -1,15 +1,35 @@
 package de.webalf.slotbot.configuration.authentication.api;
 
+import de.webalf.slotbot.constant.CacheNames;
 import de.webalf.slotbot.exception.ForbiddenException;
 import de.webalf.slotbot.model.authentication.ApiToken;
+import de.webalf.slotbot.model.event.ApiTokenUpdateEvent;
 import de.webalf.slotbot.repository.ApiTokenRepository;
+import jakarta.validation.constraints.NotBlank;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+import static de.webalf.slotbot.constant.AuthorizationCheckValues.GUILD;
+import static de.webalf.slotbot.constant.AuthorizationCheckValues.ROLE_PREFIX;
+import static de.webalf.slotbot.constant.CacheNames.API_TOKENS;
+import static de.webalf.slotbot.constant.CacheNames.UNKNOWN_API_TOKENS;
+import static de.webalf.slotbot.util.permissions.PermissionHelper.buildGuildAuthenticationWithPrefix;
 
 /**
+ * Resolves api tokens to their granted authorities. Known tokens are cached in {@link CacheNames#API_TOKENS}, unknown
+ * tokens in {@link CacheNames#UNKNOWN_API_TOKENS} to prevent a database lookup on every request.
+ *
  * @author Alf
  * @since 23.09.2020
  */
@@ -18,6 +38,15 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class TokenAuthProvider implements AuthenticationProvider {
 	private final ApiTokenRepository apiTokenRepository;
+	private final CacheManager cacheManager;
+
+	/**
+	 * Authorities granted by an api token
+	 *
+	 * @param guildId     owning guild of the token
+	 * @param authorities granted to requests with the token
+	 */
+	record ResolvedApiToken(long guildId, Set<GrantedAuthority> authorities) {}
 
 	@Override
 	public Authentication authenticate(Authentication auth) {
@@ -29,11 +58,52 @@ public class TokenAuthProvider implements AuthenticationProvider {
 		return (SlotbotAuthentication.class.isAssignableFrom(arg0));
 	}
 
-	ApiToken getApiToken(String token) throws ForbiddenException {
-		return apiTokenRepository.findById(token)
-				.orElseThrow(() -> {
-					log.warn("Received request with invalid token {}", token);
-					return new ForbiddenException("Invalid token '" + token + "'");
-				});
+	/**
+	 * Returns the authorities of the given token
+	 *
+	 * @param token to resolve
+	 * @return resolved token
+	 * @throws ForbiddenException if the token is unknown
+	 */
+	ResolvedApiToken resolve(@NotBlank String token) throws ForbiddenException {
+		final Cache tokens = getCache(API_TOKENS);
+		final ResolvedApiToken cached = tokens.get(token, ResolvedApiToken.class);
+		if (cached != null) {
+			return cached;
+		}
+		final Cache unknownTokens = getCache(UNKNOWN_API_TOKENS);
+		if (unknownTokens.get(token) == null) {
+			final ApiToken apiToken = apiTokenRepository.findById(token).orElse(null);
+			if (apiToken != null) {
+				final ResolvedApiToken resolvedApiToken = new ResolvedApiToken(apiToken.getGuild().getId(), mapAuthorities(apiToken));
+				tokens.put(token, resolvedApiToken);
+				return resolvedApiToken;
+			}
+			unknownTokens.put(token, Boolean.TRUE);
+		}
+		log.warn("Received request with invalid token");
+		throw new ForbiddenException("Invalid token");
+	}
+
+	private static Set<GrantedAuthority> mapAuthorities(@NonNull ApiToken apiToken) {
+		final String tokenTypeName = apiToken.getType().name();
+		return Set.of(new SimpleGrantedAuthority(ROLE_PREFIX + tokenTypeName),
+				new SimpleGrantedAuthority(buildGuildAuthenticationWithPrefix(tokenTypeName, apiToken.getGuild())),
+				new SimpleGrantedAuthority(buildGuildAuthenticationWithPrefix(GUILD, apiToken.getGuild())));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onApiTokenUpdate(@NonNull ApiTokenUpdateEvent event) {
+		log.trace("Invalidate cached api token");
+		getCache(API_TOKENS).evict(event.token());
+		getCache(UNKNOWN_API_TOKENS).evict(event.token());
+	}
+
+	private Cache getCache(String cacheName) {
+		final Cache cache = cacheManager.getCache(cacheName);
+		if (cache == null) {
+			throw new IllegalStateException("Cache " + cacheName + " isn't configured");
+		}
+		return cache;
 	}
-}
\ No newline at end of file
+}
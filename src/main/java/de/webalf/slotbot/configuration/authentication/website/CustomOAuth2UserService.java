@@ -1,6 +1,7 @@
 package de.webalf.slotbot.configuration.authentication.website;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.webalf.slotbot.model.authentication.SlotbotOAuth2User;
 import de.webalf.slotbot.model.external.discord.DiscordOauthUser;
 import de.webalf.slotbot.service.GuildUsersService;
 import de.webalf.slotbot.service.UserService;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
 
@@ -42,7 +42,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 		//Create user if not existing
 		userService.find(discordUser.getId());
 		final Collection<? extends GrantedAuthority> mappedAuthorities = mapAuthorities(attributes, discordUser, oAuth2User.getAuthorities());
-		oAuth2User = new DefaultOAuth2User(mappedAuthorities, attributes, "username");
+		oAuth2User = new SlotbotOAuth2User(mappedAuthorities, attributes, "username");
 
 		return oAuth2User;
 	}
@@ -1,7 +1,6 @@
 package de.webalf.slotbot.configuration.authentication.website;
 
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 import org.springframework.stereotype.Component;
@@ -13,8 +12,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class SessionRegistrator {
 	@Bean
-	SessionRegistry sessionRegistry() {
-		return new SessionRegistryImpl();
+	UserSessionRegistry sessionRegistry() {
+		return new UserSessionRegistry();
 	}
 
 	/**
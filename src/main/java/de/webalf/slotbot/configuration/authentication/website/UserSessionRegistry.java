@@ -0,0 +1,100 @@
+package de.webalf.slotbot.configuration.authentication.website;
+
+import de.webalf.slotbot.model.enums.DiscordUserObjectFields;
+import lombok.NonNull;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.webalf.slotbot.util.DiscordOAuthUtils.getAttribute;
+
+/**
+ * {@link SessionRegistryImpl} that additionally indexes the session ids by discord user id. This allows to find the
+ * sessions of a user without walking the sessions of every principal.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public class UserSessionRegistry extends SessionRegistryImpl {
+	private final Map<Long, Set<String>> sessionIdsByUser = new ConcurrentHashMap<>();
+
+	@Override
+	public void registerNewSession(String sessionId, Object principal) {
+		super.registerNewSession(sessionId, principal);
+		final Long userId = getUserId(principal);
+		if (userId != null) {
+			sessionIdsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+		}
+	}
+
+	@Override
+	public void removeSessionInformation(String sessionId) {
+		final SessionInformation sessionInformation = getSessionInformation(sessionId);
+		super.removeSessionInformation(sessionId);
+		if (sessionInformation == null) {
+			return;
+		}
+		final Long userId = getUserId(sessionInformation.getPrincipal());
+		if (userId != null) {
+			sessionIdsByUser.computeIfPresent(userId, (id, sessionIds) -> {
+				sessionIds.remove(sessionId);
+				return sessionIds.isEmpty() ? null : sessionIds;
+			});
+		}
+	}
+
+	/**
+	 * Returns all sessions of the given user, including expired ones
+	 *
+	 * @param userId discord user id
+	 * @return sessions of the user
+	 */
+	public List<SessionInformation> getSessionsOfUser(long userId) {
+		final Set<String> sessionIds = sessionIdsByUser.get(userId);
+		if (sessionIds == null) {
+			return Collections.emptyList();
+		}
+		final List<SessionInformation> sessions = new ArrayList<>(sessionIds.size());
+		for (String sessionId : sessionIds) {
+			final SessionInformation sessionInformation = getSessionInformation(sessionId);
+			if (sessionInformation != null) {
+				sessions.add(sessionInformation);
+			}
+		}
+		return sessions;
+	}
+
+	/**
+	 * Expires all sessions of the given users
+	 *
+	 * @param userIds discord user ids
+	 * @return number of expired sessions
+	 */
+	public int expireSessionsOfUsers(@NonNull Collection<Long> userIds) {
+		int expired = 0;
+		for (Long userId : userIds) {
+			for (SessionInformation sessionInformation : getSessionsOfUser(userId)) {
+				sessionInformation.expireNow();
+				expired++;
+			}
+		}
+		return expired;
+	}
+
+	private static Long getUserId(Object principal) {
+		if (principal instanceof final OAuth2User user) {
+			final String id = getAttribute(user, DiscordUserObjectFields.ID);
+			if (id != null) {
+				try {
+					return Long.parseLong(id);
+				} catch (NumberFormatException ignored) {
+					//Not a discord user
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,41 @@
+package de.webalf.slotbot.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limits of the caches used with {@link org.springframework.cache.annotation.Cacheable}
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@ConfigurationProperties("slotbot.cache")
+@Data
+public class CacheProperties {
+	/**
+	 * Used for every region without its own specification
+	 */
+	@NotNull
+	private CacheSpec defaults = new CacheSpec();
+
+	/**
+	 * Specification by cache name
+	 */
+	@NotNull
+	private Map<String, CacheSpec> regions = new HashMap<>();
+
+	@Data
+	public static class CacheSpec {
+		@Positive
+		private long maximumSize = 1_000;
+
+		@NotNull
+		private Duration expireAfterWrite = Duration.ofHours(1);
+	}
+}
@@ -1,6 +1,7 @@
 package de.webalf.slotbot.configuration.properties;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -15,4 +16,34 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class DiscordProperties {
 	@NotBlank
 	private String token;
+
+	/**
+	 * Base url of the discord rest api
+	 */
+	@NotBlank
+	private String apiUrl = "https://discord.com/api/v10";
+
+	/**
+	 * Number of gateway connections the guilds are distributed on. -1 uses the number recommended by discord
+	 */
+	private int shardsTotal = 1;
+
+	/**
+	 * Members of the guilds that are kept in memory by the bot
+	 */
+	@NotNull
+	private MemberCache memberCache = MemberCache.RELEVANT;
+
+	public enum MemberCache {
+		/**
+		 * Every member of every guild is downloaded on startup
+		 */
+		ALL,
+		/**
+		 * Only members that are known to the application are cached. All other members are loaded on demand
+		 *
+		 * @see de.webalf.slotbot.service.bot.RelevantMemberCachePolicy
+		 */
+		RELEVANT
+	}
 }
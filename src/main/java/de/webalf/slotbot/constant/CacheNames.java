@@ -0,0 +1,21 @@
+package de.webalf.slotbot.constant;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Names of the cache regions managed by {@link de.webalf.slotbot.configuration.CacheConfig}
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class CacheNames {
+	public static final String DISCORD_NICKNAMES = "discordNicknames";
+	public static final String DISCORD_USER = "discordUser";
+	public static final String GUILD_MEMBER = "guildMember";
+	public static final String FILE_LOADER = "fileLoader";
+	public static final String USER_CONTENT_LOADER = "userContentLoader";
+	public static final String API_TOKENS = "apiTokens";
+	public static final String UNKNOWN_API_TOKENS = "unknownApiTokens";
+	public static final String CALENDAR_EVENTS = "calendarEvents";
+}
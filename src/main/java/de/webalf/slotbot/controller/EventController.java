@@ -12,6 +12,7 @@ import de.webalf.slotbot.model.dtos.website.EventDetailsDto;
 import de.webalf.slotbot.model.dtos.website.event.creation.EventPostDto;
 import de.webalf.slotbot.model.dtos.website.event.edit.EventEditDto;
 import de.webalf.slotbot.model.dtos.website.event.edit.EventUpdateDto;
+import de.webalf.slotbot.service.EventCommandQueue;
 import de.webalf.slotbot.service.EventDetailsDefaultService;
 import de.webalf.slotbot.service.EventService;
 import jakarta.validation.Valid;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static de.webalf.slotbot.util.permissions.ApplicationRole.HAS_POTENTIALLY_ROLE_EVENT_MANAGE;
 import static de.webalf.slotbot.util.permissions.ApplicationRole.HAS_ROLE_EVERYONE;
@@ -40,11 +42,12 @@ public class EventController {
 	private final EventService eventService;
 	private final EventDetailsAssembler eventDetailsAssembler;
 	private final EventDetailsDefaultService eventDetailsDefaultService;
+	private final EventCommandQueue eventCommandQueue;
 
 	@GetMapping(value = "/list")
 	public List<CalendarEventDto> getBetween(@RequestParam LocalDateTime start,
 	                                         @RequestParam LocalDateTime end) {
-		return CalendarEventAssembler.toDtoList(eventService.findAllBetween(start, end));
+		return CalendarEventAssembler.toDtoList(eventService.findCalendarSummariesBetween(start, end));
 	}
 
 	@GetMapping("/{id}/details")
@@ -100,13 +103,13 @@ public class EventController {
 
 	@PutMapping("/slotting/{id}")
 	@PreAuthorize(HAS_ROLE_EVERYONE)
-	public EventDetailsDto putSlotting(@PathVariable(value = "id") long slotId) {
-		return eventDetailsAssembler.toDto(eventService.slot(slotId));
+	public CompletableFuture<EventDetailsDto> putSlotting(@PathVariable(value = "id") long slotId) {
+		return eventCommandQueue.submit(eventService.findIdBySlot(slotId), () -> eventService.slot(slotId).getId(), this::getEventDetails);
 	}
 
 	@PutMapping("/unslotting/{id}")
 	@PreAuthorize(HAS_ROLE_EVERYONE)
-	public EventDetailsDto putUnslotting(@PathVariable(value = "id") long slotId) {
-		return eventDetailsAssembler.toDto(eventService.unslot(slotId));
+	public CompletableFuture<EventDetailsDto> putUnslotting(@PathVariable(value = "id") long slotId) {
+		return eventCommandQueue.submit(eventService.findIdBySlot(slotId), () -> eventService.unslot(slotId).getId(), this::getEventDetails);
 	}
 }
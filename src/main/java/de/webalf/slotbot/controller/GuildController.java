@@ -79,8 +79,7 @@ public class GuildController {
 	@GetMapping("/{id}/users")
 	public FrontendPageable<UserInGuildDto> getGuildUsers(@PathVariable(value = "id") long guildId, Pageable pageRequest) {
 		final Guild guild = guildService.findExisting(guildId);
-		return FrontendPageable.of(guildUsersService.findGuildUsers(guild, pageRequest)
-				.map(user -> userInGuildAssembler.toDto(user, guild)));
+		return FrontendPageable.of(userInGuildAssembler.toDtoPage(guildUsersService.findGuildUsers(guild, pageRequest), guild));
 	}
 
 	@PutMapping(value = "/{id}/users/{userId}", consumes = TEXT_PLAIN_VALUE)
@@ -1,6 +1,5 @@
 package de.webalf.slotbot.controller.api;
 
-import de.webalf.slotbot.assembler.api.event.EventApiAssembler;
 import de.webalf.slotbot.exception.ExceptionResponse;
 import de.webalf.slotbot.model.annotations.springdoc.Resource;
 import de.webalf.slotbot.model.dtos.api.event.view.EventApiIdDto;
@@ -18,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import static de.webalf.slotbot.configuration.springdoc.OpenApiConfig.SECURITY_KEY_WRITE;
 import static de.webalf.slotbot.configuration.springdoc.TagNames.SLOTS;
 import static de.webalf.slotbot.constant.Urls.API;
@@ -81,16 +82,16 @@ public class SlottingApiController {
 									}))
 			})
 	@Resource
-	public EventApiIdDto postSlot(@PathVariable(value = "id") long eventId,
+	public CompletableFuture<EventApiIdDto> postSlot(@PathVariable(value = "id") long eventId,
 	                              @PathVariable(value = "slotNumber") int slotNumber,
 	                              @RequestBody(required = false) @Schema(format = "discord-snowflake", description = "Slot this user or, if empty, unslot this slot.") String userId) {
 		if (StringUtils.isNotEmpty(userId)) {
 			log.trace("postSlot: {} {} {}", eventId, slotNumber, userId);
-			return EventApiAssembler.toDto(eventApiService.slot(eventId, slotNumber, userId));
+			return eventApiService.slot(eventId, slotNumber, userId);
 		}
 
 		log.trace("postUnslot: {} {}", eventId, slotNumber);
-		return EventApiAssembler.toDto(eventApiService.unslot(eventId, slotNumber));
+		return eventApiService.unslot(eventId, slotNumber);
 	}
 
 	@PostMapping("/block")
@@ -118,10 +119,10 @@ public class SlottingApiController {
 									}))
 			})
 	@Resource("/block")
-	public EventApiIdDto postBlockSlot(@PathVariable(value = "id") long eventId,
-	                                   @PathVariable(value = "slotNumber") int slotNumber,
-	                                   @RequestBody(required = false) @Schema(maxLength = TEXT) String replacementText) {
+	public CompletableFuture<EventApiIdDto> postBlockSlot(@PathVariable(value = "id") long eventId,
+	                                                      @PathVariable(value = "slotNumber") int slotNumber,
+	                                                      @RequestBody(required = false) @Schema(maxLength = TEXT) String replacementText) {
 		log.trace("postBlockSlot: {} {} {}", eventId, slotNumber, replacementText);
-		return EventApiAssembler.toDto(eventApiService.blockSlot(eventId, slotNumber, replacementText));
+		return eventApiService.blockSlot(eventId, slotNumber, replacementText);
 	}
 }
@@ -1,5 +1,9 @@
 package de.webalf.slotbot.controller.api;
 
+import de.webalf.slotbot.model.dtos.CacheStatisticsDto;
+import de.webalf.slotbot.model.dtos.OptimisticLockStatisticsDto;
+import de.webalf.slotbot.service.CacheService;
+import de.webalf.slotbot.service.OptimisticLockRetryService;
 import de.webalf.slotbot.service.bot.EventNotificationService;
 import de.webalf.slotbot.service.bot.EventNotificationService.NotificationIdentifier;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -15,8 +19,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import static de.webalf.slotbot.configuration.springdoc.TagNames.STATUS;
 import static de.webalf.slotbot.constant.Urls.API;
@@ -32,6 +34,10 @@ import static de.webalf.slotbot.util.permissions.ApiPermissionHelper.HAS_ADMIN_P
 @RequiredArgsConstructor
 @Tag(name = STATUS, description = "Server Status")
 public class StatusApiController {
+	private final EventNotificationService eventNotificationService;
+	private final CacheService cacheService;
+	private final OptimisticLockRetryService optimisticLockRetryService;
+
 	@GetMapping
 	@Operation(summary = "Ping", description = "Check if the server is responsive.")
 	public ResponseEntity<Void> ping() {
@@ -43,10 +49,20 @@ public class StatusApiController {
 	@Hidden
 	@PreAuthorize(HAS_ADMIN_PERMISSION)
 	public Map<NotificationIdentifier, Long> getAllScheduledEventNotifications() {
-		return EventNotificationService.getSCHEDULED_NOTIFICATIONS()
-				.entrySet()
-				.stream()
-				.map(entry -> Map.entry(entry.getKey(), entry.getValue().getDelay(TimeUnit.MINUTES)))
-				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		return eventNotificationService.getScheduledNotifications();
+	}
+
+	@GetMapping("/caches")
+	@Hidden
+	@PreAuthorize(HAS_ADMIN_PERMISSION)
+	public Map<String, CacheStatisticsDto> getCacheStatistics() {
+		return cacheService.getStatistics();
+	}
+
+	@GetMapping("/optimisticLocking")
+	@Hidden
+	@PreAuthorize(HAS_ADMIN_PERMISSION)
+	public OptimisticLockStatisticsDto getOptimisticLockStatistics() {
+		return optimisticLockRetryService.getStatistics();
 	}
 }
@@ -5,8 +5,6 @@ import de.webalf.slotbot.converter.persistence.LocalDateTimePersistenceConverter
 import de.webalf.slotbot.exception.BusinessRuntimeException;
 import de.webalf.slotbot.model.event.EventArchiveEvent;
 import de.webalf.slotbot.service.GuildService;
-import de.webalf.slotbot.service.bot.EventNotificationService;
-import de.webalf.slotbot.util.EventUtils;
 import de.webalf.slotbot.util.StringUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -16,6 +14,10 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
@@ -33,6 +35,20 @@ import static de.webalf.slotbot.util.ConstraintConstants.*;
  */
 @Entity
 @Table(name = "event", uniqueConstraints = {@UniqueConstraint(columnNames = {"id"})})
+@NamedEntityGraph(name = Event.SUMMARY_GRAPH, attributeNodes = {
+		@NamedAttributeNode("ownerGuild"),
+		@NamedAttributeNode("eventType")})
+@NamedEntityGraph(name = Event.SLOT_LIST_GRAPH, attributeNodes = {
+		@NamedAttributeNode("ownerGuild"),
+		@NamedAttributeNode("eventType"),
+		@NamedAttributeNode(value = "squadList", subgraph = "squad")},
+		subgraphs = {
+				@NamedSubgraph(name = "squad", attributeNodes = {
+						@NamedAttributeNode("reservedFor"),
+						@NamedAttributeNode(value = "slotList", subgraph = "slot")}),
+				@NamedSubgraph(name = "slot", attributeNodes = {
+						@NamedAttributeNode("reservedFor"),
+						@NamedAttributeNode("user")})})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -85,11 +101,13 @@ public class Event extends AbstractSuperIdEntity {
 	private String pictureUrl;
 
 	@OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+	@Fetch(FetchMode.SUBSELECT)
 	@OrderColumn
 	@JsonManagedReference
 	private List<EventField> details;
 
 	@OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+	@Fetch(FetchMode.SUBSELECT)
 	@OrderColumn
 	@JsonManagedReference
 	private List<Squad> squadList;
@@ -98,6 +116,7 @@ public class Event extends AbstractSuperIdEntity {
 	private Boolean reserveParticipating;
 
 	@OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+	@Fetch(FetchMode.SUBSELECT)
 	@JsonManagedReference
 	private Set<EventDiscordInformation> discordInformation;
 
@@ -105,6 +124,46 @@ public class Event extends AbstractSuperIdEntity {
 	@JoinColumn(name = "event_owner_guild")
 	private Guild ownerGuild;
 
+	@OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OptimisticLock(excluded = true) //Derived from the event, see updateGuildVisibility()
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	@Builder.Default
+	private Set<EventGuildVisibility> guildVisibility = new HashSet<>();
+
+	/**
+	 * Revision of the calendar event. Incremented with every change of a value shown in calendars
+	 */
+	@Column(name = "event_calendar_sequence", nullable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private int calendarSequence;
+
+	@Version
+	@Column(name = "event_version", nullable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private long version;
+
+	/**
+	 * Lookup tables for {@link #squadList}. Built on first use, see {@link #getSlotIndex()}
+	 */
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private SlotIndex slotIndex;
+
+	/**
+	 * Fetch plan that only loads the event itself with its owner guild and event type. All collections are loaded lazily.
+	 * Use for lists that only need the name and date of an event.
+	 */
+	public static final String SUMMARY_GRAPH = "Event.summary";
+	/**
+	 * Fetch plan that loads the squads and slots (with user and reservations) in the same query.
+	 * Details and discord information are loaded lazily. Use for slot counts and participant lookups.
+	 */
+	public static final String SLOT_LIST_GRAPH = "Event.slotList";
+
 	// Getter
 
 	/**
@@ -138,13 +197,7 @@ public class Event extends AbstractSuperIdEntity {
 	 * @return the slot or an empty Optional if slot with given number doesn't exist
 	 */
 	public Optional<Slot> findSlot(int slotNumber) {
-		for (Squad squad : getSquadList()) {
-			Optional<Slot> slotOptional = squad.findSlot(slotNumber);
-			if (slotOptional.isPresent()) {
-				return slotOptional;
-			}
-		}
-		return Optional.empty();
+		return Optional.ofNullable(getSlotIndex().findSlot(slotNumber));
 	}
 
 	/**
@@ -154,22 +207,57 @@ public class Event extends AbstractSuperIdEntity {
 	 * @return the slot or an empty Optional if slot with given user doesn't exist
 	 */
 	public Optional<Slot> findSlotOfUser(User user) {
-		for (Squad squad : getSquadList()) {
-			Optional<Slot> slotOptional = squad.findSlotOfUser(user);
-			if (slotOptional.isPresent()) {
-				return slotOptional;
-			}
+		if (user == null) {
+			return Optional.empty();
 		}
-		return Optional.empty();
+		return Optional.ofNullable(getSlotIndex().findSlotOfUser(user));
 	}
 
 	private Optional<Squad> findSquadByName(String name) {
-		for (Squad squad : getSquadList()) {
-			if (squad.getName().equalsIgnoreCase(name)) {
-				return Optional.of(squad);
-			}
+		return Optional.ofNullable(getSlotIndex().findSquadByName(name));
+	}
+
+	/**
+	 * Returns the lookup tables for the current squad list and builds them if needed
+	 *
+	 * @return slot index of this event
+	 */
+	private SlotIndex getSlotIndex() {
+		if (slotIndex == null) {
+			slotIndex = new SlotIndex(getSquadList());
+		}
+		return slotIndex;
+	}
+
+	/**
+	 * Discards the lookup tables. Must be called after the squad list or its slot lists have been changed from outside
+	 * the event, or a slot number or squad name has been changed
+	 */
+	void invalidateSlotIndex() {
+		slotIndex = null;
+	}
+
+	/**
+	 * Updates the lookup tables after the user of the given slot has changed
+	 *
+	 * @param slot         whose user changed
+	 * @param previousUser user the slot was occupied by before
+	 */
+	void slotUserChanged(@NonNull Slot slot, User previousUser) {
+		if (slotIndex != null && slotIndex.contains(slot)) {
+			slotIndex.userChanged(slot, previousUser);
+		}
+	}
+
+	/**
+	 * Removes a deleted slot from the lookup tables
+	 *
+	 * @param slot that has been removed
+	 */
+	void slotRemoved(@NonNull Slot slot) {
+		if (slotIndex != null) {
+			slotIndex.removeSlot(slot);
 		}
-		return Optional.empty();
 	}
 
 	/**
@@ -235,11 +323,9 @@ public class Event extends AbstractSuperIdEntity {
 	 * @return the first unused slot number, starting from 1
 	 */
 	public int findFirstUnusedSlotNumber() {
-		final Set<Integer> slotNumbers = squadList.stream()
-				.flatMap(squad -> squad.getSlotList().stream().map(Slot::getNumber))
-				.collect(Collectors.toUnmodifiableSet());
+		final SlotIndex index = getSlotIndex();
 		int slotNumber = 1;
-		while (slotNumbers.contains(slotNumber)) {
+		while (index.containsSlotNumber(slotNumber)) {
 			slotNumber++;
 		}
 		return slotNumber;
@@ -265,6 +351,34 @@ public class Event extends AbstractSuperIdEntity {
 				.filter(eventDiscordInformation -> eventDiscordInformation.getGuild().getId() == guildId).findAny();
 	}
 
+	/**
+	 * Collects the ids of all guilds this event is visible for. These are the owner guild, the guilds the event is
+	 * scheduled in and the guilds a squad or slot is reserved for
+	 *
+	 * @return ids of guilds that can see this event
+	 */
+	Set<Long> getVisibleGuildIds() {
+		final Set<Long> guildIds = new HashSet<>();
+		guildIds.add(getOwnerGuild().getId());
+		if (getDiscordInformation() != null) {
+			getDiscordInformation().forEach(information -> guildIds.add(information.getGuild().getId()));
+		}
+		if (getSquadList() == null) {
+			return guildIds;
+		}
+		for (Squad squad : getSquadList()) {
+			if (squad.getReservedFor() != null) {
+				guildIds.add(squad.getReservedFor().getId());
+			}
+			for (Slot slot : squad.getSlotList()) {
+				if (slot.getReservedFor() != null) {
+					guildIds.add(slot.getReservedFor().getId());
+				}
+			}
+		}
+		return guildIds;
+	}
+
 	public boolean canRevokeShareable() {
 		return getDiscordInformation().stream().allMatch(information -> information.getGuild().equals(getOwnerGuild()));
 	}
@@ -313,6 +427,25 @@ public class Event extends AbstractSuperIdEntity {
 
 	// Setter
 
+	public void setName(String name) {
+		if (!Objects.equals(this.name, name)) {
+			calendarSequence++;
+		}
+		this.name = name;
+	}
+
+	public void setDateTime(LocalDateTime dateTime) {
+		if (!Objects.equals(this.dateTime, dateTime)) {
+			calendarSequence++;
+		}
+		this.dateTime = dateTime;
+	}
+
+	public void setSquadList(List<Squad> squadList) {
+		this.squadList = squadList;
+		invalidateSlotIndex();
+	}
+
 	/**
 	 * Set parents in child objects
 	 */
@@ -331,6 +464,24 @@ public class Event extends AbstractSuperIdEntity {
 		if (getDiscordInformation() != null) {
 			getDiscordInformation().forEach(information -> information.setEvent(this));
 		}
+		invalidateSlotIndex();
+	}
+
+	/**
+	 * Synchronizes the {@link EventGuildVisibility} entries with the {@link #getVisibleGuildIds() visible guilds},
+	 * the hidden flag and the date of this event. Must be called after any of these changed
+	 */
+	public void updateGuildVisibility() {
+		final Set<Long> guildIds = getVisibleGuildIds();
+		//Keeps the entries of still visible guilds and leaves only the missing guilds in guildIds
+		guildVisibility.removeIf(visibility -> !guildIds.remove(visibility.getGuildId()));
+		guildVisibility.forEach(visibility -> visibility.update(isHidden(), getDateTime()));
+		guildIds.forEach(guildId -> guildVisibility.add(EventGuildVisibility.builder()
+				.event(this)
+				.guildId(guildId)
+				.hidden(isHidden())
+				.dateTime(getDateTime())
+				.build()));
 	}
 
 	public void removeReservedForDefaultGuild() {
@@ -349,6 +500,7 @@ public class Event extends AbstractSuperIdEntity {
 
 	void removeSquad(Squad squad) {
 		getSquadList().remove(squad);
+		invalidateSlotIndex();
 	}
 
 	public void unslotIfAlreadySlotted(User user) {
@@ -363,7 +515,12 @@ public class Event extends AbstractSuperIdEntity {
 		moveReservists();
 	}
 
+	/**
+	 * Validates the event and informs it about a slot update. The slot lists may have been changed from outside, so
+	 * the lookup tables are rebuilt
+	 */
 	public void slotUpdateWithValidation() {
+		invalidateSlotIndex();
 		validate();
 		slotUpdate();
 	}
@@ -374,15 +531,17 @@ public class Event extends AbstractSuperIdEntity {
 	private void moveReservists() {
 		findSquadByName(RESERVE_NAME).ifPresent(reserve -> {
 			if (!isFull()) {
-				//Fills empty slots with reservists
-				List<Slot> emptySlots = getSquadList().stream().flatMap(squad -> squad.getSlotList().stream().filter(Slot::isEmpty)).toList();
-				emptySlots.forEach(slot -> reserve.getSlotList().stream()
-						.filter(Slot::isNotEmpty).findFirst()
-						.ifPresent(reserveSlot -> {
-							User reserveSlotUser = reserveSlot.getUser();
-							reserveSlot.unslotWithoutUpdate(reserveSlotUser);
-							slot.slotWithoutUpdate(reserveSlotUser);
-						}));
+				//Fills empty slots with reservists in the order of the reserve
+				final Iterator<Slot> reservists = reserve.getSlotList().stream().filter(Slot::isNotEmpty).toList().iterator();
+				final Iterator<Slot> emptySlots = getSquadsExceptReserve().stream()
+						.flatMap(squad -> squad.getSlotList().stream().filter(Slot::isEmpty))
+						.iterator();
+				while (reservists.hasNext() && emptySlots.hasNext()) {
+					final Slot reserveSlot = reservists.next();
+					final User reserveSlotUser = reserveSlot.getUser();
+					reserveSlot.unslotWithoutUpdate(reserveSlotUser);
+					emptySlots.next().slotWithoutUpdate(reserveSlotUser);
+				}
 			}
 
 			List<Slot> reserveSlots = reserve.getSlotList();
@@ -431,13 +590,16 @@ public class Event extends AbstractSuperIdEntity {
 				.build();
 
 		//Add 25% Slots of slotCount to reserve. At least 1 Slot
-		List<Slot> reserveSlots = reserveSquad.getSlotList();
-		for (int i = 0; i < getDesiredReserveSize(); i++) {
+		final SlotIndex index = getSlotIndex();
+		final List<Slot> reserveSlots = reserveSquad.getSlotList();
+		final Set<Integer> reserveSlotNumbers = new HashSet<>();
+		final int desiredReserveSize = getDesiredReserveSize();
+		for (int i = 0; i < desiredReserveSize; i++) {
 			int slotNumber = 100 + i;
-			while (findSlot(slotNumber).isPresent()
-					|| EventUtils.slotNumberPresent(reserveSlots, slotNumber)) {
+			while (index.containsSlotNumber(slotNumber) || reserveSlotNumbers.contains(slotNumber)) {
 				slotNumber++;
 			}
+			reserveSlotNumbers.add(slotNumber);
 			reserveSlots.add(Slot.builder()
 					.number(slotNumber)
 					.name("Reserve " + (i + 1))
@@ -446,6 +608,7 @@ public class Event extends AbstractSuperIdEntity {
 		}
 
 		getSquadList().add(reserveSquad);
+		index.addSquad(reserveSquad);
 	}
 
 	/**
@@ -460,14 +623,17 @@ public class Event extends AbstractSuperIdEntity {
 				.toList();
 
 		//Reduce the reserve size so that all persons already slotted remain so
-		int newReserveSize = Math.max(getDesiredReserveSize(), reserveUsers.size());
-		List<Slot> newReserveSlots = new ArrayList<>();
+		final SlotIndex index = getSlotIndex();
+		final int newReserveSize = Math.max(getDesiredReserveSize(), reserveUsers.size());
+		final List<Slot> newReserveSlots = new ArrayList<>();
+		final Set<Integer> newReserveSlotNumbers = new HashSet<>();
 		for (int i = 0; i < newReserveSize; i++) {
 			int slotNumber = 100 + i;
-			while ((findSlot(slotNumber).isPresent() && !findSlot(slotNumber).get().isInReserve())
-					|| EventUtils.slotNumberPresent(newReserveSlots, slotNumber)) {
+			while ((index.containsSlotNumber(slotNumber) && !index.findSlot(slotNumber).isInReserve())
+					|| newReserveSlotNumbers.contains(slotNumber)) {
 				slotNumber++;
 			}
+			newReserveSlotNumbers.add(slotNumber);
 			Slot slot = Slot.builder()
 					.number(slotNumber)
 					.name("Reserve " + (i + 1))
@@ -478,7 +644,9 @@ public class Event extends AbstractSuperIdEntity {
 			}
 			newReserveSlots.add(slot);
 		}
+		oldSlotList.forEach(index::removeSlot);
 		oldSlotList.clear();
+		newReserveSlots.forEach(index::addSlot);
 		oldSlotList.addAll(newReserveSlots); //Here, slotList must not be reset (reserve.setSlotList(newReserveSlots);). Since the original list must be preserved (https://stackoverflow.com/questions/5587482/hibernate-a-collection-with-cascade-all-delete-orphan-was-no-longer-referenc).
 	}
 
@@ -516,17 +684,15 @@ public class Event extends AbstractSuperIdEntity {
 	}
 
 	/**
-	 * Archives the event for the given guild. This removes the discord information for the guild and
-	 * removes all notifications for the event, if the guild is the owner guild.
+	 * Archives the event for the given guild. This removes the discord information for the guild.
 	 * <p>
-	 * Don't forget to {@link EventArchiveEvent inform other systems} about the archiving process.
+	 * Don't forget to {@link EventArchiveEvent inform other systems} about the archiving process. This also removes
+	 * the notifications for the event, if the guild is the owner guild.
 	 *
 	 * @param guildId to archive event for
 	 */
 	public void archive(long guildId) {
 		getDiscordInformation().removeIf(information -> information.getGuild().getId() == guildId);
-		if (getOwnerGuild().getId() == guildId) {
-			EventNotificationService.removeNotifications(getId());
-		}
+		updateGuildVisibility();
 	}
 }
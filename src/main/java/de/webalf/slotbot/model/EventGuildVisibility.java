@@ -0,0 +1,50 @@
+package de.webalf.slotbot.model;
+
+import de.webalf.slotbot.converter.persistence.LocalDateTimePersistenceConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks an {@link Event} as visible for a guild. An event is visible for its owner guild, every guild it is scheduled in
+ * and every guild a squad or slot is reserved for. Hidden flag and date are copied from the event, so that the events
+ * of a guild can be found with one index range scan.
+ * Maintained by {@link Event#updateGuildVisibility()}.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Entity
+@Table(name = "event_guild_visibility", uniqueConstraints = {@UniqueConstraint(columnNames = {"id"}),
+		@UniqueConstraint(columnNames = {"event_id", "event_guild_visibility_guild"})},
+		indexes = {@Index(columnList = "event_guild_visibility_guild, event_guild_visibility_date")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+public class EventGuildVisibility extends AbstractSuperIdEntity {
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "event_id")
+	private Event event;
+
+	@Column(name = "event_guild_visibility_guild", nullable = false)
+	private long guildId;
+
+	@Column(name = "event_guild_visibility_hidden", nullable = false)
+	private boolean hidden;
+
+	@Column(name = "event_guild_visibility_date", nullable = false)
+	@Convert(converter = LocalDateTimePersistenceConverter.class)
+	private LocalDateTime dateTime;
+
+	/**
+	 * Copies the hidden flag and date of the event
+	 */
+	void update(boolean hidden, LocalDateTime dateTime) {
+		this.hidden = hidden;
+		this.dateTime = dateTime;
+	}
+}
@@ -0,0 +1,36 @@
+package de.webalf.slotbot.model;
+
+import de.webalf.slotbot.converter.persistence.LocalDateTimePersistenceConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending reminder for a participant of an event. Only ids are referenced, so that instances can be held in memory
+ * by the {@link NotificationTimeIndex} without being attached to a persistence context.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Entity
+@Table(name = "event_notification", uniqueConstraints = {@UniqueConstraint(columnNames = {"id"}),
+		@UniqueConstraint(columnNames = {"event_notification_event", "event_notification_user", "event_notification_time"})},
+		indexes = {@Index(columnList = "event_notification_time"), @Index(columnList = "event_notification_event"), @Index(columnList = "event_notification_user")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+public class EventNotification extends AbstractSuperIdEntity {
+	@Column(name = "event_notification_event", nullable = false)
+	private long eventId;
+
+	@Column(name = "event_notification_user", nullable = false)
+	private long userId;
+
+	@Column(name = "event_notification_time", nullable = false)
+	@Convert(converter = LocalDateTimePersistenceConverter.class)
+	private LocalDateTime notificationTime;
+}
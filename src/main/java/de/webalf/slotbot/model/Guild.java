@@ -67,6 +67,12 @@ public class Guild extends AbstractDiscordIdEntity {
 	@Column(name = "discord_guild_admin_role")
 	private Long adminRole;
 
+	/**
+	 * Fingerprint of the application commands last registered in this guild
+	 */
+	@Column(name = "discord_guild_commands_fingerprint", length = 64)
+	private String commandsFingerprint;
+
 	public static final long GUILD_PLACEHOLDER = -1L;
 
 	public String getBaseRedirectUrl() {
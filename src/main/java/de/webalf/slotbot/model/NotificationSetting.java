@@ -1,12 +1,10 @@
 package de.webalf.slotbot.model;
 
-import de.webalf.slotbot.util.DateUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 
 /**
  * @author Alf
@@ -35,16 +33,12 @@ public class NotificationSetting extends AbstractSuperIdEntity {
 	private Event event;
 
 	/**
-	 * Calculates the time in minutes from now to the notification time
+	 * Calculates the point in time at which the notification must be sent
 	 *
 	 * @param eventTime event start time
-	 * @return delay until notification must be sent
+	 * @return notification time
 	 */
-	public int getNotificationDelay(LocalDateTime eventTime) {
-		return (int) ChronoUnit.MINUTES.between(DateUtils.now(), getNotificationTime(eventTime));
-	}
-
-	private LocalDateTime getNotificationTime(@NonNull LocalDateTime eventTime) {
+	public LocalDateTime getNotificationTime(@NonNull LocalDateTime eventTime) {
 		return eventTime.minusHours(hoursBeforeEvent).minusMinutes(minutesBeforeEvent);
 	}
 }
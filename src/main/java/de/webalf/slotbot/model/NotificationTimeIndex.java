@@ -0,0 +1,101 @@
+package de.webalf.slotbot.model;
+
+import lombok.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * In-memory index of {@link EventNotification}s that are due soon. Notifications are ordered by their notification time
+ * and additionally indexed by event and user, so that polling and cancelling only touches the affected entries.
+ * <p>
+ * Adding a notification is idempotent, because the same notification may be loaded from the database more than once.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public class NotificationTimeIndex {
+	private final NavigableMap<LocalDateTime, Set<Long>> byTime = new TreeMap<>();
+	private final Map<Long, EventNotification> byId = new HashMap<>();
+	private final Map<Long, Set<Long>> byEvent = new HashMap<>();
+	private final Map<Long, Set<Long>> byUser = new HashMap<>();
+
+	public synchronized void add(@NonNull EventNotification notification) {
+		final long id = notification.getId();
+		if (byId.putIfAbsent(id, notification) != null) {
+			return;
+		}
+		byTime.computeIfAbsent(notification.getNotificationTime(), k -> new HashSet<>()).add(id);
+		byEvent.computeIfAbsent(notification.getEventId(), k -> new HashSet<>()).add(id);
+		byUser.computeIfAbsent(notification.getUserId(), k -> new HashSet<>()).add(id);
+	}
+
+	/**
+	 * Removes and returns all notifications with a notification time before or equal to the given time
+	 *
+	 * @param time upper bound (inclusive)
+	 * @return due notifications ordered by notification time
+	 */
+	public synchronized List<EventNotification> pollDue(@NonNull LocalDateTime time) {
+		final SortedMap<LocalDateTime, Set<Long>> due = byTime.headMap(time, true);
+		final List<EventNotification> notifications = new ArrayList<>();
+		due.values().forEach(ids -> ids.forEach(id -> notifications.add(byId.get(id))));
+		notifications.forEach(this::remove);
+		return notifications;
+	}
+
+	/**
+	 * Removes all notifications for the given event
+	 */
+	public synchronized void removeByEvent(long eventId) {
+		final Set<Long> ids = byEvent.get(eventId);
+		if (ids != null) {
+			List.copyOf(ids).forEach(id -> remove(byId.get(id)));
+		}
+	}
+
+	/**
+	 * Removes all notifications for the given event and user combination
+	 */
+	public synchronized void removeByEventAndUser(long eventId, long userId) {
+		final Set<Long> eventIds = byEvent.get(eventId);
+		final Set<Long> userIds = byUser.get(userId);
+		if (eventIds == null || userIds == null) {
+			return;
+		}
+		final boolean eventSmaller = eventIds.size() <= userIds.size();
+		final Set<Long> smaller = eventSmaller ? eventIds : userIds;
+		final Set<Long> larger = eventSmaller ? userIds : eventIds;
+		smaller.stream().filter(larger::contains).toList()
+				.forEach(id -> remove(byId.get(id)));
+	}
+
+	public synchronized void clear() {
+		byTime.clear();
+		byId.clear();
+		byEvent.clear();
+		byUser.clear();
+	}
+
+	public synchronized int size() {
+		return byId.size();
+	}
+
+	private void remove(EventNotification notification) {
+		final long id = notification.getId();
+		byId.remove(id);
+		removeFromIndex(byTime, notification.getNotificationTime(), id);
+		removeFromIndex(byEvent, notification.getEventId(), id);
+		removeFromIndex(byUser, notification.getUserId(), id);
+	}
+
+	private static <K> void removeFromIndex(Map<K, Set<Long>> index, K key, long id) {
+		final Set<Long> ids = index.get(key);
+		if (ids != null) {
+			ids.remove(id);
+			if (ids.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+}
@@ -10,6 +10,9 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Set;
 
 import static de.webalf.slotbot.util.ConstraintConstants.TEXT;
 import static de.webalf.slotbot.util.ConstraintConstants.TEXT_DB;
@@ -51,6 +54,12 @@ public class Slot extends AbstractSuperIdEntity {
 	@Size(max = TEXT)
 	private String replacementText;
 
+	@Version
+	@Column(name = "slot_version", nullable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private long version;
+
 	// Getter
 
 	public Event getEvent() {
@@ -61,10 +70,6 @@ public class Slot extends AbstractSuperIdEntity {
 		return getSquad().isReserve();
 	}
 
-	boolean isSlotWithNumber(int slotNumber) {
-		return getNumber() == slotNumber;
-	}
-
 	boolean isSlotWithSlottedUser(User user) {
 		return isNotEmpty() && getUser().equals(user);
 	}
@@ -106,6 +111,21 @@ public class Slot extends AbstractSuperIdEntity {
 
 	// Setter
 
+	public void setNumber(int number) {
+		this.number = number;
+		if (squad != null && squad.getEvent() != null) {
+			squad.getEvent().invalidateSlotIndex();
+		}
+	}
+
+	public void setUser(User user) {
+		final User previousUser = this.user;
+		this.user = user;
+		if (squad != null && squad.getEvent() != null) {
+			squad.getEvent().slotUserChanged(this, previousUser);
+		}
+	}
+
 	/**
 	 * Adds the given user to the slot if no other user occupies the slot. If already slotted on another slot in the same event the slot will be changed
 	 *
@@ -123,9 +143,17 @@ public class Slot extends AbstractSuperIdEntity {
 	 * @return true if slot is possible
 	 */
 	public boolean slotIsPossible(@NonNull User user) {
+		return slotIsPossible(user, user.getGuilds());
+	}
+
+	/**
+	 * @param userGuilds {@link User#getGuilds() guilds of the user} if already known
+	 * @see #slotIsPossible(User)
+	 */
+	public boolean slotIsPossible(@NonNull User user, @NonNull Set<Guild> userGuilds) {
 		return !isSlotWithSlottedUser(user) &&
 				isEmpty() &&
-				allowedByReservation(user);
+				allowedByReservation(userGuilds);
 	}
 
 	/**
@@ -135,10 +163,12 @@ public class Slot extends AbstractSuperIdEntity {
 	 * @return true if user is allowed on this slot
 	 */
 	private boolean allowedByReservation(@NonNull User user) {
-		if (getEffectiveReservedFor() == null) {
-			return true;
-		}
-		return user.getGuilds().contains(getEffectiveReservedFor());
+		return allowedByReservation(user.getGuilds());
+	}
+
+	private boolean allowedByReservation(@NonNull Set<Guild> userGuilds) {
+		final Guild reservedFor = getEffectiveReservedFor();
+		return reservedFor == null || userGuilds.contains(reservedFor);
 	}
 
 	/**
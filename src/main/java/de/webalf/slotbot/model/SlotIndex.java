@@ -0,0 +1,94 @@
+package de.webalf.slotbot.model;
+
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup tables for the slots and squads of one {@link Event}. Built from the squad list in one pass and kept up to
+ * date by the event for user changes and the slot and squad changes it performs itself.
+ * A user may be slotted in several slots (e.g. the default user in blocked slots), in that case any of these is indexed.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+final class SlotIndex {
+	private final Map<Integer, Slot> slotsByNumber = new HashMap<>();
+	private final Map<Long, Slot> slotsByUser = new HashMap<>();
+	private final Map<String, Squad> squadsByName = new HashMap<>();
+
+	SlotIndex(@NonNull List<Squad> squads) {
+		squads.forEach(this::addSquad);
+	}
+
+	Slot findSlot(int slotNumber) {
+		return slotsByNumber.get(slotNumber);
+	}
+
+	Slot findSlotOfUser(@NonNull User user) {
+		return slotsByUser.get(user.getId());
+	}
+
+	Squad findSquadByName(@NonNull String name) {
+		return squadsByName.get(toKey(name));
+	}
+
+	boolean containsSlotNumber(int slotNumber) {
+		return slotsByNumber.containsKey(slotNumber);
+	}
+
+	/**
+	 * Checks whether the given slot is part of this index. Slots that are not yet added to a squad of the event aren't
+	 *
+	 * @param slot to check
+	 * @return true if the slot is indexed
+	 */
+	boolean contains(@NonNull Slot slot) {
+		return slotsByNumber.get(slot.getNumber()) == slot;
+	}
+
+	void addSquad(@NonNull Squad squad) {
+		if (squad.getName() != null) {
+			squadsByName.putIfAbsent(toKey(squad.getName()), squad);
+		}
+		if (squad.getSlotList() != null) {
+			squad.getSlotList().forEach(this::addSlot);
+		}
+	}
+
+	void addSlot(@NonNull Slot slot) {
+		slotsByNumber.putIfAbsent(slot.getNumber(), slot);
+		if (slot.isNotEmpty()) {
+			slotsByUser.putIfAbsent(slot.getUser().getId(), slot);
+		}
+	}
+
+	void removeSlot(@NonNull Slot slot) {
+		slotsByNumber.remove(slot.getNumber(), slot);
+		if (slot.isNotEmpty()) {
+			slotsByUser.remove(slot.getUser().getId(), slot);
+		}
+	}
+
+	/**
+	 * Moves the user entries of the given slot from the previous to its current user
+	 *
+	 * @param slot         whose user changed
+	 * @param previousUser user the slot was occupied by before
+	 */
+	void userChanged(@NonNull Slot slot, User previousUser) {
+		if (previousUser != null) {
+			slotsByUser.remove(previousUser.getId(), slot);
+		}
+		if (slot.isNotEmpty()) {
+			slotsByUser.put(slot.getUser().getId(), slot);
+		}
+	}
+
+	private static String toKey(@NonNull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+}
@@ -11,11 +11,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 
 import java.util.List;
-import java.util.Optional;
 
 import static de.webalf.slotbot.util.ConstraintConstants.TEXT;
 import static de.webalf.slotbot.util.ConstraintConstants.TEXT_DB;
@@ -37,7 +37,7 @@ public class Squad extends AbstractSuperIdEntity {
 	private String name;
 
 	@OneToMany(mappedBy = "squad", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-	@Fetch(FetchMode.SELECT) //FetchMode adds n+1 but prevents duplicates in list
+	@Fetch(FetchMode.SUBSELECT) //Loads the slots of all squads in one query and prevents duplicates in list
 	@OrderBy("number")
 	@JsonManagedReference
 	private List<Slot> slotList;
@@ -51,40 +51,16 @@ public class Squad extends AbstractSuperIdEntity {
 	@JsonBackReference
 	private Event event;
 
+	@Version
+	@Column(name = "squad_version", nullable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private long version;
+
 	public static final String RESERVE_NAME = "Reserve";
 
 	// Getter
 
-	/**
-	 * Finds a slot by its number
-	 *
-	 * @param slotNumber associated to the slot
-	 * @return the slot or an empty Optional if slot with given number doesn't exist
-	 */
-	Optional<Slot> findSlot(int slotNumber) {
-		for (Slot slot : getSlotList()) {
-			if (slot.isSlotWithNumber(slotNumber)) {
-				return Optional.of(slot);
-			}
-		}
-		return Optional.empty();
-	}
-
-	/**
-	 * Finds a slot by its user
-	 *
-	 * @param user associated to the slot
-	 * @return the slot or an empty Optional if slot with given user doesn't exist
-	 */
-	Optional<Slot> findSlotOfUser(User user) {
-		for (Slot slot : getSlotList()) {
-			if (slot.isSlotWithSlottedUser(user)) {
-				return Optional.of(slot);
-			}
-		}
-		return Optional.empty();
-	}
-
 	/**
 	 * Validates if the name equals {@link Squad#RESERVE_NAME}
 	 *
@@ -100,6 +76,22 @@ public class Squad extends AbstractSuperIdEntity {
 
 	// Setter
 
+	public void setName(String name) {
+		this.name = name;
+		invalidateEventSlotIndex();
+	}
+
+	public void setSlotList(List<Slot> slotList) {
+		this.slotList = slotList;
+		invalidateEventSlotIndex();
+	}
+
+	private void invalidateEventSlotIndex() {
+		if (event != null) {
+			event.invalidateSlotIndex();
+		}
+	}
+
 	/**
 	 * Adds a new slot to the squad
 	 *
@@ -129,6 +121,7 @@ public class Squad extends AbstractSuperIdEntity {
 		}
 
 		getSlotList().remove(slot);
+		getEvent().slotRemoved(slot);
 		deleteSquadIfEmpty();
 
 		getEvent().slotUpdate();
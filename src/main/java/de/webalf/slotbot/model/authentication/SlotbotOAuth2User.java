@@ -0,0 +1,33 @@
+package de.webalf.slotbot.model.authentication;
+
+import de.webalf.slotbot.util.permissions.PermissionMatrix;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Logged-in discord user that holds its {@link PermissionMatrix} parsed from the granted authorities
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public class SlotbotOAuth2User extends DefaultOAuth2User {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	@Getter
+	@Setter
+	@NonNull
+	private volatile PermissionMatrix permissions;
+
+	public SlotbotOAuth2User(Collection<? extends GrantedAuthority> authorities, Map<String, Object> attributes, String nameAttributeKey) {
+		super(authorities, attributes, nameAttributeKey);
+		permissions = PermissionMatrix.ofAuthorities(authorities);
+	}
+}
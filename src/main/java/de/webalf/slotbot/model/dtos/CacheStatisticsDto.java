@@ -0,0 +1,18 @@
+package de.webalf.slotbot.model.dtos;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Value
+@Builder
+public class CacheStatisticsDto {
+	long size;
+	long hitCount;
+	long missCount;
+	double hitRate;
+	long evictionCount;
+}
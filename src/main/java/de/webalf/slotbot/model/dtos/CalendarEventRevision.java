@@ -0,0 +1,13 @@
+package de.webalf.slotbot.model.dtos;
+
+/**
+ * Read-only projection of an {@link de.webalf.slotbot.model.Event} to check whether its rendered calendar event is
+ * still up to date
+ *
+ * @param eventId          id of the event
+ * @param calendarSequence see {@link de.webalf.slotbot.model.Event#getCalendarSequence()}
+ * @author Alf
+ * @since 17.10.2026
+ */
+public record CalendarEventRevision(long eventId, int calendarSequence) {
+}
@@ -0,0 +1,20 @@
+package de.webalf.slotbot.model.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an {@link de.webalf.slotbot.model.Event} with the slot counts computed by the database. Used for the event calendar,
+ * which doesn't need the squads and slots themselves.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public record CalendarEventSummary(long id,
+                                   String name,
+                                   LocalDateTime dateTime,
+                                   String color,
+                                   String missionLength,
+                                   long slotCount,
+                                   long emptySlotCount,
+                                   long emptyReserveSlotCount) {
+}
@@ -0,0 +1,16 @@
+package de.webalf.slotbot.model.dtos;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Value
+@Builder
+public class OptimisticLockStatisticsDto {
+	long conflictCount;
+	long retryCount;
+	long exhaustedCount;
+}
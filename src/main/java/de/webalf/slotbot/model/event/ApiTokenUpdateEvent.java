@@ -0,0 +1,9 @@
+package de.webalf.slotbot.model.event;
+
+/**
+ * Notifies about a created, changed or removed api token
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public record ApiTokenUpdateEvent(String token) {}
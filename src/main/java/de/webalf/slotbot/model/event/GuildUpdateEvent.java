@@ -0,0 +1,9 @@
+package de.webalf.slotbot.model.event;
+
+/**
+ * Notifies about a changed or removed guild
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public record GuildUpdateEvent(long guildId) {}
@@ -2,12 +2,13 @@ package de.webalf.slotbot.repository;
 
 import de.webalf.slotbot.model.EventDiscordInformation;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Alf
@@ -17,7 +18,8 @@ import java.util.Collection;
 public interface EventDiscordInformationRepository extends JpaRepository<EventDiscordInformation, Long> {
 	boolean existsByChannelIn(Collection<Long> channels);
 
-	@Modifying
-	@Query("DELETE FROM EventDiscordInformation i WHERE i.guild.id = :guildId")
-	void deleteByGuildId(@Param("guildId") long guildId);
+	@Query("SELECT i.event.id FROM EventDiscordInformation i WHERE i.channel = :channel")
+	Optional<Long> findEventIdByChannel(@Param("channel") long channel);
+
+	List<EventDiscordInformation> findAllByGuildId(long guildId);
 }
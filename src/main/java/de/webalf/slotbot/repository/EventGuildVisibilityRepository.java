@@ -0,0 +1,12 @@
+package de.webalf.slotbot.repository;
+
+import de.webalf.slotbot.model.EventGuildVisibility;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Repository
+public interface EventGuildVisibilityRepository extends SuperIdEntityJpaRepository<EventGuildVisibility> {
+}
@@ -0,0 +1,35 @@
+package de.webalf.slotbot.repository;
+
+import de.webalf.slotbot.model.EventNotification;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Repository
+public interface EventNotificationRepository extends SuperIdEntityJpaRepository<EventNotification> {
+	List<EventNotification> findAllByNotificationTimeLessThanEqual(LocalDateTime notificationTime);
+
+	List<EventNotification> findAllByOrderByNotificationTime();
+
+	boolean existsByEventIdAndUserIdAndNotificationTime(long eventId, long userId, LocalDateTime notificationTime);
+
+	List<EventNotification> findAllByEventId(long eventId);
+
+	@Modifying
+	@Query("DELETE FROM EventNotification n WHERE n.eventId = :eventId")
+	void deleteAllByEventId(@Param("eventId") long eventId);
+
+	void deleteAllByEventIdAndUserId(long eventId, long userId);
+
+	@Modifying
+	@Query("DELETE FROM EventNotification n WHERE n.notificationTime < :notificationTime")
+	int deleteAllByNotificationTimeBefore(@Param("notificationTime") LocalDateTime notificationTime);
+}
@@ -1,17 +1,26 @@
 package de.webalf.slotbot.repository;
 
 import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.EventGuildVisibility;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.dtos.CalendarEventRevision;
+import de.webalf.slotbot.model.dtos.CalendarEventSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
+ * Queries that only need parts of the event graph select a fetch plan ({@link Event#SUMMARY_GRAPH}, {@link Event#SLOT_LIST_GRAPH})
+ * via {@link EntityGraph}. All other queries load the complete event.
+ * Events visible for a guild are found via {@link EventGuildVisibility}.
+ *
  * @author Alf
  * @since 22.06.2020
  */
@@ -20,52 +29,66 @@ public interface EventRepository extends SuperIdEntityJpaRepository<Event> {
 	@Query("SELECT e.ownerGuild FROM Event e WHERE e.id = :id")
 	Optional<Guild> findOwnerGuildById(long id);
 
+	@EntityGraph(Event.SLOT_LIST_GRAPH)
 	@Query("SELECT e FROM Event e WHERE e.dateTime BETWEEN :start AND :end AND (e.shareable = true OR e.ownerGuild.id = de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER)")
 	List<Event> findAllByDateTimeBetweenAndShareableTrueOrPlaceholderGuild(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+	@EntityGraph(Event.SLOT_LIST_GRAPH)
 	@Query("SELECT e FROM Event e WHERE e.dateTime BETWEEN :start AND :end AND e.hidden = false AND (e.shareable = true OR e.ownerGuild.id = de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER)")
 	List<Event> findAllByDateTimeBetweenAndHiddenFalseAndShareableTrueOrPlaceholderGuild(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-	@Query("SELECT e " +
-			"FROM Event e " +
-			"WHERE e.dateTime BETWEEN :start AND :end AND " +
-			"(" +
-			"e.ownerGuild = :guild " +
-			"OR EXISTS(SELECT di FROM e.discordInformation di WHERE di.guild = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE sq.reservedFor = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE EXISTS(SELECT sl FROM sq.slotList sl WHERE sl.reservedFor = :guild))" +
-			")")
-	List<Event> findAllByGuildAndDateTimeBetween(@Param("guild") Guild ownerGuild, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
-	@Query("SELECT e " +
-			"FROM Event e " +
-			"WHERE e.dateTime BETWEEN :start AND :end AND e.hidden = false " +
-			"AND (" +
-			"e.ownerGuild = :guild " +
-			"OR EXISTS(SELECT di FROM e.discordInformation di WHERE di.guild = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE sq.reservedFor = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE EXISTS(SELECT sl FROM sq.slotList sl WHERE sl.reservedFor = :guild))" +
-			")")
-	List<Event> findAllByGuildAndDateTimeBetweenAndHiddenFalse(@Param("guild") Guild ownerGuild, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
-	@Query("SELECT e FROM Event e WHERE (e.ownerGuild = :ownerGuild OR EXISTS(SELECT di FROM EventDiscordInformation di WHERE di.event = e AND di.guild = :ownerGuild)) AND e.hidden = false")
-	List<Event> findAllByGuildAndHiddenFalse(@Param("ownerGuild") Guild ownerGuild);
-
-	@Query("SELECT e " +
-			"FROM Event e " +
-			"WHERE e.dateTime < :dateTime " +
-			"AND (" +
-			"e.ownerGuild = :guild " +
-			"OR EXISTS(SELECT di FROM e.discordInformation di WHERE di.guild = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE sq.reservedFor = :guild) " +
-			"OR EXISTS(SELECT sq FROM e.squadList sq WHERE EXISTS(SELECT sl FROM sq.slotList sl WHERE sl.reservedFor = :guild))" +
-			")" +
+	@EntityGraph(Event.SLOT_LIST_GRAPH)
+	@Query("SELECT e FROM Event e WHERE e.id IN (" +
+			"SELECT v.event.id FROM EventGuildVisibility v WHERE v.guildId = :guildId AND v.dateTime BETWEEN :start AND :end)")
+	List<Event> findAllByGuildAndDateTimeBetween(@Param("guildId") long guildId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+	@EntityGraph(Event.SLOT_LIST_GRAPH)
+	@Query("SELECT e FROM Event e WHERE e.id IN (" +
+			"SELECT v.event.id FROM EventGuildVisibility v WHERE v.guildId = :guildId AND v.dateTime BETWEEN :start AND :end AND v.hidden = false)")
+	List<Event> findAllByGuildAndDateTimeBetweenAndHiddenFalse(@Param("guildId") long guildId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+	/**
+	 * Select clause for {@link CalendarEventSummary}. Slots of the reserve are only counted if they are empty
+	 */
+	String CALENDAR_EVENT_SUMMARY = "SELECT new de.webalf.slotbot.model.dtos.CalendarEventSummary(" +
+			"e.id, e.name, e.dateTime, et.color, e.missionLength, " +
+			"COUNT(CASE WHEN sq.name <> de.webalf.slotbot.model.Squad.RESERVE_NAME THEN sl.id END), " +
+			"COUNT(CASE WHEN sq.name <> de.webalf.slotbot.model.Squad.RESERVE_NAME AND sl.user IS NULL THEN sl.id END), " +
+			"COUNT(CASE WHEN sq.name = de.webalf.slotbot.model.Squad.RESERVE_NAME AND sl.user IS NULL THEN sl.id END)) ";
+	String CALENDAR_EVENT_SUMMARY_JOINS = "JOIN e.eventType et LEFT JOIN e.squadList sq LEFT JOIN sq.slotList sl ";
+	String CALENDAR_EVENT_SUMMARY_GROUP_BY = " GROUP BY e.id, e.name, e.dateTime, et.color, e.missionLength";
+
+	@Query(CALENDAR_EVENT_SUMMARY + "FROM Event e " + CALENDAR_EVENT_SUMMARY_JOINS +
+			"WHERE e.dateTime BETWEEN :start AND :end AND (:includeHidden = true OR e.hidden = false) " +
+			"AND (e.shareable = true OR e.ownerGuild.id = de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER)" +
+			CALENDAR_EVENT_SUMMARY_GROUP_BY)
+	List<CalendarEventSummary> findCalendarSummariesShareableOrPlaceholderGuild(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("includeHidden") boolean includeHidden);
+
+	@Query(CALENDAR_EVENT_SUMMARY + "FROM EventGuildVisibility v JOIN v.event e " + CALENDAR_EVENT_SUMMARY_JOINS +
+			"WHERE v.guildId = :guildId AND v.dateTime BETWEEN :start AND :end AND (:includeHidden = true OR v.hidden = false)" +
+			CALENDAR_EVENT_SUMMARY_GROUP_BY)
+	List<CalendarEventSummary> findCalendarSummariesByGuild(@Param("guildId") long guildId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("includeHidden") boolean includeHidden);
+
+	@EntityGraph(Event.SUMMARY_GRAPH)
+	List<Event> findAllByIdIn(Collection<Long> ids);
+
+	@Query("SELECT new de.webalf.slotbot.model.dtos.CalendarEventRevision(e.id, e.calendarSequence) FROM Event e " +
+			"WHERE (e.ownerGuild = :ownerGuild OR EXISTS(SELECT di FROM EventDiscordInformation di WHERE di.event = e AND di.guild = :ownerGuild)) AND e.hidden = false")
+	List<CalendarEventRevision> findCalendarRevisionsByGuildAndHiddenFalse(@Param("ownerGuild") Guild ownerGuild);
+
+	@Query("SELECT DISTINCT new de.webalf.slotbot.model.dtos.CalendarEventRevision(e.id, e.calendarSequence) FROM Slot s JOIN s.squad.event e WHERE s.user = :user")
+	List<CalendarEventRevision> findCalendarRevisionsByUser(@Param("user") User user);
+
+	@Query("SELECT e FROM Event e WHERE e.id IN (" +
+			"SELECT v.event.id FROM EventGuildVisibility v WHERE v.guildId = :guildId AND v.dateTime < :dateTime) " +
 			"ORDER BY e.dateTime")
-	List<Event> findAllByDateTimeIsBeforeAndOwnerGuildAndOrderByDateTime(@Param("dateTime") LocalDateTime dateTime, @Param("guild") Guild guild);
+	List<Event> findAllByDateTimeIsBeforeAndOwnerGuildAndOrderByDateTime(@Param("dateTime") LocalDateTime dateTime, @Param("guildId") long guildId);
 
+	@EntityGraph(Event.SLOT_LIST_GRAPH)
 	List<Event> findByDateTimeGreaterThan(LocalDateTime dateTime);
 
 
+	@EntityGraph(Event.SUMMARY_GRAPH)
 	@Query(value = "SELECT e " +
 			"FROM Event e " +
 			"WHERE e.dateTime > :dateTime " +
@@ -74,6 +97,7 @@ public interface EventRepository extends SuperIdEntityJpaRepository<Event> {
 			"ORDER BY e.dateTime")
 	List<Event> findAllByDateTimeIsAfterAndNotScheduledAndOwnerGuildAndForGuildAndOrderByDateTime(@Param("dateTime") LocalDateTime dateTime, @Param("ownerGuild") long guildId);
 
+	@EntityGraph(Event.SUMMARY_GRAPH)
 	@Query(value = "SELECT e " +
 			"FROM Event e " +
 			"WHERE e.dateTime > :dateTime AND e.ownerGuild.id <> :guild AND NOT EXISTS(SELECT di FROM EventDiscordInformation di WHERE di.event = e AND di.guild.id = :guild) " +
@@ -91,9 +115,9 @@ public interface EventRepository extends SuperIdEntityJpaRepository<Event> {
 			""")
 	List<Long> findAllParticipantIds(@Param("channel") long channel);
 
+	@EntityGraph(Event.SUMMARY_GRAPH)
 	Optional<Event> findFirstByOwnerGuildAndSquadListSlotListUserOrderByDateTimeDesc(Guild ownerGuild, User user);
 
-	List<Event> findBySquadListSlotListUser(User user);
-
+	@EntityGraph(Event.SUMMARY_GRAPH)
 	Optional<Event> findFirstBySquadList_SlotList_UserAndDateTimeBeforeOrderByDateTimeDesc(User user, LocalDateTime dateTime);
 }
@@ -7,6 +7,7 @@ import de.webalf.slotbot.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -24,5 +25,10 @@ public interface GuildUsersRepository extends JpaRepository<GuildUser, GuildUser
 
 	Optional<GuildUser> findByGuildAndUser(Guild guild, User user);
 
+	boolean existsById_GuildIdAndId_UserId(long guildId, long userId);
+
 	void deleteById_GuildIdAndId_UserId(long guildId, long userId);
+
+	@Query("SELECT DISTINCT g.id.userId FROM GuildUser g")
+	Set<Long> findAllUserIds();
 }
@@ -3,8 +3,11 @@ package de.webalf.slotbot.repository;
 import de.webalf.slotbot.model.Event;
 import de.webalf.slotbot.model.NotificationSetting;
 import de.webalf.slotbot.model.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,4 +19,10 @@ public interface NotificationSettingRepository extends SuperIdEntityJpaRepositor
 	List<NotificationSetting> findAllByUserAndEventIsNull(User user);
 
 	List<NotificationSetting> findAllByUserAndEvent(User user, Event event);
+
+	/**
+	 * Finds the settings of all given users that are specific to the given event or global
+	 */
+	@Query("SELECT s FROM NotificationSetting s WHERE s.user IN :users AND (s.event = :event OR s.event IS NULL)")
+	List<NotificationSetting> findAllByUserInAndEventOrGlobal(@Param("users") Collection<User> users, @Param("event") Event event);
 }
@@ -3,10 +3,13 @@ package de.webalf.slotbot.repository;
 import de.webalf.slotbot.model.Event;
 import de.webalf.slotbot.model.Slot;
 import de.webalf.slotbot.model.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Alf
@@ -19,4 +22,10 @@ public interface SlotRepository extends SuperIdEntityJpaRepository<Slot> {
 	Optional<Slot> findByNumberAndSquadEvent(int number, Event event);
 
 	Optional<Slot> findByUserAndSquadEvent(User user, Event event);
+
+	@Query("SELECT s.squad.event.id FROM Slot s WHERE s.id = :slotId")
+	Optional<Long> findEventIdById(@Param("slotId") long slotId);
+
+	@Query("SELECT DISTINCT s.user.id FROM Slot s WHERE s.squad.event.dateTime > :dateTime")
+	Set<Long> findUserIdsBySquadEventDateTimeAfter(@Param("dateTime") LocalDateTime dateTime);
 }
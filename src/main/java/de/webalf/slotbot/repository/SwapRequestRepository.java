@@ -19,6 +19,9 @@ public interface SwapRequestRepository extends SuperIdEntityJpaRepository<SwapRe
 
 	boolean existsByRequesterSlotAndForeignSlot(Slot requesterSlot, Slot foreignSlot);
 
+	@Query("SELECT s.requesterSlot.squad.event.id FROM SwapRequest s WHERE s.id = :id")
+	Optional<Long> findEventIdById(@Param("id") long id);
+
 	@Modifying
 	@Query("UPDATE SwapRequest s SET s.messageId = :messageId WHERE s.id = :id")
 	void updateMessageIdById(@Param("messageId") long messageId, @Param("id") long id);
@@ -6,42 +6,191 @@ import de.webalf.slotbot.model.User;
 import de.webalf.slotbot.model.enums.LogAction;
 import de.webalf.slotbot.repository.ActionLogRepository;
 import de.webalf.slotbot.util.DateUtils;
-import jakarta.validation.constraints.NotEmpty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Writes {@link ActionLog}s behind the logged action. Entries are queued once the transaction of the action commits
+ * and written in batches by a background task. Batches that fail are retried up to {@link #MAX_ATTEMPTS} times.
+ *
  * @author Alf
  * @since 06.09.2020
  */
 @Service
-@Transactional
-@RequiredArgsConstructor
+@Slf4j
 public class ActionLogService {
 	private final ActionLogRepository logRepository;
+	private final SchedulerService schedulerService;
+	private final EntityManager entityManager;
+	/**
+	 * Entries are written after the transaction of the action has been completed. A new transaction is used for
+	 * every write, so that they are never joined to the completed transaction
+	 */
+	private final TransactionTemplate transactionTemplate;
+
+	static final int BATCH_SIZE = 50;
+	private static final int QUEUE_CAPACITY = 10_000;
+	private static final long FLUSH_INTERVAL_SECONDS = 5;
+	/**
+	 * Number of times an entry is written before it is dropped
+	 */
+	static final int MAX_ATTEMPTS = 5;
+
+	private final BlockingQueue<PendingActionLog> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private record PendingActionLog(LogAction action, Duration timeGap, long actionObjectId, long userId, int attempts) {
+		private PendingActionLog nextAttempt() {
+			return new PendingActionLog(action, timeGap, actionObjectId, userId, attempts + 1);
+		}
+	}
+
+	public ActionLogService(ActionLogRepository logRepository, SchedulerService schedulerService,
+	                        EntityManager entityManager, PlatformTransactionManager transactionManager) {
+		this.logRepository = logRepository;
+		this.schedulerService = schedulerService;
+		this.entityManager = entityManager;
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@PostConstruct
+	private void init() {
+		schedulerService.scheduleAtFixedRate(this::flush, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	private void cleanUp() {
+		log.debug("Flushing {} pending action logs", queue.size());
+		flush();
+		queue.forEach(actionLog -> log.error("Dropping action log on shutdown: {}", actionLog));
+	}
 
 	void logEventAction(@NonNull LogAction action, @NonNull Event event, @NonNull User... users) {
 		Duration timeGap = Duration.between(DateUtils.now(), event.getDateTime());
+		final List<PendingActionLog> actionLogs = new ArrayList<>(users.length);
 		for (User user : users) {
-			logAction(action, timeGap, event.getId(), user);
+			if (!user.isDefaultUser()) {
+				actionLogs.add(new PendingActionLog(action, timeGap, event.getId(), user.getId(), 0));
+			}
+		}
+		if (actionLogs.isEmpty()) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(actionLogs);
+				}
+			});
+		} else {
+			enqueue(actionLogs);
 		}
 	}
 
-	private void logAction(@NonNull LogAction action, @NonNull Duration timeGap, @NotEmpty long actionObjectId, @NonNull User user) {
-		if (user.isDefaultUser()) {
-			return;
+	/**
+	 * Adds the given entries to the queue without blocking. Entries that don't fit into the queue are handed to the
+	 * scheduler thread, which writes them right away. Triggers a flush if a batch is complete
+	 */
+	private void enqueue(@NonNull List<PendingActionLog> actionLogs) {
+		final List<PendingActionLog> overflow = new ArrayList<>();
+		for (PendingActionLog actionLog : actionLogs) {
+			if (!queue.offer(actionLog)) {
+				overflow.add(actionLog);
+			}
 		}
+		if (!overflow.isEmpty()) {
+			log.warn("Action log queue is full. Writing {} action logs separately", overflow.size());
+			schedulerService.schedule(() -> writeOrRetry(overflow), () -> {}, 0, TimeUnit.SECONDS);
+		}
+
+		if (queue.size() >= BATCH_SIZE && flushScheduled.compareAndSet(false, true)) {
+			schedulerService.schedule(this::flush, () -> flushScheduled.set(false), 0, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Writes all queued entries. Entries of failed batches are queued again and retried with the next flush
+	 */
+	synchronized void flush() {
+		final List<PendingActionLog> failed = new ArrayList<>();
+		final List<PendingActionLog> batch = new ArrayList<>(BATCH_SIZE);
+		while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+			if (!tryWrite(batch)) {
+				failed.addAll(batch);
+			}
+			batch.clear();
+		}
+		retryLater(failed);
+	}
+
+	private void writeOrRetry(@NonNull List<PendingActionLog> actionLogs) {
+		for (int from = 0; from < actionLogs.size(); from += BATCH_SIZE) {
+			final List<PendingActionLog> batch = actionLogs.subList(from, Math.min(from + BATCH_SIZE, actionLogs.size()));
+			if (!tryWrite(batch)) {
+				retryLater(batch);
+			}
+		}
+	}
+
+	private void retryLater(@NonNull List<PendingActionLog> actionLogs) {
+		for (PendingActionLog actionLog : actionLogs) {
+			final PendingActionLog nextAttempt = actionLog.nextAttempt();
+			if (nextAttempt.attempts() >= MAX_ATTEMPTS) {
+				log.error("Dropping action log after {} failed attempts: {}", MAX_ATTEMPTS, actionLog);
+			} else if (!queue.offer(nextAttempt)) {
+				log.error("Dropping failed action log. Queue is full: {}", actionLog);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given entries in a new transaction
+	 *
+	 * @return true if the entries have been written
+	 */
+	private boolean tryWrite(@NonNull List<PendingActionLog> actionLogs) {
+		try {
+			write(actionLogs);
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("Failed to write {} action logs", actionLogs.size(), e);
+			return false;
+		}
+	}
 
-		ActionLog actionLog = ActionLog.builder()
-				.action(action)
-				.timeGap(timeGap)
-				.actionObjectId(actionObjectId)
-				.user(user)
-				.build();
-		logRepository.save(actionLog);
+	private void write(@NonNull List<PendingActionLog> actionLogs) {
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(BATCH_SIZE);
+			logRepository.saveAll(actionLogs.stream()
+					.map(actionLog -> ActionLog.builder()
+							.action(actionLog.action())
+							.timeGap(actionLog.timeGap())
+							.actionObjectId(actionLog.actionObjectId())
+							.user(entityManager.getReference(User.class, actionLog.userId()))
+							.build())
+					.toList());
+		});
+		log.trace("Wrote {} action logs", actionLogs.size());
 	}
 }
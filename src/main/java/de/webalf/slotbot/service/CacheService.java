@@ -0,0 +1,82 @@
+package de.webalf.slotbot.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.webalf.slotbot.model.dtos.CacheStatisticsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static de.webalf.slotbot.constant.CacheNames.*;
+
+/**
+ * Evicts cached discord data that changed and provides statistics of all caches
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheService {
+	private final CacheManager cacheManager;
+
+	/**
+	 * Evicts all cached information about the given member
+	 *
+	 * @param guildId guild of the member
+	 * @param userId  user of the member
+	 */
+	public void evictMember(long guildId, long userId) {
+		log.trace("Evicting member {} of guild {}", userId, guildId);
+		final SimpleKey key = new SimpleKey(Long.toString(userId), guildId);
+		evict(DISCORD_NICKNAMES, key);
+		evict(GUILD_MEMBER, key);
+	}
+
+	/**
+	 * Evicts the cached discord user
+	 *
+	 * @param userId user to evict
+	 */
+	public void evictUser(long userId) {
+		log.trace("Evicting user {}", userId);
+		evict(DISCORD_USER, Long.toString(userId));
+	}
+
+	private void evict(String cacheName, Object key) {
+		final Cache cache = cacheManager.getCache(cacheName);
+		if (cache != null) {
+			cache.evict(key);
+		}
+	}
+
+	/**
+	 * Returns the statistics of all caches
+	 *
+	 * @return statistics by cache name
+	 */
+	public Map<String, CacheStatisticsDto> getStatistics() {
+		final Map<String, CacheStatisticsDto> statistics = new TreeMap<>();
+		cacheManager.getCacheNames().forEach(cacheName -> {
+			if (cacheManager.getCache(cacheName) instanceof final CaffeineCache caffeineCache) {
+				final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+				final CacheStats stats = nativeCache.stats();
+				statistics.put(cacheName, CacheStatisticsDto.builder()
+						.size(nativeCache.estimatedSize())
+						.hitCount(stats.hitCount())
+						.missCount(stats.missCount())
+						.hitRate(stats.hitRate())
+						.evictionCount(stats.evictionCount())
+						.build());
+			}
+		});
+		return statistics;
+	}
+}
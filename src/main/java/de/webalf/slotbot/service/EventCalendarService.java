@@ -5,29 +5,42 @@ import de.webalf.slotbot.model.Event;
 import de.webalf.slotbot.model.EventDiscordInformation;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.dtos.CalendarEventRevision;
 import de.webalf.slotbot.model.event.EventMetadataUpdateEvent;
 import de.webalf.slotbot.model.event.SlotUserChangedEvent;
 import de.webalf.slotbot.util.EventCalendarUtil;
-import jakarta.validation.constraints.NotBlank;
+import de.webalf.slotbot.util.EventUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.fortuna.ical4j.data.CalendarOutputter;
-import net.fortuna.ical4j.model.Calendar;
-import org.springframework.context.event.EventListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 import java.util.stream.Stream;
 
+import static de.webalf.slotbot.constant.CacheNames.CALENDAR_EVENTS;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
 /**
+ * Writes ics calendars for users and guilds. The rendered calendar events are cached per event and only rendered again
+ * if the {@link Event#getCalendarSequence() calendar sequence} of the event changed. A calendar is assembled by
+ * querying the sequences of its events and concatenating the cached calendar events, so that only changed events are
+ * loaded and rendered.
+ *
  * @author Alf
  * @since 06.08.2021
  */
@@ -38,6 +51,20 @@ import java.util.stream.Stream;
 public class EventCalendarService {
 	private final StorageProperties storageProperties;
 	private final EventService eventService;
+	private final CacheManager cacheManager;
+
+	/**
+	 * Rendered calendar event together with the event values it has been rendered from
+	 *
+	 * @param url      of the event
+	 * @param sequence {@link Event#getCalendarSequence() calendar sequence} of the event
+	 * @param content  rendered calendar event
+	 */
+	private record CalendarEvent(String url, int sequence, String content) {
+		private boolean isRenderedFrom(@NonNull Event event, String url) {
+			return sequence == event.getCalendarSequence() && Objects.equals(this.url, url);
+		}
+	}
 
 	/**
 	 * Rebuilds the calendar for the given guild. This calendar includes all public visible events that the guild hosts or participates in.
@@ -51,11 +78,10 @@ public class EventCalendarService {
 
 		log.trace("Building calendar for guild {} [{}]", guild.getGroupIdentifier(), guild.getId());
 		//This may be moved to the guild entity once shared events are persistently matched to foreign guilds
-		final List<Event> events = eventService.findAllPublicByGuild(guild);
-		buildAndWrite(events, guild.getId());
+		buildAndWrite(eventService.findPublicCalendarRevisionsByGuild(guild), guild.getId());
 	}
 
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void rebuildCalendar(@NonNull SlotUserChangedEvent changedEvent) {
 		if (changedEvent.previousUserIs()) {
@@ -82,49 +108,109 @@ public class EventCalendarService {
 			return;
 		}
 		log.trace("Building calendar for user {}", user.getId());
-		buildAndWrite(eventService.findEventsOfUser(user), user.getId());
+		buildAndWrite(eventService.findCalendarRevisionsOfUser(user), user.getId());
 	}
 
 	/**
 	 * Rebuilds the calendar for the given event
 	 */
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void rebuildCalendars(@NonNull EventMetadataUpdateEvent updateEvent) {
 		final Event event = eventService.findById(updateEvent.eventId());
 		log.trace("Creating calendars for event {} [{}]", event.getName(), event.getId());
+		getCalendarEvent(event);
 		event.getAllParticipants().forEach(this::rebuildCalendar);
 		Stream.concat(Stream.of(event.getOwnerGuild()), event.getDiscordInformation().stream().map(EventDiscordInformation::getGuild))
 				.distinct()
 				.forEach(this::rebuildCalendar);
 	}
 
-	private void buildAndWrite(@NonNull List<Event> events, long id) {
-		if (events.isEmpty()) {
+	/**
+	 * Writes the calendar with the given events. Only events without an up-to-date cached calendar event are loaded
+	 *
+	 * @param revisions of the events in the calendar
+	 * @param id        of the calendar. Can be a user or a guild
+	 */
+	private void buildAndWrite(@NonNull List<CalendarEventRevision> revisions, long id) {
+		if (revisions.isEmpty()) {
 			deleteCalendar(id);
 			return;
 		}
 
 		log.debug("Building calendar for {}", id);
-		final Calendar calendar = EventCalendarUtil.buildEventCalendar(events);
-		writeCalendar(calendar, getCalendarPath(id));
-		log.trace("Calendar write finished. {} events written", events.size());
+		final Cache cache = getCalendarEventCache();
+		final Map<Long, String> calendarEvents = new LinkedHashMap<>();
+		final List<Long> outdated = new ArrayList<>();
+		revisions.forEach(revision -> {
+			final CalendarEvent calendarEvent = cache.get(revision.eventId(), CalendarEvent.class);
+			if (calendarEvent != null && calendarEvent.sequence() == revision.calendarSequence()) {
+				calendarEvents.put(revision.eventId(), calendarEvent.content());
+			} else {
+				//Keep the order of the revisions
+				calendarEvents.put(revision.eventId(), null);
+				outdated.add(revision.eventId());
+			}
+		});
+		if (!outdated.isEmpty()) {
+			log.trace("Rendering {} calendar events", outdated.size());
+			eventService.findAllById(outdated).forEach(event -> calendarEvents.put(event.getId(), getCalendarEvent(event)));
+		}
+		//Events deleted in the meantime
+		calendarEvents.values().removeIf(Objects::isNull);
+
+		writeCalendar(List.copyOf(calendarEvents.values()), getCalendarPath(id));
+		log.trace("Calendar write finished. {} events written", calendarEvents.size());
+	}
+
+	/**
+	 * Returns the cached calendar event for the given event. Renders the calendar event again if the event changed since
+	 * the last rendering
+	 *
+	 * @param event to get calendar event for
+	 * @return rendered calendar event
+	 */
+	private String getCalendarEvent(@NonNull Event event) {
+		final String url = EventUtils.buildUrl(event);
+		final Cache cache = getCalendarEventCache();
+		final CalendarEvent cached = cache.get(event.getId(), CalendarEvent.class);
+		if (cached != null && cached.isRenderedFrom(event, url)) {
+			return cached.content();
+		}
+		final int sequence = event.getCalendarSequence();
+		final String content = EventCalendarUtil.buildCalendarEvent(event, sequence, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+		cache.put(event.getId(), new CalendarEvent(url, sequence, content));
+		return content;
+	}
+
+	private Cache getCalendarEventCache() {
+		final Cache cache = cacheManager.getCache(CALENDAR_EVENTS);
+		if (cache == null) {
+			throw new IllegalStateException("Cache " + CALENDAR_EVENTS + " isn't configured");
+		}
+		return cache;
 	}
 
 	/**
-	 * Writes the given calendar as an ics file to the given path
+	 * Writes the given calendar events as an ics file to the given path. The file is written to a temporary file first
+	 * and then moved to the given path, so that a calendar is never read partially written
 	 *
-	 * @param calendar     to write
-	 * @param calendarPath path to write calendar to
+	 * @param calendarEvents to write
+	 * @param calendarPath   path to write calendar to
 	 */
-	private void writeCalendar(Calendar calendar, @NotBlank String calendarPath) {
-		try (FileOutputStream fileOutputStream = new FileOutputStream(calendarPath)) {
-			CalendarOutputter outputter = new CalendarOutputter();
-			outputter.output(calendar, fileOutputStream);
-		} catch (FileNotFoundException e) {
-			log.error("Failed to write calendar file", e);
+	private void writeCalendar(@NonNull List<String> calendarEvents, @NonNull Path calendarPath) {
+		try {
+			final Path tempFile = Files.createTempFile(calendarPath.getParent(), calendarPath.getFileName().toString(), ".tmp");
+			try {
+				try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+					EventCalendarUtil.writeCalendar(calendarEvents, writer);
+				}
+				Files.move(tempFile, calendarPath, ATOMIC_MOVE, REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
 		} catch (IOException e) {
-			log.error("Failed to output calendar", e);
+			log.error("Failed to write calendar file {}", calendarPath, e);
 		}
 	}
 
@@ -136,7 +222,7 @@ public class EventCalendarService {
 	private void deleteCalendar(long id) {
 		try {
 			log.trace("Deleting calendar {}", id);
-			final boolean deleted = Files.deleteIfExists(Paths.get(getCalendarPath(id)));
+			final boolean deleted = Files.deleteIfExists(getCalendarPath(id));
 			if (deleted && log.isDebugEnabled()) {
 				log.debug("Deleted calendar of {}", id);
 			}
@@ -145,7 +231,7 @@ public class EventCalendarService {
 		}
 	}
 
-	private String getCalendarPath(long id) {
-		return storageProperties.getCalendarOutput() + "/" + EventCalendarUtil.getCalendarName(id);
+	private Path getCalendarPath(long id) {
+		return Paths.get(storageProperties.getCalendarOutput(), EventCalendarUtil.getCalendarName(id));
 	}
 }
@@ -0,0 +1,275 @@
+package de.webalf.slotbot.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static de.webalf.slotbot.configuration.ExecutorConfig.EVENT_COMMAND_EXECUTOR;
+
+/**
+ * Serializes slotting commands per event. Commands for the same event are executed one after another by a single
+ * worker and committed together in batches of up to {@link #BATCH_SIZE} commands, so that concurrent slotting doesn't
+ * contend on the same event rows. Commands for different events are executed in parallel.
+ * <p>
+ * The result of a command is available through the returned future as soon as its batch has been committed. A command
+ * must therefore map everything it needs from the event into its result, because the event isn't attached afterwards.
+ * Results that are expensive to build should be read after the commit with {@link #submit(long, Supplier, Function)}.
+ * Each command runs in a savepoint of the batch transaction. If a command fails, only its changes are rolled back, so
+ * the failed command doesn't affect the other commands of its batch. Batches that conflict with a concurrent
+ * modification of the event are retried by the {@link OptimisticLockRetryService}.
+ * <p>
+ * On shutdown the workers finish the queued commands. Commands that are still waiting afterwards are cancelled.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class EventCommandQueue {
+	private final OptimisticLockRetryService optimisticLockRetryService;
+	private final ThreadPoolTaskExecutor workers;
+	private final Executor readers;
+	private final TransactionTemplate readTransactionTemplate;
+	private final TransactionTemplate commandTransactionTemplate;
+
+	static final int BATCH_SIZE = 10;
+
+	/**
+	 * Pending commands by event id. An event is present while a worker is scheduled for it
+	 */
+	private final Map<Long, Deque<PendingCommand<?>>> queues = new ConcurrentHashMap<>();
+
+	private record PendingCommand<T>(Supplier<T> command, CompletableFuture<T> future, SecurityContext securityContext) {
+		private T run() {
+			return runWithSecurityContext(securityContext, command);
+		}
+	}
+
+	/**
+	 * Result of executing a batch in one transaction
+	 *
+	 * @param results  of the commands, null for failed commands
+	 * @param failures of the commands, null for successful commands
+	 */
+	private record BatchResult(Object[] results, RuntimeException[] failures) {}
+
+	public EventCommandQueue(OptimisticLockRetryService optimisticLockRetryService,
+	                         @Qualifier(EVENT_COMMAND_EXECUTOR) ThreadPoolTaskExecutor workers,
+	                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor readers,
+	                         PlatformTransactionManager transactionManager) {
+		this.optimisticLockRetryService = optimisticLockRetryService;
+		this.workers = workers;
+		this.readers = readers;
+		readTransactionTemplate = new TransactionTemplate(transactionManager);
+		readTransactionTemplate.setReadOnly(true);
+		commandTransactionTemplate = new TransactionTemplate(transactionManager);
+		commandTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+	}
+
+	@PreDestroy
+	private void cleanUp() {
+		//Waits for the queued commands, see ExecutorConfig
+		workers.shutdown();
+		queues.keySet().forEach(this::cancel);
+	}
+
+	/**
+	 * Queues the given command for the given event. The command is executed in a transaction with the security context
+	 * of the calling thread.
+	 *
+	 * @param eventId event the command modifies
+	 * @param command to execute
+	 * @param <T>     result type
+	 * @return future completed with the result of the command after it has been committed
+	 */
+	public <T> CompletableFuture<T> submit(long eventId, @NonNull Supplier<T> command) {
+		final PendingCommand<T> pendingCommand = new PendingCommand<>(command, new CompletableFuture<>(), SecurityContextHolder.getContext());
+		final AtomicBoolean newQueue = new AtomicBoolean();
+		queues.compute(eventId, (id, commands) -> {
+			if (commands == null) {
+				commands = new ArrayDeque<>();
+				newQueue.set(true);
+			}
+			commands.add(pendingCommand);
+			return commands;
+		});
+		if (newQueue.get() && !schedule(eventId)) {
+			cancel(eventId);
+		}
+		return pendingCommand.future();
+	}
+
+	/**
+	 * Queues the given command for the given event and reads its result once it has been committed. The reader runs
+	 * in a new read-only transaction with the security context of the calling thread. It doesn't delay the other
+	 * commands of the event and isn't repeated if the batch of the command is committed again.
+	 *
+	 * @param eventId event the command modifies
+	 * @param command to execute
+	 * @param reader  maps the committed result of the command
+	 * @param <T>     result type of the command
+	 * @param <R>     result type of the reader
+	 * @return future completed with the result of the reader
+	 * @see #submit(long, Supplier)
+	 */
+	public <T, R> CompletableFuture<R> submit(long eventId, @NonNull Supplier<T> command, @NonNull Function<T, R> reader) {
+		final SecurityContext securityContext = SecurityContextHolder.getContext();
+		return submit(eventId, command).thenApplyAsync(result -> runWithSecurityContext(securityContext,
+				() -> readTransactionTemplate.execute(status -> reader.apply(result))), readers);
+	}
+
+	/**
+	 * Queues the given command for the given event and waits for its result
+	 *
+	 * @throws RuntimeException thrown by the command
+	 * @see #submit(long, Supplier)
+	 */
+	public <T> T execute(long eventId, @NonNull Supplier<T> command) {
+		try {
+			return submit(eventId, command).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Schedules a worker for the given event
+	 *
+	 * @return false if the workers have been shut down
+	 */
+	private boolean schedule(long eventId) {
+		try {
+			workers.execute(() -> drain(eventId));
+			return true;
+		} catch (TaskRejectedException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Cancels the pending commands of the given event
+	 */
+	private void cancel(long eventId) {
+		final Deque<PendingCommand<?>> commands = queues.remove(eventId);
+		if (commands != null) {
+			log.warn("Cancelling {} commands for event {}", commands.size(), eventId);
+			commands.forEach(command -> command.future().cancel(false));
+		}
+	}
+
+	/**
+	 * Executes the batches of commands for the given event. Reschedules itself after each batch, instead of
+	 * continuing, if more commands are waiting to give other events a turn. During shutdown no new tasks are accepted,
+	 * so the remaining batches are executed right away.
+	 */
+	private void drain(long eventId) {
+		do {
+			drainBatch(eventId);
+		} while (queues.computeIfPresent(eventId, (id, commands) -> commands.isEmpty() ? null : commands) != null
+				&& !schedule(eventId));
+	}
+
+	/**
+	 * Executes the next batch of commands for the given event
+	 */
+	private void drainBatch(long eventId) {
+		final List<PendingCommand<?>> batch = new ArrayList<>(BATCH_SIZE);
+		queues.computeIfPresent(eventId, (id, commands) -> {
+			while (batch.size() < BATCH_SIZE && !commands.isEmpty()) {
+				batch.add(commands.poll());
+			}
+			return commands;
+		});
+
+		try {
+			process(batch);
+		} catch (RuntimeException e) {
+			log.error("Failed to process commands for event {}", eventId, e);
+			batch.forEach(command -> command.future().completeExceptionally(e));
+		}
+	}
+
+	/**
+	 * Executes the given commands in one transaction with a savepoint for each command. If the transaction can't be
+	 * committed, the commands are executed again one by one.
+	 */
+	private void process(@NonNull List<PendingCommand<?>> commands) {
+		if (commands.isEmpty()) {
+			return;
+		}
+
+		final BatchResult batchResult;
+		try {
+			batchResult = optimisticLockRetryService.execute(status -> {
+				final Object[] results = new Object[commands.size()];
+				final RuntimeException[] failures = new RuntimeException[commands.size()];
+				for (int i = 0; i < commands.size(); i++) {
+					final PendingCommand<?> command = commands.get(i);
+					try {
+						results[i] = commandTransactionTemplate.execute(commandStatus -> command.run());
+					} catch (OptimisticLockingFailureException e) {
+						throw e;
+					} catch (RuntimeException e) {
+						failures[i] = e;
+					}
+				}
+				return new BatchResult(results, failures);
+			});
+		} catch (RuntimeException e) {
+			if (commands.size() == 1) {
+				commands.getFirst().future().completeExceptionally(e);
+			} else {
+				log.debug("Failed to commit batch of {} commands. Retrying one by one", commands.size(), e);
+				commands.forEach(command -> process(List.of(command)));
+			}
+			return;
+		}
+
+		for (int i = 0; i < commands.size(); i++) {
+			if (batchResult.failures()[i] != null) {
+				commands.get(i).future().completeExceptionally(batchResult.failures()[i]);
+			} else {
+				complete(commands.get(i), batchResult.results()[i]);
+			}
+		}
+	}
+
+	private static <T> T runWithSecurityContext(SecurityContext securityContext, @NonNull Supplier<T> supplier) {
+		final SecurityContext previousContext = SecurityContextHolder.getContext();
+		SecurityContextHolder.setContext(securityContext);
+		try {
+			return supplier.get();
+		} finally {
+			SecurityContextHolder.setContext(previousContext);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void complete(@NonNull PendingCommand<T> command, Object result) {
+		command.future().complete((T) result);
+	}
+}
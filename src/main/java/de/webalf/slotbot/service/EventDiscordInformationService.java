@@ -43,6 +43,16 @@ public class EventDiscordInformationService {
 				.map(EventDiscordInformation::getEvent);
 	}
 
+	/**
+	 * Returns the id of the event associated with the given channelId without loading the event
+	 *
+	 * @param channel to find event for
+	 * @return id of the event found by channel or empty optional
+	 */
+	Optional<Long> findEventIdByChannel(long channel) {
+		return discordInformationRepository.findEventIdByChannel(channel);
+	}
+
 	/**
 	 * Checks if an information with any of the given channelIds already exists
 	 *
@@ -90,6 +100,7 @@ public class EventDiscordInformationService {
 			discordInformation.setEvent(event);
 			event.getDiscordInformation().add(discordInformation);
 		});
+		event.updateGuildVisibility();
 	}
 
 	/**
@@ -119,24 +130,32 @@ public class EventDiscordInformationService {
 	@Async
 	public void removeByMessage(long channelId, long messageId, Runnable onRemoval) {
 		findEventByChannel(channelId)
-				.ifPresent(event -> event.getDiscordInformation().removeIf(information -> {
-					final boolean match = information.getInfoMsg() == messageId
-							|| information.getSlotListMsgPartOne() == messageId
-							|| information.getSlotListMsgPartTwo() == messageId;
-					if (match) {
-						onRemoval.run();
+				.ifPresent(event -> {
+					final boolean removed = event.getDiscordInformation().removeIf(information -> {
+						final boolean match = information.getInfoMsg() == messageId
+								|| information.getSlotListMsgPartOne() == messageId
+								|| information.getSlotListMsgPartTwo() == messageId;
+						if (match) {
+							onRemoval.run();
+						}
+						return match;
+					});
+					if (removed) {
+						event.updateGuildVisibility();
 					}
-					return match;
-				}));
+				});
 	}
 
 	/**
-	 * Removes all discord information for the given server
+	 * Removes all discord information for the given server and updates the guild visibility of the affected events
 	 *
 	 * @param guildId to remove information for
 	 */
 	@Async
 	public void removeByGuild(long guildId) {
-		discordInformationRepository.deleteByGuildId(guildId);
+		discordInformationRepository.findAllByGuildId(guildId).stream()
+				.map(EventDiscordInformation::getEvent)
+				.distinct()
+				.forEach(event -> event.archive(guildId));
 	}
 }
@@ -4,22 +4,27 @@ import de.webalf.slotbot.assembler.website.event.creation.EventPostAssembler;
 import de.webalf.slotbot.exception.BusinessRuntimeException;
 import de.webalf.slotbot.exception.ResourceNotFoundException;
 import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.dtos.CalendarEventRevision;
+import de.webalf.slotbot.model.dtos.CalendarEventSummary;
 import de.webalf.slotbot.model.dtos.EventDiscordInformationDto;
 import de.webalf.slotbot.model.dtos.EventDto;
 import de.webalf.slotbot.model.dtos.SlotDto;
 import de.webalf.slotbot.model.dtos.UserDto;
 import de.webalf.slotbot.model.dtos.website.event.creation.EventPostDto;
 import de.webalf.slotbot.model.dtos.website.event.edit.EventUpdateDto;
+import de.webalf.slotbot.repository.EventGuildVisibilityRepository;
 import de.webalf.slotbot.repository.EventRepository;
 import de.webalf.slotbot.util.DateUtils;
 import de.webalf.slotbot.util.DtoUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,8 +39,10 @@ import static de.webalf.slotbot.util.permissions.PermissionHelper.hasEventManage
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Slf4j
 public class EventService {
 	private final EventRepository eventRepository;
+	private final EventGuildVisibilityRepository eventGuildVisibilityRepository;
 	private final EventPostAssembler eventPostAssembler;
 	private final SquadService squadService;
 	private final SlotService slotService;
@@ -45,6 +52,18 @@ public class EventService {
 	private final EventDiscordInformationService eventDiscordInformationService;
 	private final GuildService guildService;
 
+	/**
+	 * Builds the {@link EventGuildVisibility} of all events if there is none yet (e.g. on first start)
+	 */
+	public void initGuildVisibility() {
+		if (eventGuildVisibilityRepository.count() != 0) {
+			return;
+		}
+		final List<Event> events = eventRepository.findAll();
+		log.info("Building guild visibility for {} events.", events.size());
+		events.forEach(Event::updateGuildVisibility);
+	}
+
 	/**
 	 * Returns an optional for the event associated with the given channelId
 	 *
@@ -66,6 +85,28 @@ public class EventService {
 		return findOptionalByChannel(channel).orElseThrow(ResourceNotFoundException::new);
 	}
 
+	/**
+	 * Returns the id of the event associated with the given channelId
+	 *
+	 * @param channel to find event for
+	 * @return id of the event from channel
+	 * @throws ResourceNotFoundException if no event with this channelId could be found
+	 */
+	public long findIdByChannel(long channel) {
+		return eventDiscordInformationService.findEventIdByChannel(channel).orElseThrow(ResourceNotFoundException::new);
+	}
+
+	/**
+	 * Returns the id of the event the slot with the given id belongs to
+	 *
+	 * @param slotId of the slot
+	 * @return event id
+	 * @throws ResourceNotFoundException if no slot with the given id exists
+	 */
+	public long findIdBySlot(long slotId) {
+		return slotService.findEventIdById(slotId);
+	}
+
 	/**
 	 * Returns the event associated with the given eventId
 	 *
@@ -74,11 +115,17 @@ public class EventService {
 	 * @throws ResourceNotFoundException if no event with this eventId could be found
 	 */
 	public Event findById(long eventId) {
-		return eventRepository.findById(eventId).orElseThrow(ResourceNotFoundException::new);
+		return findOptionalById(eventId).orElseThrow(ResourceNotFoundException::new);
 	}
 
-	public List<Event> findAllBetween(LocalDateTime start, LocalDateTime end) {
-		return findAllBetween(start, end, hasEventManagePermission(guildService.getCurrentGuildId()));
+	/**
+	 * Returns an optional for the event associated with the given eventId
+	 *
+	 * @param eventId to find event for
+	 * @return Event found by id or empty optional
+	 */
+	public Optional<Event> findOptionalById(long eventId) {
+		return eventRepository.findById(eventId);
 	}
 
 	/**
@@ -96,12 +143,39 @@ public class EventService {
 		}
 
 		return canReadHidden ?
-				eventRepository.findAllByGuildAndDateTimeBetween(ownerGuild, start, end) :
-				eventRepository.findAllByGuildAndDateTimeBetweenAndHiddenFalse(ownerGuild, start, end);
+				eventRepository.findAllByGuildAndDateTimeBetween(ownerGuild.getId(), start, end) :
+				eventRepository.findAllByGuildAndDateTimeBetweenAndHiddenFalse(ownerGuild.getId(), start, end);
+	}
+
+	/**
+	 * Returns the calendar summaries of all events in the given period. The slot counts are computed by the database,
+	 * squads and slots aren't loaded.
+	 * Events are filtered like in {@link #findAllBetween(LocalDateTime, LocalDateTime, boolean)}, hidden events are
+	 * only included with event manage permission.
+	 *
+	 * @return summaries of all events in given period
+	 */
+	public List<CalendarEventSummary> findCalendarSummariesBetween(LocalDateTime start, LocalDateTime end) {
+		final boolean canReadHidden = hasEventManagePermission(guildService.getCurrentGuildId());
+		final Guild ownerGuild = guildService.findCurrentNonNullGuild();
+		if (ownerGuild.getId() == GUILD_PLACEHOLDER) {
+			return eventRepository.findCalendarSummariesShareableOrPlaceholderGuild(start, end, canReadHidden);
+		}
+		return eventRepository.findCalendarSummariesByGuild(ownerGuild.getId(), start, end, canReadHidden);
+	}
+
+	/**
+	 * Returns the events with the given ids. Only the owner guild and event type are loaded with the events
+	 *
+	 * @param eventIds to find events for
+	 * @return found events
+	 */
+	public List<Event> findAllById(@NonNull Collection<Long> eventIds) {
+		return eventRepository.findAllByIdIn(eventIds);
 	}
 
-	public List<Event> findAllPublicByGuild(Guild ownerGuild) {
-		return eventRepository.findAllByGuildAndHiddenFalse(ownerGuild);
+	public List<CalendarEventRevision> findPublicCalendarRevisionsByGuild(Guild ownerGuild) {
+		return eventRepository.findCalendarRevisionsByGuildAndHiddenFalse(ownerGuild);
 	}
 
 	/**
@@ -110,7 +184,7 @@ public class EventService {
 	 * @return all events from the past
 	 */
 	public List<Event> findAllInPast(Guild guild) {
-		return eventRepository.findAllByDateTimeIsBeforeAndOwnerGuildAndOrderByDateTime(DateUtils.now(), guild);
+		return eventRepository.findAllByDateTimeIsBeforeAndOwnerGuildAndOrderByDateTime(DateUtils.now(), guild.getId());
 	}
 
 	/**
@@ -153,8 +227,8 @@ public class EventService {
 		return eventRepository.findFirstByOwnerGuildAndSquadListSlotListUserOrderByDateTimeDesc(ownerGuild, user);
 	}
 
-	public List<Event> findEventsOfUser(@NonNull User user) {
-		return eventRepository.findBySquadListSlotListUser(user);
+	public List<CalendarEventRevision> findCalendarRevisionsOfUser(@NonNull User user) {
+		return eventRepository.findCalendarRevisionsByUser(user);
 	}
 
 	/**
@@ -196,6 +270,7 @@ public class EventService {
 	 */
 	public Event save(@NonNull Event event) {
 		event.validate();
+		event.updateGuildVisibility();
 
 		return eventRepository.save(event);
 	}
@@ -245,6 +320,7 @@ public class EventService {
 			squadService.updateSquadList(squadlist, event);
 			event.removeReservedForDefaultGuild();
 		});
+		event.updateGuildVisibility();
 
 		return event;
 	}
@@ -23,6 +23,9 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static de.webalf.slotbot.constant.CacheNames.FILE_LOADER;
+import static de.webalf.slotbot.constant.CacheNames.USER_CONTENT_LOADER;
+
 /**
  * @author Alf
  * @since 24.11.2020
@@ -41,7 +44,7 @@ public class FileService {
 	 * @return file as {@link Resource}
 	 * @throws ResourceNotFoundException if file doesn't exist or the path is a malformedURL
 	 */
-	@Cacheable("fileLoader")
+	@Cacheable(FILE_LOADER)
 	public Resource loadAsResource(String filename) {
 		final Path file = Paths.get(storageProperties.getDownload()).resolve(filename);
 
@@ -62,7 +65,7 @@ public class FileService {
 		return getResource(filename, file);
 	}
 
-	@Cacheable("userContentLoader")
+	@Cacheable(USER_CONTENT_LOADER)
 	public Resource loadUserContentAsResource(String userId, String filename) {
 		final Path path = Paths.get(storageProperties.getUserContent(), userId, filename);
 
@@ -3,6 +3,7 @@ package de.webalf.slotbot.service;
 import de.webalf.slotbot.exception.ResourceNotFoundException;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.dtos.website.guild.GuildConfigPutDto;
+import de.webalf.slotbot.model.event.GuildUpdateEvent;
 import de.webalf.slotbot.repository.GuildRepository;
 import de.webalf.slotbot.util.DtoUtils;
 import de.webalf.slotbot.util.LongUtils;
@@ -13,11 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER;
 
@@ -40,41 +43,63 @@ public class GuildService {
 		return guildRepository.findAllByOrderByGroupIdentifier().stream().filter(guild -> guild.getId() != GUILD_PLACEHOLDER).toList();
 	}
 
-	private List<Guild> findAllWithUrlPattern() {
-		return guildRepository.findByUrlPatternIsNotNull();
+	/**
+	 * Incremented on every guild change. A resolver is only valid for the generation it has been built in
+	 */
+	private final AtomicLong guildGeneration = new AtomicLong();
+	/**
+	 * Resolver built from all guilds with url pattern
+	 */
+	private volatile VersionedGuildUrlResolver guildUrlResolver;
+
+	private record VersionedGuildUrlResolver(long generation, @NonNull GuildUrlResolver resolver) {}
+
+	private GuildUrlResolver getGuildUrlResolver() {
+		final VersionedGuildUrlResolver current = guildUrlResolver;
+		//Read the generation before loading the guilds, so that a change during the load invalidates the new resolver
+		final long generation = guildGeneration.get();
+		if (current != null && current.generation() == generation) {
+			return current.resolver();
+		}
+		final GuildUrlResolver resolver = new GuildUrlResolver(guildRepository.findByUrlPatternIsNotNull());
+		guildUrlResolver = new VersionedGuildUrlResolver(generation, resolver);
+		return resolver;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onGuildUpdate(@NonNull GuildUpdateEvent event) {
+		log.trace("Reset url resolver after update of guild {}", event.guildId());
+		guildGeneration.incrementAndGet();
 	}
 
 	/**
-	 * Finds the current guild matching the current context path
+	 * Finds the id of the current guild matching the current context path
 	 *
-	 * @return guild or null
+	 * @return guild id or null
 	 */
-	private Guild findCurrentGuild() {
+	private Long findCurrentGuildId() {
 		final String currentUri = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
 
-		for (Guild guild : findAllWithUrlPattern()) {
-			if (guild.getUrlPattern().matcher(currentUri).matches()) {
-				return guild;
-			}
+		final Long guildId = getGuildUrlResolver().resolve(currentUri);
+		if (guildId == null) {
+			log.warn("Searched for unknown group with uri '{}'", currentUri);
 		}
-
-		log.warn("Searched for unknown group with uri '{}'", currentUri);
-		return null;
+		return guildId;
 	}
 
 	/**
-	 * Finds the {@link #findCurrentGuild() current guild} or {@link #getDefault() default guild with placeholder id} as a fallback
+	 * Returns a reference to the {@link #findCurrentGuildId() current guild} or the default guild with placeholder id as a fallback.
+	 * The guild is only loaded once any property other than the id is accessed.
 	 *
 	 * @return current guild
 	 */
 	public Guild findCurrentNonNullGuild() {
-		final Guild currentGuild = findCurrentGuild();
-		return currentGuild != null ? currentGuild : getDefault();
+		return guildRepository.getReferenceById(getCurrentGuildId());
 	}
 
 	public long getCurrentGuildId() {
-		final Guild currentGuild = findCurrentGuild();
-		return currentGuild != null ? currentGuild.getId() : GUILD_PLACEHOLDER;
+		final Long currentGuildId = findCurrentGuildId();
+		return currentGuildId != null ? currentGuildId : GUILD_PLACEHOLDER;
 	}
 
 	public Guild find(long id) {
@@ -93,6 +118,14 @@ public class GuildService {
 		return guildRepository.findById(guildId).orElseThrow(ResourceNotFoundException::new);
 	}
 
+	public String findCommandsFingerprint(long guildId) {
+		return find(guildId).getCommandsFingerprint();
+	}
+
+	public void updateCommandsFingerprint(long guildId, String commandsFingerprint) {
+		find(guildId).setCommandsFingerprint(commandsFingerprint);
+	}
+
 	public Optional<Guild> findByName(String name) {
 		return guildRepository.findByGroupIdentifier(name);
 	}
@@ -159,10 +192,6 @@ public class GuildService {
 	}
 
 	//Special snowflakes
-	private Guild getDefault() {
-		return guildRepository.findById(GUILD_PLACEHOLDER).orElseThrow(IllegalStateException::new);
-	}
-
 	private static boolean is(long guildId, long givenGuildId) {
 		return guildId == givenGuildId;
 	}
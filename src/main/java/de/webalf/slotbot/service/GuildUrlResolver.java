@@ -0,0 +1,174 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.model.Guild;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Resolves the guild for an uri by matching all {@link Guild#getUrlPattern() guild url patterns} at once.
+ * Patterns without regex features are looked up in a map, all others are combined into one alternation. The first
+ * matching pattern in the given order wins. If the patterns can't be combined safely, they are matched one by one.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+final class GuildUrlResolver {
+	private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|\\";
+
+	private final long[] guildIds;
+	private final Pattern[] patterns;
+	private final Map<String, Integer> exactUris;
+	/**
+	 * Indexes of the guilds whose pattern is part of the {@link #combinedPattern}, in the given order
+	 */
+	private final int[] regexIndexes;
+	private final Pattern combinedPattern;
+
+	GuildUrlResolver(@NonNull List<Guild> guilds) {
+		guildIds = new long[guilds.size()];
+		patterns = new Pattern[guilds.size()];
+		exactUris = new HashMap<>();
+		final List<Integer> regexIndexList = new ArrayList<>();
+		final StringBuilder alternation = new StringBuilder();
+		boolean combinable = true;
+		for (int i = 0; i < guilds.size(); i++) {
+			final Guild guild = guilds.get(i);
+			final Pattern pattern = guild.getUrlPattern();
+			guildIds[i] = guild.getId();
+			patterns[i] = pattern;
+
+			final String regex = pattern.pattern();
+			final String literal = pattern.flags() == 0 ? toLiteral(regex) : null;
+			if (literal != null) {
+				exactUris.putIfAbsent(literal, i);
+				continue;
+			}
+			combinable &= pattern.flags() == 0 && !hasNumberedBackreference(regex);
+			if (!alternation.isEmpty()) {
+				alternation.append('|');
+			}
+			alternation.append("(?<g").append(regexIndexList.size()).append('>').append(regex).append(')');
+			regexIndexList.add(i);
+		}
+		regexIndexes = regexIndexList.stream().mapToInt(Integer::intValue).toArray();
+		combinedPattern = combinable && !alternation.isEmpty() ? compile(alternation.toString()) : null;
+	}
+
+	/**
+	 * Finds the id of the guild whose url pattern matches the given uri
+	 *
+	 * @param uri to match
+	 * @return guild id or null if no pattern matches
+	 */
+	Long resolve(@NonNull String uri) {
+		final Integer exactIndex = exactUris.get(uri);
+		final int limit = exactIndex != null ? exactIndex : guildIds.length;
+		final int regexIndex = combinedPattern != null ? findInCombinedPattern(uri, limit) : findInPatterns(uri, limit);
+		if (regexIndex >= 0) {
+			return guildIds[regexIndex];
+		}
+		return exactIndex != null ? guildIds[exactIndex] : null;
+	}
+
+	/**
+	 * Finds the first regex pattern before the given index that matches the uri
+	 *
+	 * @param uri   to match
+	 * @param limit exclusive upper bound of the guild index
+	 * @return guild index or -1 if no pattern before the limit matches
+	 */
+	private int findInCombinedPattern(String uri, int limit) {
+		if (regexIndexes.length == 0 || regexIndexes[0] >= limit) {
+			return -1;
+		}
+		final Matcher matcher = combinedPattern.matcher(uri);
+		if (!matcher.matches()) {
+			return -1;
+		}
+		for (int i = 0; i < regexIndexes.length && regexIndexes[i] < limit; i++) {
+			if (matcher.start("g" + i) >= 0) {
+				return regexIndexes[i];
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Fallback of {@link #findInCombinedPattern(String, int)} that matches each regex pattern on its own
+	 */
+	private int findInPatterns(String uri, int limit) {
+		for (int regexIndex : regexIndexes) {
+			if (regexIndex >= limit) {
+				break;
+			}
+			if (patterns[regexIndex].matcher(uri).matches()) {
+				return regexIndex;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Compiles the combined pattern
+	 *
+	 * @param regex alternation of all regex patterns
+	 * @return compiled pattern or null if the patterns define conflicting group names
+	 */
+	private static Pattern compile(String regex) {
+		try {
+			return Pattern.compile(regex);
+		} catch (PatternSyntaxException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Numbered backreferences would refer to the wrong group once the regex is wrapped in a group
+	 *
+	 * @param regex to check
+	 * @return true if the regex contains a backreference like {@code \1}
+	 */
+	static boolean hasNumberedBackreference(@NonNull String regex) {
+		for (int i = 0; i < regex.length() - 1; i++) {
+			if (regex.charAt(i) == '\\') {
+				final char next = regex.charAt(++i);
+				if (next >= '1' && next <= '9') {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the string matched by the given regex, if the regex only consists of literal characters and escaped
+	 * meta characters
+	 *
+	 * @param regex to convert
+	 * @return matched literal or null if the regex uses any regex feature
+	 */
+	static String toLiteral(@NonNull String regex) {
+		final StringBuilder literal = new StringBuilder(regex.length());
+		for (int i = 0; i < regex.length(); i++) {
+			final char c = regex.charAt(i);
+			if (c == '\\') {
+				if (i + 1 >= regex.length() || REGEX_META_CHARACTERS.indexOf(regex.charAt(i + 1)) < 0) {
+					return null;
+				}
+				literal.append(regex.charAt(++i));
+			} else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+				return null;
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.toString();
+	}
+}
@@ -1,13 +1,16 @@
 package de.webalf.slotbot.service;
 
+import de.webalf.slotbot.configuration.authentication.website.UserSessionRegistry;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.GuildUser;
 import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.authentication.SlotbotOAuth2User;
 import de.webalf.slotbot.model.event.GuildUserCreatedEvent;
 import de.webalf.slotbot.model.event.GuildUserDeleteEvent;
 import de.webalf.slotbot.model.event.GuildUserRoleUpdateEvent;
 import de.webalf.slotbot.repository.GlobalRoleRepository;
 import de.webalf.slotbot.repository.GuildUsersRepository;
+import de.webalf.slotbot.util.permissions.PermissionMatrix;
 import de.webalf.slotbot.util.permissions.Role;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +21,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.session.SessionInformation;
-import org.springframework.security.core.session.SessionRegistry;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static de.webalf.slotbot.util.permissions.PermissionHelper.buildAuthenticationWithPrefix;
 import static de.webalf.slotbot.util.permissions.PermissionHelper.buildGuildAuthenticationWithPrefix;
@@ -42,9 +44,15 @@ public class GuildUsersService {
 	private final UserService userService;
 	private final GuildService guildService;
 	private final GlobalRoleRepository globalRoleRepository;
-	private final SessionRegistry sessionRegistry;
+	private final UserSessionRegistry sessionRegistry;
 	private final ApplicationEventPublisher eventPublisher;
 
+	/**
+	 * Users whose sessions are waiting to be invalidated
+	 */
+	private final Set<Long> pendingInvalidations = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean invalidating = new AtomicBoolean();
+
 	public Page<GuildUser> findGuildUsers(Guild guild, Pageable pageable) {
 		return guildUsersRepository.findByGuild(guild, pageable);
 	}
@@ -103,6 +111,15 @@ public class GuildUsersService {
 						() -> create(guild, user, role));
 	}
 
+	/**
+	 * Checks if the given user is a member of the given guild in this application
+	 *
+	 * @return true if a {@link GuildUser} exists
+	 */
+	public boolean exists(long guildId, long userId) {
+		return guildUsersRepository.existsById_GuildIdAndId_UserId(guildId, userId);
+	}
+
 	/**
 	 * Checks if one of the given roles is configured for any role in the given guild
 	 *
@@ -115,6 +132,7 @@ public class GuildUsersService {
 
 	/**
 	 * Processes changes in the roles of the given user in the given guild.
+	 * The {@link PermissionMatrix} of the logged-in sessions of the user is refreshed immediately.
 	 *
 	 * @param guildId     guild the roles changed in
 	 * @param userId      user whose roles changed
@@ -126,9 +144,22 @@ public class GuildUsersService {
 		//If a member role is configured and no role is left, remove user from guild
 		if (guild.getMemberRole() != null && !memberRoles.contains(guild.getMemberRole()) && newRole == null) {
 			remove(guildId, userId);
-			return;
+		} else {
+			setRole(guildId, userId, newRole);
 		}
-		setRole(guildId, userId, newRole);
+		refreshPermissions(userId);
+	}
+
+	/**
+	 * Replaces the {@link PermissionMatrix} of all logged-in sessions of the given user with the current roles
+	 */
+	private void refreshPermissions(long userId) {
+		final PermissionMatrix permissions = PermissionMatrix.of(getApplicationRoles(userId));
+		sessionRegistry.getSessionsOfUser(userId).stream()
+				.map(SessionInformation::getPrincipal)
+				.filter(SlotbotOAuth2User.class::isInstance)
+				.map(SlotbotOAuth2User.class::cast)
+				.forEach(user -> user.setPermissions(permissions));
 	}
 
 	/**
@@ -146,28 +177,50 @@ public class GuildUsersService {
 	@EventListener
 	@Async
 	public void onGuildUserCreatedEvent(@NonNull GuildUserCreatedEvent event) {
-		invalidateSession(event.userId());
+		queueInvalidation(event.userId());
 	}
 
 	@EventListener
 	@Async
 	public void onGuildUserRoleUpdateEvent(@NonNull GuildUserRoleUpdateEvent event) {
-		invalidateSession(event.userId());
+		queueInvalidation(event.userId());
 	}
 
 	@EventListener
 	@Async
 	public void onGuildUserDeleteEvent(@NonNull GuildUserDeleteEvent event) {
-		invalidateSession(event.userId());
+		queueInvalidation(event.userId());
+	}
+
+	/**
+	 * Invalidates the sessions of the given user together with the sessions of all users queued in the meantime.
+	 * Role changes of many members, e.g. caused by one discord role update, are thereby invalidated in few batches.
+	 */
+	private void queueInvalidation(long userId) {
+		pendingInvalidations.add(userId);
+		while (!pendingInvalidations.isEmpty() && invalidating.compareAndSet(false, true)) {
+			try {
+				final List<Long> userIds = new ArrayList<>(pendingInvalidations);
+				userIds.forEach(pendingInvalidations::remove);
+				invalidateSessions(userIds);
+			} finally {
+				invalidating.set(false);
+			}
+		}
 	}
 
 	private void invalidateSession(long userId) {
-		log.trace("Invalidating session for user {}", userId);
-		sessionRegistry.getAllPrincipals().stream()
-				.flatMap(principal -> sessionRegistry.getAllSessions(principal, false).stream())
-				.filter(sessionInformation -> sessionInformation.getPrincipal() instanceof final DefaultOAuth2User user
-						&& user.getAttributes().get("id").equals(Long.toString(userId)))
-				.forEach(SessionInformation::expireNow);
+		invalidateSessions(List.of(userId));
+	}
+
+	/**
+	 * Expires all sessions of the given users
+	 *
+	 * @param userIds users to invalidate sessions for
+	 */
+	public void invalidateSessions(@NonNull Collection<Long> userIds) {
+		final int expired = sessionRegistry.expireSessionsOfUsers(userIds);
+		log.trace("Invalidated {} sessions of users {}", expired, userIds);
 	}
 
 	public Set<String> getApplicationRoles(long userId) {
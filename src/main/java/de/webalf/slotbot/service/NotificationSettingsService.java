@@ -11,8 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * @author Alf
@@ -46,6 +45,27 @@ public class NotificationSettingsService {
 		return settingsForEvent.isEmpty() ? findSettings(user) : settingsForEvent;
 	}
 
+	/**
+	 * {@link #findSettings(User, Event) Finds the settings} of all given users with one query
+	 *
+	 * @param users to be notified
+	 * @param event to notify about
+	 * @return event specific settings or global settings by user id. Users without settings are missing
+	 */
+	public Map<Long, List<NotificationSetting>> findSettings(@NonNull Collection<User> users, Event event) {
+		if (users.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<Long, List<NotificationSetting>> globalSettings = new HashMap<>();
+		final Map<Long, List<NotificationSetting>> eventSettings = new HashMap<>();
+		notificationSettingRepository.findAllByUserInAndEventOrGlobal(users, event).forEach(setting ->
+				(setting.getEvent() == null ? globalSettings : eventSettings)
+						.computeIfAbsent(setting.getUser().getId(), userId -> new ArrayList<>())
+						.add(setting));
+		globalSettings.putAll(eventSettings);
+		return globalSettings;
+	}
+
 	/**
 	 * Sets the public {@link NotificationSetting}s for the given {@link User}
 	 *
@@ -0,0 +1,91 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.exception.BusinessRuntimeException;
+import de.webalf.slotbot.model.dtos.OptimisticLockStatisticsDto;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes slotting actions in their own transaction and retries them if a concurrent transaction modified the same
+ * event, squad or slot (detected by their versions). Each attempt loads the current state again.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticLockRetryService {
+	private final TransactionTemplate transactionTemplate;
+
+	static final int MAX_ATTEMPTS = 5;
+	private static final long BACKOFF_MILLIS = 10;
+
+	private final AtomicLong conflicts = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong exhausted = new AtomicLong();
+
+	/**
+	 * Executes the given action in a new transaction. If the transaction fails because of a concurrent modification,
+	 * the action is executed again after a short randomized backoff, up to {@link #MAX_ATTEMPTS} times.
+	 * If called within an existing transaction, the action joins it and is not retried.
+	 *
+	 * @param action to execute
+	 * @param <T>    result type
+	 * @return result of the action
+	 * @throws BusinessRuntimeException if every attempt failed because of concurrent modifications
+	 */
+	public <T> T execute(@NonNull TransactionCallback<T> action) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return transactionTemplate.execute(action);
+		}
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transactionTemplate.execute(action);
+			} catch (OptimisticLockingFailureException e) {
+				conflicts.incrementAndGet();
+				if (attempt >= MAX_ATTEMPTS) {
+					exhausted.incrementAndGet();
+					log.warn("Giving up after {} concurrent modifications", attempt, e);
+					throw BusinessRuntimeException.builder()
+							.title("Das Event wurde gleichzeitig geändert. Bitte versuche es erneut.")
+							.cause(e)
+							.build();
+				}
+				log.debug("Concurrent modification in attempt {}. Retrying", attempt);
+				retries.incrementAndGet();
+				backoff(attempt);
+			}
+		}
+	}
+
+	private static void backoff(int attempt) {
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS * attempt, BACKOFF_MILLIS * attempt * 2));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the number of detected concurrent modifications, retried attempts and actions that failed after
+	 * {@link #MAX_ATTEMPTS}
+	 */
+	public OptimisticLockStatisticsDto getStatistics() {
+		return OptimisticLockStatisticsDto.builder()
+				.conflictCount(conflicts.get())
+				.retryCount(retries.get())
+				.exhaustedCount(exhausted.get())
+				.build();
+	}
+}
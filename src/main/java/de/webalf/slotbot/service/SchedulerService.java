@@ -52,6 +52,20 @@ public class SchedulerService {
 		return scheduler.schedule(errorHandlingWrapper(runnable, cleanup), delay, timeUnit);
 	}
 
+	/**
+	 * Schedules the given {@link Runnable} to be executed periodically. Errors are caught and logged, so that following
+	 * executions are not suppressed.
+	 *
+	 * @param runnable     task to execute periodically
+	 * @param initialDelay before the first execution
+	 * @param period       between the start of successive executions
+	 * @param timeUnit     unit of initialDelay and period
+	 * @return scheduled task
+	 */
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable runnable, long initialDelay, long period, TimeUnit timeUnit) {
+		return scheduler.scheduleAtFixedRate(errorHandlingWrapper(runnable, () -> {}), initialDelay, period, timeUnit);
+	}
+
 	/**
 	 * Wraps the given action in a try-catch block and executes the cleanup afterwards
 	 *
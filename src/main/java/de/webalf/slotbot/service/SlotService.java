@@ -47,6 +47,17 @@ public class SlotService {
 		return slotRepository.findById(id).orElseThrow(ResourceNotFoundException::new);
 	}
 
+	/**
+	 * Returns the id of the event the slot with the given id belongs to
+	 *
+	 * @param slotId of the slot
+	 * @return event id
+	 * @throws ResourceNotFoundException if no slot with the given id exists
+	 */
+	long findEventIdById(long slotId) {
+		return slotRepository.findEventIdById(slotId).orElseThrow(ResourceNotFoundException::new);
+	}
+
 	/**
 	 * Returns the slot of the given user in the given event.
 	 *
@@ -156,7 +167,8 @@ public class SlotService {
 	}
 
 	/**
-	 * Removes the slot with the given slot number from the given event.
+	 * Removes the slot with the given slot number from the given event. The squad is removed as well, if
+	 * it has no slots left. Updates the guild visibility, since the slot or squad may have been reserved for a guild
 	 *
 	 * @param event      event to which the slot belongs
 	 * @param slotNumber slot number
@@ -164,6 +176,7 @@ public class SlotService {
 	public void deleteSlot(@NonNull Event event, int slotNumber) {
 		final Slot slot = slotRepository.findByNumberAndSquadEvent(slotNumber, event).orElseThrow(ResourceNotFoundException::new);
 		slot.getSquad().deleteSlot(slot);
+		event.updateGuildVisibility();
 	}
 
 	/**
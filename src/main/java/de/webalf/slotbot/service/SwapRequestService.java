@@ -37,6 +37,17 @@ public class SwapRequestService {
 		return swapRequestRepository.findById(swapRequestId).orElseThrow(ResourceNotFoundException::new);
 	}
 
+	/**
+	 * Returns the id of the event the swap request belongs to without loading the swap request
+	 *
+	 * @param swapRequestId to find event id for
+	 * @return event id
+	 * @throws ResourceNotFoundException if no swap request with the given id exists
+	 */
+	public long findEventIdById(long swapRequestId) {
+		return swapRequestRepository.findEventIdById(swapRequestId).orElseThrow(ResourceNotFoundException::new);
+	}
+
 	public SwapRequestResult swapByUsers(@NonNull Event event, long requesterId, long foreignId) {
 		if (requesterId == foreignId) {
 			return SwapRequestResult.ERROR_OWN_SLOT;
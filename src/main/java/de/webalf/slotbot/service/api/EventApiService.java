@@ -5,6 +5,8 @@ import de.webalf.slotbot.exception.BusinessRuntimeException;
 import de.webalf.slotbot.model.Event;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.dtos.api.event.creation.EventApiDto;
+import de.webalf.slotbot.model.dtos.api.event.view.EventApiIdDto;
+import de.webalf.slotbot.service.EventCommandQueue;
 import de.webalf.slotbot.service.EventService;
 import de.webalf.slotbot.service.GuildService;
 import de.webalf.slotbot.util.EventUtils;
@@ -14,11 +16,13 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static de.webalf.slotbot.util.permissions.ApiPermissionHelper.hasReadPermission;
 
@@ -33,6 +37,7 @@ import static de.webalf.slotbot.util.permissions.ApiPermissionHelper.hasReadPerm
 @RequiredArgsConstructor
 public class EventApiService {
 	private final EventService eventService;
+	private final EventCommandQueue eventCommandQueue;
 	private final EventApiAssembler eventApiAssembler;
 	private final MessageSource messageSource;
 	private final GuildService guildService;
@@ -71,29 +76,57 @@ public class EventApiService {
 		eventService.deleteEvent(eventService.findById(eventId));
 	}
 
-	public Event slot(long eventId, int slotNumber, String userId) {
-		final Event event = eventService.findById(eventId);
-		ApiPermissionChecker.assertApiWriteAccess(event);
+	/**
+	 * Slots the given user through the {@link EventCommandQueue} of the event
+	 *
+	 * @return future completed with the event after the slotting has been committed
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<EventApiIdDto> slot(long eventId, int slotNumber, String userId) {
+		return eventCommandQueue.submit(eventId, () -> {
+			final Event event = eventService.findById(eventId);
+			ApiPermissionChecker.assertApiWriteAccess(event);
 
-		if (!MentionUtils.isSnowflake(userId)) {
-			throw BusinessRuntimeException.builder()
-					.title(messageSource.getMessage("api.userId.error", null, event.getOwnerGuildLocale()))
-					.build();
-		}
-		return eventService.slot(event, slotNumber, Long.parseLong(userId));
+			if (!MentionUtils.isSnowflake(userId)) {
+				throw BusinessRuntimeException.builder()
+						.title(messageSource.getMessage("api.userId.error", null, event.getOwnerGuildLocale()))
+						.build();
+			}
+			return eventService.slot(event, slotNumber, Long.parseLong(userId)).getId();
+		}, this::getEventApiDto);
 	}
 
-	public Event blockSlot(long eventId, int slotNumber, String replacementText) {
-		final Event event = eventService.findById(eventId);
-		ApiPermissionChecker.assertApiWriteAccess(event);
+	/**
+	 * Blocks the slot through the {@link EventCommandQueue} of the event
+	 *
+	 * @return future completed with the event after the blocking has been committed
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<EventApiIdDto> blockSlot(long eventId, int slotNumber, String replacementText) {
+		return eventCommandQueue.submit(eventId, () -> {
+			final Event event = eventService.findById(eventId);
+			ApiPermissionChecker.assertApiWriteAccess(event);
 
-		return eventService.blockSlot(event, slotNumber, replacementText);
+			return eventService.blockSlot(event, slotNumber, replacementText).getId();
+		}, this::getEventApiDto);
 	}
 
-	public Event unslot(long eventId, int slotNumber) {
-		final Event event = eventService.findById(eventId);
-		ApiPermissionChecker.assertApiWriteAccess(event);
+	/**
+	 * Unslots the slot through the {@link EventCommandQueue} of the event
+	 *
+	 * @return future completed with the event after the unslotting has been committed
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CompletableFuture<EventApiIdDto> unslot(long eventId, int slotNumber) {
+		return eventCommandQueue.submit(eventId, () -> {
+			final Event event = eventService.findById(eventId);
+			ApiPermissionChecker.assertApiWriteAccess(event);
+
+			return eventService.unslot(event, slotNumber).getId();
+		}, this::getEventApiDto);
+	}
 
-		return eventService.unslot(event, slotNumber);
+	private EventApiIdDto getEventApiDto(long eventId) {
+		return EventApiAssembler.toDto(eventService.findById(eventId));
 	}
 }
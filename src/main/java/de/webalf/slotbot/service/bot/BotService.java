@@ -1,23 +1,29 @@
 package de.webalf.slotbot.service.bot;
 
 import de.webalf.slotbot.configuration.properties.DiscordProperties;
+import de.webalf.slotbot.configuration.properties.DiscordProperties.MemberCache;
+import de.webalf.slotbot.service.CacheService;
 import de.webalf.slotbot.service.EventDiscordInformationService;
 import de.webalf.slotbot.service.bot.listener.DeleteListener;
 import de.webalf.slotbot.service.bot.listener.GuildEventListener;
 import de.webalf.slotbot.service.bot.listener.InteractionListener;
-import de.webalf.slotbot.util.bot.CommandClassHelper;
+import de.webalf.slotbot.util.bot.InteractionRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.sharding.DefaultShardManagerBuilder;
+import net.dv8tion.jda.api.sharding.ShardManager;
 import net.dv8tion.jda.api.utils.ChunkingFilter;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import net.dv8tion.jda.api.utils.cache.CacheFlag;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 import static de.webalf.slotbot.util.StringUtils.stripPrefixIfExists;
 import static net.dv8tion.jda.api.requests.GatewayIntent.SCHEDULED_EVENTS;
 import static net.dv8tion.jda.api.requests.GatewayIntent.*;
@@ -35,34 +41,84 @@ public class BotService {
 	private final CommandsService commandsService;
 	private final EventDiscordInformationService eventDiscordInformationService;
 	private final GuildUsersBotService guildUsersBotService;
-	private final CommandClassHelper commandClassHelper;
+	private final InteractionRegistry interactionRegistry;
 	private final MessageSource messageSource;
 	private final GuildBotService guildBotService;
+	private final CacheService cacheService;
+	private final RelevantMemberCachePolicy relevantMemberCachePolicy;
 
+	/**
+	 * Routes guild lookups to the shard of the guild. Null until the bot has been started
+	 */
 	@Getter
-	private JDA jda;
+	private ShardManager shardManager;
 
 	private static final String TOKEN_PREFIX = "Bot ";
 
 	public void startUp() {
 		String token = stripPrefixIfExists(discordProperties.getToken(), TOKEN_PREFIX);
+		final boolean cacheAllMembers = discordProperties.getMemberCache() == MemberCache.ALL;
+		final MemberCachePolicy memberCachePolicy;
+		if (cacheAllMembers) {
+			memberCachePolicy = MemberCachePolicy.ALL;
+		} else {
+			relevantMemberCachePolicy.startUp();
+			memberCachePolicy = relevantMemberCachePolicy;
+		}
 
-		jda = JDABuilder
+		//Shards connect one after another in the background. Each shard initializes its guilds as soon as it is ready
+		shardManager = DefaultShardManagerBuilder
 				.create(token, GUILD_MEMBERS, GUILD_MESSAGES)
+				.setShardsTotal(discordProperties.getShardsTotal())
 				.addEventListeners(
-						new GuildEventListener(commandsService, eventDiscordInformationService, guildUsersBotService),
-						new InteractionListener(commandClassHelper, messageSource),
+						new GuildEventListener(commandsService, eventDiscordInformationService, guildUsersBotService, cacheService, memberCachePolicy),
+						new InteractionListener(interactionRegistry, messageSource),
 						new DeleteListener(eventDiscordInformationService, guildBotService, messageSource))
 				.disableIntents(GUILD_MODERATION, GUILD_EMOJIS_AND_STICKERS, GUILD_WEBHOOKS, GUILD_INVITES, GUILD_VOICE_STATES, GUILD_PRESENCES, GUILD_MESSAGE_REACTIONS, GUILD_MESSAGE_TYPING, DIRECT_MESSAGES, DIRECT_MESSAGE_REACTIONS, DIRECT_MESSAGE_TYPING, MESSAGE_CONTENT, SCHEDULED_EVENTS, AUTO_MODERATION_CONFIGURATION, AUTO_MODERATION_EXECUTION)
 				.disableCache(ACTIVITY, VOICE_STATE, EMOJI, STICKER, CLIENT_STATUS, ONLINE_STATUS, CacheFlag.SCHEDULED_EVENTS)
-				.setMemberCachePolicy(MemberCachePolicy.ALL)
-				.setChunkingFilter(ChunkingFilter.ALL)
+				.setMemberCachePolicy(memberCachePolicy)
+				.setChunkingFilter(cacheAllMembers ? ChunkingFilter.ALL : ChunkingFilter.NONE)
 				.setLargeThreshold(250)
 				.build();
 	}
 
+	/**
+	 * Returns the shard that is connected to the given guild
+	 *
+	 * @param guildId guild to get shard for
+	 * @return shard of the guild or null if the shard hasn't been started yet
+	 */
+	public JDA getShard(long guildId) {
+		return shardManager.getShardById((int) ((guildId >>> 22) % shardManager.getShardsTotal()));
+	}
+
+	/**
+	 * Looks up the given guild in the shard of the guild
+	 *
+	 * @param guildId guild to find
+	 * @return the guild or null if it is unknown or its shard isn't ready yet
+	 */
+	public Guild getGuild(long guildId) {
+		final JDA shard = getShard(guildId);
+		return shard != null ? shard.getGuildById(guildId) : null;
+	}
+
+	/**
+	 * Returns a shard for requests that don't belong to a guild, like opening private channels. Connected shards are
+	 * preferred
+	 */
+	public JDA getAnyShard() {
+		final List<JDA> shards = shardManager.getShardCache().asList();
+		return shards.stream()
+				.filter(shard -> shard.getStatus() == JDA.Status.CONNECTED)
+				.findAny()
+				.orElse(shards.getFirst());
+	}
+
 	@PreDestroy
 	private void cleanUp() {
-		jda.shutdownNow();
+		if (shardManager != null) {
+			shardManager.shutdown();
+		}
 	}
 }
@@ -1,14 +1,17 @@
 package de.webalf.slotbot.service.bot;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import de.webalf.slotbot.model.annotations.bot.ContextMenu;
 import de.webalf.slotbot.model.annotations.bot.SlashCommand;
-import de.webalf.slotbot.model.bot.TranslatableOptionData;
-import de.webalf.slotbot.util.bot.CommandClassHelper;
+import de.webalf.slotbot.service.GuildService;
+import de.webalf.slotbot.service.bot.command.DiscordSlashCommand;
 import de.webalf.slotbot.util.bot.ContextMenuUtils;
 import de.webalf.slotbot.util.bot.DiscordLocaleHelper;
+import de.webalf.slotbot.util.bot.InteractionRegistry;
 import de.webalf.slotbot.util.bot.SlashCommandUtils;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
@@ -17,15 +20,20 @@ import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.MessageSource;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static de.webalf.slotbot.configuration.ExecutorConfig.COMMAND_REGISTRATION_EXECUTOR;
 import static de.webalf.slotbot.util.bot.CommandClassHelper.getContextMenu;
 import static de.webalf.slotbot.util.bot.CommandClassHelper.getSlashCommand;
 import static de.webalf.slotbot.util.bot.DiscordLocaleHelper.DEFAULT_LOCALE;
@@ -37,22 +45,101 @@ import static net.dv8tion.jda.api.interactions.DiscordLocale.GERMAN;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class CommandsService {
-	private final CommandClassHelper commandClassHelper;
+	private final InteractionRegistry interactionRegistry;
 	private final MessageSource messageSource;
 
+	private final GuildService guildService;
+	private final TaskExecutor registrations;
+
 	private static final Set<DiscordLocale> LANGUAGES = Set.of(GERMAN);
+	private static final ObjectMapper FINGERPRINT_MAPPER = new ObjectMapper()
+			.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
 
 	/**
-	 * Updates application commands in the given guild
+	 * Guilds with a scheduled registration. Ready and available events of the same guild are registered once
+	 */
+	private final Set<Long> pendingGuilds = ConcurrentHashMap.newKeySet();
+	private volatile ApplicationCommands applicationCommands;
+
+	/**
+	 * Application commands that are registered in every guild
+	 *
+	 * @param commands    slash commands and context menus
+	 * @param fingerprint of the commands, see {@link #fingerprint(List)}
+	 */
+	record ApplicationCommands(List<CommandData> commands, String fingerprint) {}
+
+	public CommandsService(InteractionRegistry interactionRegistry, MessageSource messageSource, GuildService guildService,
+	                       @Qualifier(COMMAND_REGISTRATION_EXECUTOR) TaskExecutor registrations) {
+		this.interactionRegistry = interactionRegistry;
+		this.messageSource = messageSource;
+		this.guildService = guildService;
+		this.registrations = registrations;
+	}
+
+	/**
+	 * Updates application commands in the given guild. The commands are only sent to discord if their fingerprint
+	 * differs from the one of the last registration in this guild.
 	 *
 	 * @param guild to update commands for
 	 */
-	@Async
 	public void updateCommands(@NonNull Guild guild) {
+		final long guildId = guild.getIdLong();
+		if (!pendingGuilds.add(guildId)) {
+			log.debug("Command update for {} is already scheduled", guild.getName());
+			return;
+		}
+		registrations.execute(() -> {
+			try {
+				registerCommands(guild);
+			} catch (RuntimeException e) {
+				log.error("Failed to update commands for {}", guild.getName(), e);
+			} finally {
+				pendingGuilds.remove(guildId);
+			}
+		});
+	}
+
+	/**
+	 * Forgets the registered commands of the given guild. Discord removes the commands of a guild the bot left, so
+	 * they must be registered again if the bot rejoins
+	 *
+	 * @param guildId guild the bot left
+	 */
+	public void removeCommands(long guildId) {
+		guildService.updateCommandsFingerprint(guildId, null);
+	}
+
+	void registerCommands(@NonNull Guild guild) {
+		final ApplicationCommands commands = getApplicationCommands();
+		if (commands.fingerprint().equals(guildService.findCommandsFingerprint(guild.getIdLong()))) {
+			log.info("Commands for {} are up to date.", guild.getName());
+			return;
+		}
+
 		log.info("Updating commands for {}...", guild.getName());
+		guild.updateCommands().addCommands(commands.commands()).complete();
+		guildService.updateCommandsFingerprint(guild.getIdLong(), commands.fingerprint());
+		log.info("Updated commands for {}.", guild.getName());
+	}
+
+	/**
+	 * Builds the application commands on first use. They are the same for every guild
+	 */
+	ApplicationCommands getApplicationCommands() {
+		if (applicationCommands == null) {
+			synchronized (this) {
+				if (applicationCommands == null) {
+					final List<CommandData> commands = buildCommands();
+					applicationCommands = new ApplicationCommands(commands, fingerprint(commands));
+				}
+			}
+		}
+		return applicationCommands;
+	}
 
+	private List<CommandData> buildCommands() {
 		final Map<DiscordLocale, DiscordLocaleHelper> locales = LANGUAGES.stream()
 				.collect(Collectors.toMap(Function.identity(), language -> new DiscordLocaleHelper(language, messageSource)));
 		log.info("Translating to languages {}.", locales.keySet());
@@ -90,27 +177,53 @@ public class CommandsService {
 				}).toList();
 		log.info("Found {} context menus.", contextMenus.size());
 
-		guild.updateCommands().addCommands(slashCommands).addCommands(contextMenus).queue();
-		log.info("Queued command update for {}.", guild.getName());
+		final List<CommandData> commands = new ArrayList<>(slashCommands);
+		commands.addAll(contextMenus);
+		return commands;
 	}
 
-	private List<OptionData> getOptions(@NonNull Class<?> commandClass, int optionPosition, @NonNull Map<DiscordLocale, DiscordLocaleHelper> locales) {
+	/**
+	 * Hashes the json that is sent to discord for the given commands. Object keys and commands are sorted, so that
+	 * the fingerprint doesn't depend on the iteration order of maps or the order the commands were found in.
+	 *
+	 * @param commands to fingerprint
+	 * @return hex encoded SHA-256 hash
+	 */
+	static String fingerprint(@NonNull List<CommandData> commands) {
+		final List<String> commandJsons = commands.stream()
+				.map(command -> {
+					try {
+						return FINGERPRINT_MAPPER.writeValueAsString(command.toData().toMap());
+					} catch (JsonProcessingException e) {
+						throw new IllegalStateException("Failed to serialize command " + command.getName(), e);
+					}
+				})
+				.sorted()
+				.toList();
 		try {
-			@SuppressWarnings("unchecked") //The class must implement an interface, and thus we can assume the correct return type here
-			final List<TranslatableOptionData> options = (List<TranslatableOptionData>) commandClass.getMethod("getOptions", int.class).invoke(commandClassHelper.getConstructor(commandClass), optionPosition);
-			return options.stream().map(option -> {
-				final String name = option.name();
-				final String description = option.description();
-				final OptionData optionData = option
-						.toOptionData(DEFAULT_LOCALE.t(name), DEFAULT_LOCALE.t(name));
-				locales.forEach((language, locale) -> optionData
-						.setNameLocalization(language, locale.t(name).toLowerCase())
-						.setDescriptionLocalization(language, locale.t(description)));
-				return optionData;
-			}).toList();
-		} catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException e) {
-			log.error("Failed to getOptions {}", e.getMessage());
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			commandJsons.forEach(json -> digest.update(json.getBytes(StandardCharsets.UTF_8)));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 isn't supported", e);
+		}
+	}
+
+	private List<OptionData> getOptions(@NonNull Class<?> commandClass, int optionPosition, @NonNull Map<DiscordLocale, DiscordLocaleHelper> locales) {
+		final DiscordSlashCommand slashCommand = interactionRegistry.getSlashCommand(commandClass);
+		if (slashCommand == null) {
+			log.error("Failed to getOptions of {}", commandClass.getName());
 			return Collections.emptyList();
 		}
+		return slashCommand.getOptions(optionPosition).stream().map(option -> {
+			final String name = option.name();
+			final String description = option.description();
+			final OptionData optionData = option
+					.toOptionData(DEFAULT_LOCALE.t(name), DEFAULT_LOCALE.t(name));
+			locales.forEach((language, locale) -> optionData
+					.setNameLocalization(language, locale.t(name).toLowerCase())
+					.setDescriptionLocalization(language, locale.t(description)));
+			return optionData;
+		}).toList();
 	}
 }
@@ -5,11 +5,13 @@ import de.webalf.slotbot.model.User;
 import de.webalf.slotbot.model.dtos.EventDiscordInformationDto;
 import de.webalf.slotbot.model.dtos.UserDto;
 import de.webalf.slotbot.model.event.EventArchiveInitializedEvent;
+import de.webalf.slotbot.service.EventCommandQueue;
 import de.webalf.slotbot.service.EventService;
 import lombok.RequiredArgsConstructor;
 import net.dv8tion.jda.api.entities.Guild;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -26,6 +28,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class EventBotService {
 	private final EventService eventService;
+	private final EventCommandQueue eventCommandQueue;
 	private final GuildBotService guildBotService;
 	private final ApplicationEventPublisher eventPublisher;
 
@@ -41,6 +44,10 @@ public class EventBotService {
 		return eventService.findByChannel(channel);
 	}
 
+	public long findIdByChannel(long channel) {
+		return eventService.findIdByChannel(channel);
+	}
+
 	public List<Event> findAllNotAssignedInFuture(long guildId) {
 		return eventService.findAllNotAssignedInFuture(guildId);
 	}
@@ -67,24 +74,49 @@ public class EventBotService {
 						.build()));
 	}
 
+	/**
+	 * Slots the given user through the {@link EventCommandQueue} of the event in the given channel and waits for the
+	 * result. The waiting thread doesn't hold a transaction.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void slot(long channel, int slotNumber, String userId) {
-		eventService.slot(findByChannelOrThrow(channel), slotNumber, Long.parseLong(userId));
+		final long eventId = eventService.findIdByChannel(channel);
+		eventCommandQueue.execute(eventId, () -> eventService.slot(eventService.findById(eventId), slotNumber, Long.parseLong(userId)));
 	}
 
+	/**
+	 * @see #slot(long, int, String)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void blockSlot(long channel, int slotNumber, String replacementText) {
-		eventService.blockSlot(findByChannelOrThrow(channel), slotNumber, replacementText);
+		final long eventId = eventService.findIdByChannel(channel);
+		eventCommandQueue.execute(eventId, () -> eventService.blockSlot(eventService.findById(eventId), slotNumber, replacementText));
 	}
 
+	/**
+	 * @see #slot(long, int, String)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void unslot(long channel, String userId) {
-		eventService.unslot(findByChannelOrThrow(channel), userDtoWithId(userId));
+		final long eventId = eventService.findIdByChannel(channel);
+		eventCommandQueue.execute(eventId, () -> eventService.unslot(eventService.findById(eventId), userDtoWithId(userId)));
 	}
 
+	/**
+	 * @see #slot(long, int, String)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void unslot(long channel, int slotNumber) {
-		eventService.unslot(findByChannelOrThrow(channel), slotNumber);
+		final long eventId = eventService.findIdByChannel(channel);
+		eventCommandQueue.execute(eventId, () -> eventService.unslot(eventService.findById(eventId), slotNumber));
 	}
 
+	/**
+	 * @see #slot(long, int, String)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void randomSlot(long channel, String userId) {
-		eventService.randomSlot(channel, userDtoWithId(userId));
+		eventCommandQueue.execute(eventService.findIdByChannel(channel), () -> eventService.randomSlot(channel, userDtoWithId(userId)));
 	}
 
 	public void addSlot(long channel, int squadNumber, Integer slotNumber, String slotName) {
@@ -1,10 +1,14 @@
 package de.webalf.slotbot.service.bot;
 
 import de.webalf.slotbot.model.Event;
-import de.webalf.slotbot.model.NotificationMap;
+import de.webalf.slotbot.model.EventNotification;
+import de.webalf.slotbot.model.NotificationSetting;
+import de.webalf.slotbot.model.NotificationTimeIndex;
 import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.event.EventArchiveEvent;
 import de.webalf.slotbot.model.event.EventMetadataUpdateEvent;
 import de.webalf.slotbot.model.event.SlotUserChangedEvent;
+import de.webalf.slotbot.repository.EventNotificationRepository;
 import de.webalf.slotbot.service.EventService;
 import de.webalf.slotbot.service.NotificationSettingsService;
 import de.webalf.slotbot.service.SchedulerService;
@@ -17,18 +21,22 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.function.Predicate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static net.dv8tion.jda.api.utils.TimeFormat.RELATIVE;
 
 /**
+ * Persists reminders for event participants as {@link EventNotification}s and sends them once they are due.
+ * Only the notifications due within the {@link #PRELOAD_WINDOW} are held in memory.
+ *
  * @author Alf
  * @since 07.08.2021
  */
@@ -39,12 +47,20 @@ import static net.dv8tion.jda.api.utils.TimeFormat.RELATIVE;
 public class EventNotificationService {
 	private final SchedulerService schedulerService;
 	private final NotificationSettingsService notificationSettingsService;
+	private final EventNotificationRepository notificationRepository;
 	private final DirectMessageHelper directMessageHelper;
 	private final EventService eventService;
 	private final MessageSource messageSource;
+	private final TransactionTemplate transactionTemplate;
 
-	@Getter
-	private static final Map<NotificationIdentifier, ScheduledFuture<?>> SCHEDULED_NOTIFICATIONS = new NotificationMap<>();
+	private static final Duration PRELOAD_WINDOW = Duration.ofHours(1);
+	private static final Duration PRELOAD_INTERVAL = Duration.ofMinutes(15);
+
+	private final NotificationTimeIndex dueSoon = new NotificationTimeIndex();
+	/**
+	 * All notifications with a notification time before or equal to this are present in {@link #dueSoon}
+	 */
+	private volatile LocalDateTime loadedUntil = LocalDateTime.MIN;
 
 	@Value
 	@Builder
@@ -55,7 +71,20 @@ public class EventNotificationService {
 		int delay;
 	}
 
-	@EventListener
+	/**
+	 * Fills the notification table from all future events if it is empty (e.g. on first start), loads the
+	 * notifications due soon and starts the periodic dispatch
+	 */
+	public void startUp() {
+		if (notificationRepository.count() == 0) {
+			rebuildAllNotifications();
+		}
+		preload(DateUtils.now());
+		schedulerService.scheduleAtFixedRate(() -> transactionTemplate.executeWithoutResult(status -> dispatchDueNotifications()),
+				1, 1, TimeUnit.MINUTES);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void createNotifications(@NonNull SlotUserChangedEvent changedEvent) {
 		if (changedEvent.previousUserIs()) {
@@ -74,26 +103,30 @@ public class EventNotificationService {
 	 * @param user  to notify
 	 */
 	public void createNotifications(@NonNull Event event, User user) {
-		final Locale guildLocale = event.getOwnerGuildLocale();
-
+		final LocalDateTime now = DateUtils.now();
 		notificationSettingsService.findSettings(user, event).forEach(notificationSetting -> {
-			final int delay = notificationSetting.getNotificationDelay(event.getDateTime());
-			if (delay < 0) {
+			final LocalDateTime notificationTime = notificationSetting.getNotificationTime(event.getDateTime()).truncatedTo(ChronoUnit.SECONDS);
+			if (notificationTime.isBefore(now)
+					|| notificationRepository.existsByEventIdAndUserIdAndNotificationTime(event.getId(), user.getId(), notificationTime)) {
 				return;
 			}
-			SCHEDULED_NOTIFICATIONS.computeIfAbsent(buildNotificationIdentifier(event, user, delay),
-					k -> schedulerService.schedule(
-							() -> directMessageHelper.sendDmToRecipient(user, messageSource.getMessage("event.reminder", new String[]{event.getName(), RELATIVE.format(DateUtils.getDateTimeZoned(event.getDateTime()))}, guildLocale)),
-							() -> SCHEDULED_NOTIFICATIONS.remove(k),
-							delay));
+			final EventNotification notification = notificationRepository.save(EventNotification.builder()
+					.eventId(event.getId())
+					.userId(user.getId())
+					.notificationTime(notificationTime)
+					.build());
+			if (!notificationTime.isAfter(loadedUntil)) {
+				dueSoon.add(notification);
+			}
 		});
 	}
 
 	/**
-	 * Deletes all existing and reschedules event notifications
+	 * Deletes all existing and recreates event notifications
 	 */
 	public void rebuildAllNotifications() {
-		SCHEDULED_NOTIFICATIONS.clear();
+		dueSoon.clear();
+		notificationRepository.deleteAllInBatch();
 		final List<Event> allInFuture = eventService.findAllInFuture();
 		log.info("Building notifications for {} events.", allInFuture.size());
 		allInFuture.forEach(this::createNotificationsForAllParticipants);
@@ -106,18 +139,45 @@ public class EventNotificationService {
 	@Async
 	public void updateNotifications(@NonNull EventMetadataUpdateEvent updateEvent) {
 		final long eventId = updateEvent.eventId();
-		removeNotifications(eventId);
+		deleteNotifications(eventId);
 		createNotificationsForAllParticipants(eventService.findById(eventId));
 	}
 
 	/**
-	 * {@link #createNotifications(Event, User)} for every participant of the given event ({@link Event#getAllParticipants()})
+	 * {@link #createNotifications(Event, User)} for every participant of the given event ({@link Event#getAllParticipants()}).
+	 * The settings of all participants and the existing notifications of the event are loaded at once.
 	 *
 	 * @param event to create notifications for
 	 */
 	private void createNotificationsForAllParticipants(@NonNull Event event) {
-		event.getAllParticipants().forEach(user ->
-				createNotifications(event, user));
+		final Map<Long, List<NotificationSetting>> settings = notificationSettingsService.findSettings(event.getAllParticipants(), event);
+		if (settings.isEmpty()) {
+			return;
+		}
+
+		final Map<Long, Set<LocalDateTime>> existingTimes = new HashMap<>();
+		notificationRepository.findAllByEventId(event.getId()).forEach(notification ->
+				existingTimes.computeIfAbsent(notification.getUserId(), userId -> new HashSet<>()).add(notification.getNotificationTime()));
+
+		final LocalDateTime now = DateUtils.now();
+		final List<EventNotification> notifications = new ArrayList<>();
+		settings.forEach((userId, userSettings) -> userSettings.forEach(notificationSetting -> {
+			final LocalDateTime notificationTime = notificationSetting.getNotificationTime(event.getDateTime()).truncatedTo(ChronoUnit.SECONDS);
+			if (notificationTime.isBefore(now)
+					|| !existingTimes.computeIfAbsent(userId, id -> new HashSet<>()).add(notificationTime)) {
+				return;
+			}
+			notifications.add(EventNotification.builder()
+					.eventId(event.getId())
+					.userId(userId)
+					.notificationTime(notificationTime)
+					.build());
+		}));
+		notificationRepository.saveAll(notifications).forEach(notification -> {
+			if (!notification.getNotificationTime().isAfter(loadedUntil)) {
+				dueSoon.add(notification);
+			}
+		});
 	}
 
 	/**
@@ -126,9 +186,20 @@ public class EventNotificationService {
 	 * @param event about which notifications should no longer be sent
 	 * @param user  to notify
 	 */
-	public static void removeNotifications(@NonNull Event event, @NonNull User user) {
-		getNotificationIdentifiersWhere(identifier -> identifier.getUserId() == user.getId() && identifier.getEventId() == event.getId())
-				.forEach(SCHEDULED_NOTIFICATIONS::remove);
+	public void removeNotifications(@NonNull Event event, @NonNull User user) {
+		dueSoon.removeByEventAndUser(event.getId(), user.getId());
+		notificationRepository.deleteAllByEventIdAndUserId(event.getId(), user.getId());
+	}
+
+	/**
+	 * Removes all notifications for the archived event, if it has been archived by its owner guild
+	 */
+	@EventListener
+	public void onEventArchiveEvent(@NonNull EventArchiveEvent archiveEvent) {
+		final Event event = archiveEvent.event();
+		if (event.getOwnerGuild().getId() == archiveEvent.guildId()) {
+			deleteNotifications(event.getId());
+		}
 	}
 
 	/**
@@ -136,20 +207,86 @@ public class EventNotificationService {
 	 *
 	 * @param eventId event to no longer notify about
 	 */
-	public static void removeNotifications(long eventId) {
-		getNotificationIdentifiersWhere(identifier -> identifier.getEventId() == eventId)
-				.forEach(SCHEDULED_NOTIFICATIONS::remove);
+	public void deleteNotifications(long eventId) {
+		dueSoon.removeByEvent(eventId);
+		notificationRepository.deleteAllByEventId(eventId);
+	}
+
+	/**
+	 * Returns all pending notifications with their remaining delay in minutes
+	 *
+	 * @return delay in minutes by notification
+	 */
+	public Map<NotificationIdentifier, Long> getScheduledNotifications() {
+		final LocalDateTime now = DateUtils.now();
+		return notificationRepository.findAllByOrderByNotificationTime().stream()
+				.collect(Collectors.toMap(
+						notification -> NotificationIdentifier.builder()
+								.eventId(notification.getEventId())
+								.userId(notification.getUserId())
+								.delay((int) ChronoUnit.MINUTES.between(now, notification.getNotificationTime()))
+								.build(),
+						notification -> ChronoUnit.MINUTES.between(now, notification.getNotificationTime()),
+						(first, second) -> first));
+	}
+
+	/**
+	 * Loads all notifications due within the {@link #PRELOAD_WINDOW} into the in-memory index. Notifications that
+	 * became due without being loaded (e.g. while the application was down) are deleted instead of being sent late.
+	 * Already loaded notifications are still sent from the index.
+	 *
+	 * @param now current time
+	 */
+	private void preload(@NonNull LocalDateTime now) {
+		final int missed = notificationRepository.deleteAllByNotificationTimeBefore(now);
+		if (missed > 0) {
+			log.info("Skipped {} missed notifications.", missed);
+		}
+		final LocalDateTime until = now.plus(PRELOAD_WINDOW);
+		notificationRepository.findAllByNotificationTimeLessThanEqual(until).forEach(dueSoon::add);
+		loadedUntil = until;
+		log.trace("Loaded notifications until {}. {} notifications due soon.", until, dueSoon.size());
 	}
 
-	private static NotificationIdentifier buildNotificationIdentifier(@NonNull Event event, @NonNull User user, int delay) {
-		return NotificationIdentifier.builder()
-				.eventId(event.getId())
-				.userId(user.getId())
-				.delay(delay)
-				.build();
+	/**
+	 * Sends and deletes all due notifications. Refreshes the in-memory index if the {@link #PRELOAD_WINDOW} is about to run out.
+	 */
+	private void dispatchDueNotifications() {
+		final LocalDateTime now = DateUtils.now();
+		if (loadedUntil.isBefore(now.plus(PRELOAD_WINDOW).minus(PRELOAD_INTERVAL))) {
+			preload(now);
+		}
+
+		final List<EventNotification> dueNotifications = dueSoon.pollDue(now);
+		if (dueNotifications.isEmpty()) {
+			return;
+		}
+		dueNotifications.stream()
+				.collect(Collectors.groupingBy(EventNotification::getEventId))
+				.forEach(this::sendNotifications);
+		notificationRepository.deleteAllByIdInBatch(dueNotifications.stream().map(EventNotification::getId).toList());
 	}
 
-	private static Set<NotificationIdentifier> getNotificationIdentifiersWhere(Predicate<NotificationIdentifier> filterPredicate) {
-		return SCHEDULED_NOTIFICATIONS.keySet().stream().filter(filterPredicate).collect(Collectors.toUnmodifiableSet());
+	/**
+	 * Sends the given notifications of one event to their recipients, if the event still takes place in the future
+	 * and the recipient is still participating
+	 *
+	 * @param eventId       event to notify about
+	 * @param notifications due notifications for this event
+	 */
+	private void sendNotifications(long eventId, @NonNull List<EventNotification> notifications) {
+		final Optional<Event> optionalEvent = eventService.findOptionalById(eventId);
+		if (optionalEvent.isEmpty() || !DateUtils.isInFuture(optionalEvent.get().getDateTime())) {
+			return;
+		}
+		final Event event = optionalEvent.get();
+
+		final Set<Long> participantIds = event.getAllParticipants().stream().map(User::getId).collect(Collectors.toUnmodifiableSet());
+		final String message = messageSource.getMessage("event.reminder", new String[]{event.getName(), RELATIVE.format(DateUtils.getDateTimeZoned(event.getDateTime()))}, event.getOwnerGuildLocale());
+		notifications.stream()
+				.map(EventNotification::getUserId)
+				.filter(participantIds::contains)
+				.distinct()
+				.forEach(userId -> directMessageHelper.sendDmToRecipient(userId, message));
 	}
 }
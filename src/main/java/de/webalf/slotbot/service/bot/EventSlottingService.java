@@ -14,13 +14,14 @@ import de.webalf.slotbot.util.EventUtils;
 import de.webalf.slotbot.util.bot.DirectMessageHelper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.sharding.ShardManager;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Locale;
 
@@ -45,7 +46,7 @@ public class EventSlottingService {
 	private final SwapRequestService swapRequestService;
 	private final ApplicationEventPublisher eventPublisher;
 
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void slottingUpdate(@NonNull SlotUserChangedEvent changedEvent) {
 		final Event event = changedEvent.event();
@@ -85,12 +86,12 @@ public class EventSlottingService {
 		);
 	}
 
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void swapRequestCreated(@NonNull SwapRequestCreatedEvent swapRequest) {
-		final JDA jda = botService.getJda();
-		final net.dv8tion.jda.api.entities.User foreign = jda.retrieveUserById(swapRequest.foreign().getId()).complete();
-		final net.dv8tion.jda.api.entities.User requester = jda.retrieveUserById(swapRequest.requester().getId()).complete();
+		final ShardManager shardManager = botService.getShardManager();
+		final net.dv8tion.jda.api.entities.User foreign = shardManager.retrieveUserById(swapRequest.foreign().getId()).complete();
+		final net.dv8tion.jda.api.entities.User requester = shardManager.retrieveUserById(swapRequest.requester().getId()).complete();
 		final Slot requesterSlot = swapRequest.requesterSlot();
 		final Slot foreignSlot = swapRequest.foreignSlot();
 		final Locale locale = swapRequest.event().getOwnerGuildLocale();
@@ -119,7 +120,7 @@ public class EventSlottingService {
 		);
 	}
 
-	@EventListener
+	@TransactionalEventListener(fallbackExecution = true)
 	@Async
 	public void swapRequestAccepted(@NonNull SwapRequestAcceptedEvent acceptedEvent) {
 		directMessageHelper.deleteDmOfRecipient(acceptedEvent.requestedUserId(), acceptedEvent.messageId());
@@ -129,8 +130,8 @@ public class EventSlottingService {
 	@Async
 	public void swapRequestDeclined(@NonNull SwapRequestDeclinedEvent declinedEvent) {
 		if (declinedEvent.messageId() != null) {
-			final net.dv8tion.jda.api.entities.User requester = botService.getJda().retrieveUserById(declinedEvent.requesterUserId()).complete();
-			final net.dv8tion.jda.api.entities.User foreign = botService.getJda().retrieveUserById(declinedEvent.foreignUserId()).complete();
+			final net.dv8tion.jda.api.entities.User requester = botService.getShardManager().retrieveUserById(declinedEvent.requesterUserId()).complete();
+			final net.dv8tion.jda.api.entities.User foreign = botService.getShardManager().retrieveUserById(declinedEvent.foreignUserId()).complete();
 			editDmAndRemoveComponents(foreign, declinedEvent.messageId(), messageSource.getMessage("bot.button.swap.declined.decliner", new String[]{requester.getAsMention()}, declinedEvent.locale()));
 			sendDm(requester, messageSource.getMessage("bot.button.swap.declined.requester", new String[]{foreign.getAsMention()}, declinedEvent.locale()));
 		}
@@ -54,12 +54,31 @@ public class GuildUsersBotService {
 		scheduleRoleChange(guildId, userId, removedDiscordRoles, memberRoles);
 	}
 
+	/**
+	 * Synchronizes the roles of a member whose role changes may not have been observed, because the member wasn't
+	 * cached. Members are only processed if they have a configured role or are already member of the guild in this
+	 * application.
+	 *
+	 * @param knownMember true if the member may already be member of any guild in this application
+	 */
+	@Async
+	public void memberUpdated(long guildId, long userId, List<Role> memberRoles, boolean knownMember) {
+		if (guildUsersService.noRoleConfiguredForGuild(guildId, getRoleIds(memberRoles))
+				&& !(knownMember && guildUsersService.exists(guildId, userId))) {
+			return;
+		}
+		scheduleRoleChange(guildId, userId, memberRoles);
+	}
+
 	private void scheduleRoleChange(long guildId, long userId, List<Role> changedDiscordRoles, List<Role> memberRoles) {
 		final Set<Long> changedRoleIds = getRoleIds(changedDiscordRoles);
 		if (guildUsersService.noRoleConfiguredForGuild(guildId, changedRoleIds)) {
 			return;
 		}
+		scheduleRoleChange(guildId, userId, memberRoles);
+	}
 
+	private void scheduleRoleChange(long guildId, long userId, List<Role> memberRoles) {
 		final GuildMember guildMember = new GuildMember(guildId, userId);
 		final RoleChange roleChange = SCHEDULED_ROLE_CHANGE.get(guildMember);
 		if (roleChange != null) {
@@ -0,0 +1,58 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.repository.GuildUsersRepository;
+import de.webalf.slotbot.repository.SlotRepository;
+import de.webalf.slotbot.service.SchedulerService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches only members that are known to the application. These are users with a
+ * {@link de.webalf.slotbot.model.GuildUser} and users slotted in upcoming events. The known users are reloaded
+ * periodically. All other members are loaded on demand.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelevantMemberCachePolicy implements MemberCachePolicy {
+	private final GuildUsersRepository guildUsersRepository;
+	private final SlotRepository slotRepository;
+	private final SchedulerService schedulerService;
+
+	static final long REFRESH_INTERVAL_MINUTES = 15;
+
+	private volatile Set<Long> relevantUserIds = Collections.emptySet();
+
+	/**
+	 * Loads the known users and reloads them every {@link #REFRESH_INTERVAL_MINUTES}
+	 */
+	public void startUp() {
+		refresh();
+		schedulerService.scheduleAtFixedRate(this::refresh, REFRESH_INTERVAL_MINUTES, REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+	}
+
+	void refresh() {
+		final Set<Long> userIds = new HashSet<>(guildUsersRepository.findAllUserIds());
+		userIds.addAll(slotRepository.findUserIdsBySquadEventDateTimeAfter(LocalDateTime.now()));
+		log.debug("Caching members of {} users", userIds.size());
+		relevantUserIds = userIds;
+	}
+
+	@Override
+	public boolean cacheMember(@NonNull Member member) {
+		return relevantUserIds.contains(member.getIdLong());
+	}
+}
@@ -2,9 +2,11 @@ package de.webalf.slotbot.service.bot;
 
 import de.webalf.slotbot.model.SwapRequest;
 import de.webalf.slotbot.model.enums.SwapRequestResult;
+import de.webalf.slotbot.service.EventCommandQueue;
 import de.webalf.slotbot.service.SwapRequestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -19,17 +21,31 @@ import org.springframework.transaction.annotation.Transactional;
 public class SwapRequestBotService {
 	private final SwapRequestService swapRequestService;
 	private final EventBotService eventBotService;
+	private final EventCommandQueue eventCommandQueue;
 
 	private SwapRequest findById(long swapRequestId) {
 		return swapRequestService.findById(swapRequestId);
 	}
 
+	/**
+	 * Requests the swap through the {@link EventCommandQueue} of the event in the given channel and waits for the
+	 * result
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public SwapRequestResult swapByUsers(long channel, long requesterId, long foreignId) {
-		return swapRequestService.swapByUsers(eventBotService.findByChannelOrThrow(channel), requesterId, foreignId);
+		final long eventId = eventBotService.findIdByChannel(channel);
+		return eventCommandQueue.execute(eventId, () -> swapRequestService.swapByUsers(eventBotService.findById(eventId), requesterId, foreignId));
 	}
 
+	/**
+	 * Performs the swap through the {@link EventCommandQueue} of the event and waits for it
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void accept(long swapRequestId) {
-		swapRequestService.performSwap(findById(swapRequestId));
+		eventCommandQueue.execute(swapRequestService.findEventIdById(swapRequestId), () -> {
+			swapRequestService.performSwap(findById(swapRequestId));
+			return null;
+		});
 	}
 
 	public void decline(long swapRequestId) {
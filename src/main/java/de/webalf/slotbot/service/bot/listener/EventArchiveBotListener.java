@@ -29,7 +29,7 @@ public class EventArchiveBotListener {
 
 	@EventListener
 	public void onEventArchiveEvent(@NonNull EventArchiveEvent event) {
-		onEventArchive(event.event(), guildService.find(event.guildId()), botService.getJda().getGuildById(event.guildId()));
+		onEventArchive(event.event(), guildService.find(event.guildId()), botService.getGuild(event.guildId()));
 	}
 
 	@EventListener
@@ -6,9 +6,12 @@ import de.webalf.slotbot.service.bot.BotService;
 import de.webalf.slotbot.service.bot.EventBotService;
 import de.webalf.slotbot.util.EventHelper;
 import de.webalf.slotbot.util.ListUtils;
+import de.webalf.slotbot.util.bot.MessageEditHelper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildMessageChannel;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -30,6 +33,7 @@ public class EventUpdateBotListener {
 	private final EventBotService eventBotService;
 	private final BotService botService;
 	private final EventHelper eventHelper;
+	private final MessageEditHelper messageEditHelper;
 
 	@EventListener
 	@Async
@@ -37,7 +41,8 @@ public class EventUpdateBotListener {
 		final Event event = eventBotService.findById(updateEvent.event());
 
 		event.getDiscordInformation().forEach(discordInformation -> {
-			final MessageChannel eventChannel = botService.getJda().getChannelById(MessageChannel.class, discordInformation.getChannel());
+			final Guild guild = botService.getGuild(discordInformation.getGuild().getId());
+			final MessageChannel eventChannel = guild != null ? guild.getChannelById(GuildMessageChannel.class, discordInformation.getChannel()) : null;
 			if (eventChannel == null) {
 				throw new IllegalStateException("Channel " + discordInformation.getChannel() + " couldn't be found.");
 			}
@@ -45,13 +50,13 @@ public class EventUpdateBotListener {
 			final Locale guildLocale = discordInformation.getGuild().getLocale();
 			if (updateEvent.embedChanged()) {
 				log.trace("Edit embed of {} in {}", event.getId(), discordInformation.getChannel());
-				eventChannel.editMessageEmbedsById(discordInformation.getInfoMsg(), eventHelper.buildDetailsEmbed(event, guildLocale)).queue();
+				messageEditHelper.editMessageEmbed(eventChannel, discordInformation.getInfoMsg(), eventHelper.buildDetailsEmbed(event, guildLocale));
 			}
 			if (updateEvent.slotlistChanged()) {
 				log.trace("Edit slotlist of {} in {}", event.getId(), discordInformation.getChannel());
 				final List<String> slotList = eventHelper.buildSlotList(event, discordInformation.getGuild().getId(),guildLocale);
-				eventChannel.editMessageById(discordInformation.getSlotListMsgPartOne(), ListUtils.shift(slotList)).queue();
-				eventChannel.editMessageById(discordInformation.getSlotListMsgPartTwo(), spacerCharIfEmpty(ListUtils.shift(slotList))).queue();
+				messageEditHelper.editMessage(eventChannel, discordInformation.getSlotListMsgPartOne(), ListUtils.shift(slotList));
+				messageEditHelper.editMessage(eventChannel, discordInformation.getSlotListMsgPartTwo(), spacerCharIfEmpty(ListUtils.shift(slotList)));
 			}
 		});
 	}
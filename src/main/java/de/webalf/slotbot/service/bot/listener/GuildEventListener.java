@@ -1,5 +1,6 @@
 package de.webalf.slotbot.service.bot.listener;
 
+import de.webalf.slotbot.service.CacheService;
 import de.webalf.slotbot.service.EventDiscordInformationService;
 import de.webalf.slotbot.service.bot.CommandsService;
 import de.webalf.slotbot.service.bot.GuildUsersBotService;
@@ -8,17 +9,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.guild.*;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberUpdateEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateAvatarEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.session.ReadyEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateAvatarEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateGlobalNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.utils.MemberCachePolicy;
 
 /**
  * This requires Intents
  * <ul>
- *     <li>{@link GatewayIntent#GUILD_MEMBERS} to check for added or removed roles of a member</li>
+ *     <li>{@link GatewayIntent#GUILD_MEMBERS} to check for added or removed roles of a member and to evict changed members from the cache</li>
  * </ul>
  *
  * @author Alf
@@ -30,6 +40,13 @@ public class GuildEventListener extends ListenerAdapter {
 	private final CommandsService commandsService;
 	private final EventDiscordInformationService eventDiscordInformationService;
 	private final GuildUsersBotService guildUsersBotService;
+	private final CacheService cacheService;
+	private final MemberCachePolicy memberCachePolicy;
+
+	@Override
+	public void onReady(@NonNull ReadyEvent event) {
+		log.info("Shard {} ready with {} guilds", event.getJDA().getShardInfo().getShardString(), event.getGuildTotalCount());
+	}
 
 	@Override
 	public void onGuildReady(@NonNull GuildReadyEvent event) {
@@ -43,6 +60,8 @@ public class GuildEventListener extends ListenerAdapter {
 
 	@Override
 	public void onGuildJoin(@NonNull GuildJoinEvent event) {
+		//The bot may have been removed while it was offline, so the commands of the last registration are gone
+		commandsService.removeCommands(event.getGuild().getIdLong());
 		initializeGuild(event);
 	}
 
@@ -55,24 +74,70 @@ public class GuildEventListener extends ListenerAdapter {
 	@Override
 	public void onGuildMemberRoleAdd(@NonNull GuildMemberRoleAddEvent event) {
 		final Member member = event.getMember();
+		cacheService.evictMember(event.getGuild().getIdLong(), member.getIdLong());
 		guildUsersBotService.memberRolesAdd(event.getGuild().getIdLong(), member.getIdLong(), event.getRoles(), member.getRoles());
 	}
 
 	@Override
 	public void onGuildMemberRoleRemove(@NonNull GuildMemberRoleRemoveEvent event) {
 		final Member member = event.getMember();
+		cacheService.evictMember(event.getGuild().getIdLong(), member.getIdLong());
 		guildUsersBotService.memberRolesRemove(event.getGuild().getIdLong(), member.getIdLong(), event.getRoles(), member.getRoles());
 	}
 
+	/**
+	 * Role events are only fired for cached members. Changes of members that aren't cached are processed here
+	 */
+	@Override
+	public void onGuildMemberUpdate(@NonNull GuildMemberUpdateEvent event) {
+		if (memberCachePolicy == MemberCachePolicy.ALL) {
+			return;
+		}
+		final Member member = event.getMember();
+		guildUsersBotService.memberUpdated(event.getGuild().getIdLong(), member.getIdLong(), member.getRoles(), memberCachePolicy.cacheMember(member));
+	}
+
 	@Override
 	public void onGuildLeave(@NonNull GuildLeaveEvent event) {
 		final Guild guild = event.getGuild();
 		log.info("Cleanup for guild: {}", guild.getName());
 		eventDiscordInformationService.removeByGuild(guild.getIdLong());
+		commandsService.removeCommands(guild.getIdLong());
 	}
 
 	@Override
 	public void onGuildMemberRemove(@NonNull GuildMemberRemoveEvent event) {
+		cacheService.evictMember(event.getGuild().getIdLong(), event.getUser().getIdLong());
 		guildUsersBotService.remove(event.getGuild().getIdLong(), event.getUser().getIdLong());
 	}
+
+	@Override
+	public void onGuildMemberUpdateNickname(@NonNull GuildMemberUpdateNicknameEvent event) {
+		cacheService.evictMember(event.getGuild().getIdLong(), event.getMember().getIdLong());
+	}
+
+	@Override
+	public void onGuildMemberUpdateAvatar(@NonNull GuildMemberUpdateAvatarEvent event) {
+		cacheService.evictMember(event.getGuild().getIdLong(), event.getMember().getIdLong());
+	}
+
+	@Override
+	public void onUserUpdateName(@NonNull UserUpdateNameEvent event) {
+		evictUser(event.getUser());
+	}
+
+	@Override
+	public void onUserUpdateGlobalName(@NonNull UserUpdateGlobalNameEvent event) {
+		evictUser(event.getUser());
+	}
+
+	@Override
+	public void onUserUpdateAvatar(@NonNull UserUpdateAvatarEvent event) {
+		evictUser(event.getUser());
+	}
+
+	private void evictUser(@NonNull User user) {
+		cacheService.evictUser(user.getIdLong());
+		user.getMutualGuilds().forEach(guild -> cacheService.evictMember(guild.getIdLong(), user.getIdLong()));
+	}
 }
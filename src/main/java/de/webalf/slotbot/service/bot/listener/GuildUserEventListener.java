@@ -10,8 +10,8 @@ import de.webalf.slotbot.service.integration.GuildDiscordService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.UserSnowflake;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -44,7 +44,7 @@ public class GuildUserEventListener {
 		final net.dv8tion.jda.api.entities.Guild discordGuild = getGuildById(guildId);
 		final Role discordRole = getRoleById(discordGuild, discordRoleId);
 		log.trace("Adding role {} to user {} in guild {}", discordRole, event.userId(), guildId);
-		discordGuild.addRoleToMember(getMemberById(discordGuild, event.userId()), discordRole).queue();
+		discordGuild.addRoleToMember(UserSnowflake.fromId(event.userId()), discordRole).queue();
 	}
 
 	@EventListener
@@ -66,10 +66,12 @@ public class GuildUserEventListener {
 		final Role oldDiscordRole = getRoleById(discordGuild, oldDiscordRoleId);
 		final Role newDiscordRole = getRoleById(discordGuild, newDiscordRoleId);
 		log.trace("Updating roles for user {} in guild {}. Old role {}, new role {}", event.userId(), guildId, oldDiscordRole, newDiscordRole);
-		discordGuild.modifyMemberRoles(
-						getMemberById(discordGuild, event.userId()),
+		//The member may not be cached, so it is retrieved before modifying its roles
+		discordGuild.retrieveMemberById(event.userId())
+				.flatMap(member -> discordGuild.modifyMemberRoles(
+						member,
 						newDiscordRole != null ? Set.of(newDiscordRole) : Collections.emptySet(),
-						oldDiscordRole != null ? Set.of(oldDiscordRole) : Collections.emptySet())
+						oldDiscordRole != null ? Set.of(oldDiscordRole) : Collections.emptySet()))
 				.queue();
 	}
 
@@ -86,27 +88,19 @@ public class GuildUserEventListener {
 		final net.dv8tion.jda.api.entities.Guild discordGuild = getGuildById(guildId);
 		final Role discordRole = getRoleById(discordGuild, discordRoleId);
 		log.trace("Removing role {} from user {} in guild {}", discordRole, event.userId(), guildId);
-		discordGuild.removeRoleFromMember(getMemberById(discordGuild, event.userId()), discordRole).queue();
+		discordGuild.removeRoleFromMember(UserSnowflake.fromId(event.userId()), discordRole).queue();
 	}
 
 	private static final String NOT_FOUND = " couldn't be found.";
 
 	private net.dv8tion.jda.api.entities.Guild getGuildById(long guildId) {
-		final net.dv8tion.jda.api.entities.Guild guild = botService.getJda().getGuildById(guildId);
+		final net.dv8tion.jda.api.entities.Guild guild = botService.getGuild(guildId);
 		if (guild == null) {
 			throw new IllegalStateException("Guild " + guildId + NOT_FOUND);
 		}
 		return guild;
 	}
 
-	private Member getMemberById(@NonNull net.dv8tion.jda.api.entities.Guild discordGuild, long userId) {
-		final Member member = discordGuild.getMemberById(userId);
-		if (member == null) {
-			throw new IllegalStateException("Member " + userId + NOT_FOUND);
-		}
-		return member;
-	}
-
 	private Role getRoleById(@NonNull net.dv8tion.jda.api.entities.Guild discordGuild, Long roleId) {
 		if (roleId == null) {
 			return null;
@@ -3,8 +3,13 @@ package de.webalf.slotbot.service.bot.listener;
 import de.webalf.slotbot.exception.BusinessRuntimeException;
 import de.webalf.slotbot.exception.ForbiddenException;
 import de.webalf.slotbot.exception.ResourceNotFoundException;
+import de.webalf.slotbot.service.bot.command.DiscordButton;
+import de.webalf.slotbot.service.bot.command.DiscordSlashCommand;
+import de.webalf.slotbot.service.bot.command.DiscordStringSelect;
+import de.webalf.slotbot.service.bot.command.DiscordUserContext;
 import de.webalf.slotbot.util.StringUtils;
-import de.webalf.slotbot.util.bot.*;
+import de.webalf.slotbot.util.bot.DiscordLocaleHelper;
+import de.webalf.slotbot.util.bot.InteractionRegistry;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +23,6 @@ import net.dv8tion.jda.api.interactions.components.ComponentInteraction;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.MessageSource;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.UUID;
 
 import static de.webalf.slotbot.util.bot.InteractionUtils.*;
@@ -30,7 +34,7 @@ import static de.webalf.slotbot.util.bot.InteractionUtils.*;
 @Slf4j
 @RequiredArgsConstructor
 public class InteractionListener extends ListenerAdapter {
-	private final CommandClassHelper commandClassHelper;
+	private final InteractionRegistry interactionRegistry;
 	private final MessageSource messageSource;
 
 	@Override
@@ -39,8 +43,8 @@ public class InteractionListener extends ListenerAdapter {
 		log.debug("Received slash command: '{}' from {}", event.getCommandString(), event.getUser().getId());
 
 		final DiscordLocaleHelper locale = new DiscordLocaleHelper(event.getUserLocale(), messageSource);
-		final Class<?> commandClass = SlashCommandUtils.get(commandName);
-		if (commandClass == null) {
+		final DiscordSlashCommand command = interactionRegistry.getSlashCommand(commandName);
+		if (command == null) {
 			log.error("Received not known slash command: {}", commandName);
 			reply(event, locale.t("bot.interaction.response.unknown", commandName));
 			return;
@@ -49,25 +53,19 @@ public class InteractionListener extends ListenerAdapter {
 		ephemeralDeferReply(event);
 
 		try {
-			commandClass.getMethod("execute", SlashCommandInteractionEvent.class, DiscordLocaleHelper.class)
-					.invoke(commandClassHelper.getConstructor(commandClass), event, locale);
-		} catch (InvocationTargetException e) {
-			final Throwable cause = e.getCause();
-			if (cause instanceof BusinessRuntimeException || cause instanceof ForbiddenException || cause instanceof ResourceNotFoundException) {
-				if (StringUtils.isNotEmpty(cause.getMessage())) {
-					reply(event, cause.getMessage());
-				} else {
-					reply(event, locale.t("bot.interaction.response.notFound"));
-				}
+			command.execute(event, locale);
+		} catch (BusinessRuntimeException | ForbiddenException | ResourceNotFoundException e) {
+			if (StringUtils.isNotEmpty(e.getMessage())) {
+				reply(event, e.getMessage());
 			} else {
-				unknownException(event, commandClass, e);
+				reply(event, locale.t("bot.interaction.response.notFound"));
 			}
-		} catch (NoSuchMethodException | IllegalAccessException e) {
-			unknownException(event, commandClass, e);
+		} catch (RuntimeException e) {
+			unknownException(event, command.getClass(), e);
 		}
 	}
 
-	private void unknownException(@NonNull GenericCommandInteractionEvent event, @NonNull Class<?> commandClass, ReflectiveOperationException e) {
+	private void unknownException(@NonNull GenericCommandInteractionEvent event, @NonNull Class<?> commandClass, RuntimeException e) {
 		final String errorCode = getErrorCode(e);
 		log.error("Failed to execute command interaction {} with options {} - {}", commandClass.getName(), event.getOptions(), errorCode, e);
 		failedInteraction(event, "Sorry. Error Code: `" + errorCode + "`");
@@ -79,8 +77,8 @@ public class InteractionListener extends ListenerAdapter {
 		log.debug("Received selection menu event: '{}' from {}", componentId, event.getUser().getId());
 
 		final DiscordLocaleHelper locale = new DiscordLocaleHelper(event.getUserLocale(), messageSource);
-		final Class<?> aClass = StringSelectUtils.get(componentId);
-		if (aClass == null) {
+		final DiscordStringSelect stringSelect = interactionRegistry.getStringSelect(componentId);
+		if (stringSelect == null) {
 			log.error("Received not known selection menu: {}", componentId);
 			reply(event, locale.t("bot.interaction.response.unknown", componentId));
 			return;
@@ -89,12 +87,9 @@ public class InteractionListener extends ListenerAdapter {
 		deferEdit(event);
 
 		try {
-			aClass.getMethod("process", StringSelectInteractionEvent.class, DiscordLocaleHelper.class)
-					.invoke(commandClassHelper.getConstructor(aClass), event, locale);
-		} catch (InvocationTargetException e) {
-			handleInvocationTargetException(event, e, locale, aClass);
-		} catch (NoSuchMethodException | IllegalAccessException e) {
-			unknownException(event, aClass, e);
+			stringSelect.process(event, locale);
+		} catch (RuntimeException e) {
+			handleException(event, e, locale, stringSelect.getClass());
 		}
 	}
 
@@ -103,8 +98,8 @@ public class InteractionListener extends ListenerAdapter {
 		final String commandName = event.getName();
 		log.debug("Received user context interaction event: '{}' from {}", commandName, event.getUser().getId());
 
-		final Class<?> commandClass = ContextMenuUtils.get(commandName);
-		if (commandClass == null) {
+		final DiscordUserContext userContext = interactionRegistry.getUserContext(commandName);
+		if (userContext == null) {
 			log.error("Received not known context menu: {}", commandName);
 			return;
 		}
@@ -113,10 +108,9 @@ public class InteractionListener extends ListenerAdapter {
 
 		final DiscordLocaleHelper locale = new DiscordLocaleHelper(event.getUserLocale(), messageSource);
 		try {
-			commandClass.getMethod("perform", UserContextInteractionEvent.class, DiscordLocaleHelper.class)
-					.invoke(commandClassHelper.getConstructor(commandClass), event, locale);
-		} catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException e) {
-			unknownException(event, commandClass, e);
+			userContext.perform(event, locale);
+		} catch (RuntimeException e) {
+			unknownException(event, userContext.getClass(), e);
 		}
 	}
 
@@ -126,8 +120,8 @@ public class InteractionListener extends ListenerAdapter {
 		log.debug("Received button interaction event: '{}' from {}", componentId, event.getUser().getId());
 
 		final DiscordLocaleHelper locale = new DiscordLocaleHelper(event.getUserLocale(), messageSource);
-		final Class<?> aClass = ButtonUtils.get(componentId);
-		if (aClass == null) {
+		final DiscordButton button = interactionRegistry.getButton(componentId);
+		if (button == null) {
 			log.error("Received not known button id: {}", componentId);
 			reply(event, locale.t("bot.interaction.response.unknown", componentId));
 			return;
@@ -136,20 +130,16 @@ public class InteractionListener extends ListenerAdapter {
 		deferEdit(event);
 
 		try {
-			aClass.getMethod("handle", ButtonInteractionEvent.class, DiscordLocaleHelper.class)
-					.invoke(commandClassHelper.getConstructor(aClass), event, locale);
-		} catch (InvocationTargetException e) {
-			handleInvocationTargetException(event, e, locale, aClass);
-		} catch (NoSuchMethodException | IllegalAccessException e) {
-			unknownException(event, aClass, e);
+			button.handle(event, locale);
+		} catch (RuntimeException e) {
+			handleException(event, e, locale, button.getClass());
 		}
 	}
 
-	private void handleInvocationTargetException(@NotNull ComponentInteraction event, InvocationTargetException e, DiscordLocaleHelper locale, Class<?> aClass) {
-		Throwable cause = e.getCause();
-		if (cause instanceof BusinessRuntimeException || cause instanceof ForbiddenException || cause instanceof ResourceNotFoundException) {
-			if (StringUtils.isNotEmpty(cause.getMessage())) {
-				replyAndRemoveComponents(event, cause.getMessage());
+	private void handleException(@NotNull ComponentInteraction event, RuntimeException e, DiscordLocaleHelper locale, Class<?> aClass) {
+		if (e instanceof BusinessRuntimeException || e instanceof ForbiddenException || e instanceof ResourceNotFoundException) {
+			if (StringUtils.isNotEmpty(e.getMessage())) {
+				replyAndRemoveComponents(event, e.getMessage());
 			} else {
 				replyAndRemoveComponents(event, locale.t("bot.interaction.response.notFound"));
 			}
@@ -158,13 +148,13 @@ public class InteractionListener extends ListenerAdapter {
 		}
 	}
 
-	private void unknownException(@NonNull ComponentInteraction event, @NonNull Class<?> commandClass, ReflectiveOperationException e) {
+	private void unknownException(@NonNull ComponentInteraction event, @NonNull Class<?> commandClass, RuntimeException e) {
 		final String errorCode = getErrorCode(e);
 		log.error("Failed to process component interaction {} with id {} - {}", commandClass.getName(), event.getComponentId(), errorCode, e);
 		replyAndRemoveComponents(event, "Sorry. Error Code: `" + errorCode + "`");
 	}
 
-	private String getErrorCode(ReflectiveOperationException e) {
+	private String getErrorCode(RuntimeException e) {
 		final String message = e.getMessage();
 		return message != null ? UUID.nameUUIDFromBytes(message.getBytes()).toString() : UUID.randomUUID().toString();
 	}
@@ -1,25 +1,23 @@
 package de.webalf.slotbot.service.external;
 
-import de.webalf.slotbot.configuration.properties.DiscordProperties;
-import de.webalf.slotbot.exception.IgnoreErrorResponseErrorHandler;
 import de.webalf.slotbot.model.external.discord.DiscordGuildMember;
 import de.webalf.slotbot.model.external.discord.DiscordUser;
-import de.webalf.slotbot.util.LongUtils;
-import de.webalf.slotbot.util.RestTemplatesUtil;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static de.webalf.slotbot.constant.CacheNames.*;
 
 /**
  * @author Alf
@@ -29,7 +27,8 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 @Slf4j
 public class DiscordApiService {
-	private final DiscordProperties discordProperties;
+	private final DiscordRestClient discordRestClient;
+	private final CacheManager cacheManager;
 
 	/**
 	 * Returns the nickname for the given user on the server
@@ -38,63 +37,98 @@ public class DiscordApiService {
 	 * @param guildId server to get name on
 	 * @return nickname on server or username if not set
 	 */
-	@Cacheable("discordNicknames")
+	@Cacheable(DISCORD_NICKNAMES)
 	public String getName(String userId, long guildId) {
 		DiscordGuildMember guildMember = getGuildMemberWithUser(userId, guildId);
 		return guildMember.getEffectiveName();
 	}
 
-	private static final String UNKNOWN_USER_NAME = "Unbekannter Nutzer";
+	/**
+	 * Returns the nicknames of all given users on the server. Names that aren't cached by {@link #getName(String, long)}
+	 * yet are fetched concurrently and cached afterwards.
+	 *
+	 * @param userIds users to get names for
+	 * @param guildId server to get names on
+	 * @return nickname or username by user id
+	 */
+	public Map<Long, String> getNames(@NonNull Collection<Long> userIds, long guildId) {
+		final Cache cache = cacheManager.getCache(DISCORD_NICKNAMES);
+		final Map<Long, String> names = new HashMap<>();
+		final Map<Long, CompletableFuture<DiscordGuildMember>> pending = new HashMap<>();
+		for (Long userId : userIds) {
+			if (names.containsKey(userId) || pending.containsKey(userId)) {
+				continue;
+			}
+			final String userIdString = Long.toString(userId);
+			final Cache.ValueWrapper cached = cache != null ? cache.get(new SimpleKey(userIdString, guildId)) : null;
+			if (cached != null) {
+				names.put(userId, (String) cached.get());
+			} else {
+				pending.put(userId, getGuildMemberWithUserAsync(userIdString, guildId));
+			}
+		}
+
+		pending.forEach((userId, guildMember) -> {
+			final String name = guildMember.join().getEffectiveName();
+			names.put(userId, name);
+			if (cache != null) {
+				cache.put(new SimpleKey(Long.toString(userId), guildId), name);
+			}
+		});
+		return names;
+	}
+
+	static final String UNKNOWN_USER_NAME = "Unbekannter Nutzer";
 
 	/**
-	 * @see <a href="https://discord.com/developers/docs/resources/user#get-user" target"_top">https://discord.com/developers/docs/resources/user#get-user</a>
+	 * @see #getUserAsync(String)
 	 */
-	@Cacheable(cacheNames = "discordUser")
+	@Cacheable(DISCORD_USER)
 	public DiscordUser getUser(String userId) {
-		String url = "/users/" + userId;
+		return getUserAsync(userId).join();
+	}
 
-		return buildWebClient().get().uri(url).retrieve().bodyToMono(DiscordUser.class)
-				.onErrorResume(error -> {
-					log.error("Failed to get user {}", userId, error);
-					return Mono.just(DiscordUser.builder().username(UNKNOWN_USER_NAME).build());
-				})
-				.block();
+	/**
+	 * Returns the discord user with the given id. If the user couldn't be fetched an unknown user is returned
+	 *
+	 * @see <a href="https://discord.com/developers/docs/resources/user#get-user" target"_top">https://discord.com/developers/docs/resources/user#get-user</a>
+	 */
+	public CompletableFuture<DiscordUser> getUserAsync(String userId) {
+		return discordRestClient.get("/users", "/users/" + userId, DiscordUser.class)
+				.handle((user, error) -> {
+					if (user == null) {
+						log.error("Failed to get user {}", userId, error);
+						return DiscordUser.builder().username(UNKNOWN_USER_NAME).build();
+					}
+					return user;
+				});
 	}
 
 	public static boolean isUnknownUser(@NonNull DiscordUser user) {
 		return UNKNOWN_USER_NAME.equals(user.getUsername());
 	}
 
-	private boolean wait = false;
-	private long waitUntil;
-
 	/**
 	 * @see <a href="https://discord.com/developers/docs/resources/guild#get-guild-member" target="_top">https://discord.com/developers/docs/resources/guild#get-guild-member</a>
 	 */
-	private synchronized DiscordGuildMember getGuildMember(String userId, long guildId) {
-		String url = "/guilds/" + guildId + "/members/" + userId;
-
-		if (wait) {
-			try {
-				TimeUnit.SECONDS.sleep(Math.max(0, waitUntil - (System.currentTimeMillis() / 1000)));
-			} catch (InterruptedException e) {
-				log.error("Sleep was interrupted", e);
-			}
-			wait = false;
-		}
+	private CompletableFuture<DiscordGuildMember> getGuildMember(String userId, long guildId) {
+		return discordRestClient.get("/guilds/" + guildId + "/members", "/guilds/" + guildId + "/members/" + userId, DiscordGuildMember.class)
+				.handle((guildMember, error) -> {
+					if (error != null) {
+						log.error("Failed to get member {} of guild {}", userId, guildId, error);
+						return null;
+					}
+					if (guildMember != null) guildMember.setGuild(guildId);
+					return guildMember;
+				});
+	}
 
-		final ResponseEntity<DiscordGuildMember> response = RestTemplatesUtil
-				.get("https://discord.com/api/v10" + url, discordProperties.getToken(), new IgnoreErrorResponseErrorHandler(), DiscordGuildMember.class);
-		final HttpHeaders headers = response.getHeaders();
-		List<String> remainingHeaders = headers.get("x-ratelimit-remaining");
-		List<String> resetAfterHeaders = headers.get("x-ratelimit-reset-after");
-		if (!CollectionUtils.isEmpty(remainingHeaders) && !CollectionUtils.isEmpty(resetAfterHeaders) && "0".equals(remainingHeaders.getFirst())) {
-			wait = true;
-			waitUntil = (System.currentTimeMillis() / 1000) + LongUtils.parseCeilLongFromDoubleString(resetAfterHeaders.getFirst());
-		}
-		final DiscordGuildMember guildMember = response.getBody();
-		if (guildMember != null) guildMember.setGuild(guildId);
-		return guildMember;
+	/**
+	 * @see #getGuildMemberWithUserAsync(String, long)
+	 */
+	@Cacheable(GUILD_MEMBER)
+	public DiscordGuildMember getGuildMemberWithUser(String userId, long guildId) {
+		return getGuildMemberWithUserAsync(userId, guildId).join();
 	}
 
 	/**
@@ -104,21 +138,14 @@ public class DiscordApiService {
 	 * @param guildId guild of the user
 	 * @return {@link DiscordGuildMember} with the given user
 	 */
-	@Cacheable("guildMember")
-	public DiscordGuildMember getGuildMemberWithUser(String userId, long guildId) {
-		DiscordGuildMember member = getGuildMember(userId, guildId);
-		if (member.getUser() == null) {
-			log.warn("Fetching user of id " + userId);
-			DiscordUser user = getUser(userId);
-			member = DiscordGuildMember.builder().user(user).roles(Collections.emptySet()).build();
-		}
-		return member;
-	}
-
-	private WebClient buildWebClient() {
-		return WebClient.builder()
-				.baseUrl("https://discord.com/api/v10")
-				.defaultHeader(HttpHeaders.AUTHORIZATION, discordProperties.getToken())
-				.build();
+	public CompletableFuture<DiscordGuildMember> getGuildMemberWithUserAsync(String userId, long guildId) {
+		return getGuildMember(userId, guildId).thenCompose(member -> {
+			if (member != null && member.getUser() != null) {
+				return CompletableFuture.completedFuture(member);
+			}
+			log.warn("Fetching user of id {}", userId);
+			return getUserAsync(userId)
+					.thenApply(user -> DiscordGuildMember.builder().user(user).roles(Collections.emptySet()).build());
+		});
 	}
 }
@@ -0,0 +1,200 @@
+package de.webalf.slotbot.service.external;
+
+import de.webalf.slotbot.model.external.discord.DiscordGuildMember;
+import de.webalf.slotbot.model.external.discord.DiscordUser;
+import de.webalf.slotbot.service.bot.BotService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.Result;
+import net.dv8tion.jda.api.utils.concurrent.Task;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static de.webalf.slotbot.constant.CacheNames.DISCORD_NICKNAMES;
+
+/**
+ * Resolves many guild members at once. Members are looked up in the member cache of the bot first. The remaining
+ * members are requested in batches over the gateway and users that aren't member of the guild are fetched at last.
+ * Every request is bounded by the {@link #REQUEST_TIMEOUT}.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DiscordMemberService {
+	private final BotService botService;
+	private final DiscordApiService discordApiService;
+	private final CacheManager cacheManager;
+
+	/**
+	 * Maximum number of members that can be requested with one gateway request
+	 */
+	static final int MEMBER_REQUEST_LIMIT = 100;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * Returns the nicknames of the given users in the given guild. Names cached by
+	 * {@link DiscordApiService#getName(String, long)} are used and resolved names are cached the same way.
+	 *
+	 * @param userIds users to get names for
+	 * @param guildId guild to get names in
+	 * @return nickname or username by user id. Users that couldn't be resolved are named as unknown user
+	 */
+	public Map<Long, String> getNames(@NonNull Collection<Long> userIds, long guildId) {
+		final ShardManager shardManager = botService.getShardManager();
+		if (shardManager == null) {
+			log.debug("JDA not available, fallback to own api call");
+			return discordApiService.getNames(userIds, guildId);
+		}
+
+		final Cache cache = cacheManager.getCache(DISCORD_NICKNAMES);
+		final Map<Long, String> names = new HashMap<>();
+		final Set<Long> missing = new HashSet<>();
+		for (Long userId : userIds) {
+			final Cache.ValueWrapper cached = cache != null ? cache.get(nicknameKey(userId, guildId)) : null;
+			if (cached != null) {
+				names.put(userId, (String) cached.get());
+			} else {
+				missing.add(userId);
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			getMembers(shardManager, missing, guildId).forEach((userId, member) -> {
+				final String name = member.getEffectiveName();
+				names.put(userId, name);
+				if (cache != null) {
+					cache.put(nicknameKey(userId, guildId), name);
+				}
+			});
+		}
+		userIds.forEach(userId -> names.putIfAbsent(userId, DiscordApiService.UNKNOWN_USER_NAME));
+		return names;
+	}
+
+	/**
+	 * Key of {@link DiscordApiService#getName(String, long)} in the nickname cache
+	 */
+	private static SimpleKey nicknameKey(long userId, long guildId) {
+		return new SimpleKey(Long.toString(userId), guildId);
+	}
+
+	/**
+	 * Returns the given users as members of the given guild. Users that aren't member of the guild are returned as
+	 * {@link DiscordGuildMember} containing only the {@link DiscordUser}.
+	 *
+	 * @param userIds users to get members for
+	 * @param guildId guild to get members of
+	 * @return member by user id. Users that couldn't be resolved are missing
+	 */
+	public Map<Long, DiscordGuildMember> getMembers(@NonNull Collection<Long> userIds, long guildId) {
+		final ShardManager shardManager = botService.getShardManager();
+		if (shardManager == null) {
+			log.debug("JDA not available, fallback to own api call");
+			final Map<Long, CompletableFuture<DiscordGuildMember>> pending = new HashMap<>();
+			new HashSet<>(userIds).forEach(userId -> pending.put(userId,
+					discordApiService.getGuildMemberWithUserAsync(Long.toString(userId), guildId)
+							.orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)));
+
+			final Map<Long, DiscordGuildMember> members = new HashMap<>();
+			pending.forEach((userId, future) -> {
+				try {
+					final DiscordGuildMember member = future.join();
+					if (member != null) {
+						members.put(userId, member);
+					}
+				} catch (CompletionException e) {
+					log.warn("Failed to retrieve member {} of guild {}", userId, guildId, e);
+				}
+			});
+			return members;
+		}
+		return getMembers(shardManager, userIds, guildId);
+	}
+
+	private Map<Long, DiscordGuildMember> getMembers(@NonNull ShardManager shardManager, @NonNull Collection<Long> userIds, long guildId) {
+		final Map<Long, DiscordGuildMember> members = new HashMap<>();
+		final Set<Long> missing = new HashSet<>(userIds);
+
+		final Guild guild = botService.getGuild(guildId);
+		if (guild != null) {
+			missing.removeIf(userId -> {
+				final Member member = guild.getMemberById(userId);
+				if (member == null) {
+					return false;
+				}
+				members.put(userId, DiscordGuildMember.fromJda(member));
+				return true;
+			});
+			retrieveMembers(guild, missing).forEach(member -> {
+				members.put(member.getIdLong(), DiscordGuildMember.fromJda(member));
+				missing.remove(member.getIdLong());
+			});
+		}
+
+		if (!missing.isEmpty()) {
+			retrieveUsers(shardManager, missing).forEach(user ->
+					members.put(user.getIdLong(), DiscordGuildMember.builder().user(DiscordUser.fromJda(user)).build()));
+		}
+		return members;
+	}
+
+	/**
+	 * Requests the given members over the gateway. All batches are requested before waiting for the first one
+	 */
+	private static List<Member> retrieveMembers(@NonNull Guild guild, @NonNull Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final List<Long> ids = new ArrayList<>(userIds);
+		final List<Task<List<Member>>> tasks = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += MEMBER_REQUEST_LIMIT) {
+			tasks.add(guild.retrieveMembersByIds(ids.subList(from, Math.min(from + MEMBER_REQUEST_LIMIT, ids.size())))
+					.setTimeout(REQUEST_TIMEOUT));
+		}
+
+		final List<Member> members = new ArrayList<>(ids.size());
+		for (Task<List<Member>> task : tasks) {
+			try {
+				members.addAll(task.get());
+			} catch (RuntimeException e) {
+				log.warn("Failed to retrieve members of guild {}", guild.getIdLong(), e);
+			}
+		}
+		return members;
+	}
+
+	/**
+	 * Fetches the given users concurrently
+	 */
+	private static List<User> retrieveUsers(@NonNull ShardManager shardManager, @NonNull Collection<Long> userIds) {
+		final List<RestAction<Result<User>>> actions = userIds.stream()
+				.map(userId -> shardManager.retrieveUserById(userId).timeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).mapToResult())
+				.toList();
+		final List<User> users = new ArrayList<>(actions.size());
+		RestAction.allOf(actions).complete().forEach(result -> {
+			if (result.isSuccess()) {
+				users.add(result.get());
+			} else {
+				log.warn("Failed to retrieve user", result.getFailure());
+			}
+		});
+		return users;
+	}
+}
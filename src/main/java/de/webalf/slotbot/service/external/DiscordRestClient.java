@@ -0,0 +1,132 @@
+package de.webalf.slotbot.service.external;
+
+import de.webalf.slotbot.configuration.properties.DiscordProperties;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking client for the discord api. Requests are delayed according to the rate limit of their route and
+ * retried if a rate limit has been exceeded anyway.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Component
+@Slf4j
+public class DiscordRestClient {
+	private static final int MAX_RETRIES = 3;
+
+	private final WebClient webClient;
+	private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
+	private volatile long globalResetAt;
+
+	@Autowired
+	public DiscordRestClient(@NonNull DiscordProperties discordProperties) {
+		this(discordProperties.getApiUrl(), discordProperties.getToken());
+	}
+
+	DiscordRestClient(String baseUrl, String token) {
+		webClient = WebClient.builder()
+				.baseUrl(baseUrl)
+				.defaultHeader(HttpHeaders.AUTHORIZATION, token)
+				.build();
+	}
+
+	/**
+	 * Requests the given uri. Concurrent requests of the same uri share one request.
+	 *
+	 * @param bucket       rate limit bucket of the route. Must contain the major parameter of the route
+	 * @param uri          to request
+	 * @param responseType type of the response body
+	 * @return response body or null if discord responded with an error
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> get(@NonNull String bucket, @NonNull String uri, @NonNull Class<T> responseType) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final CompletableFuture<?> pending = pendingRequests.putIfAbsent(uri, future);
+		if (pending != null) {
+			log.trace("Joining pending request to {}", uri);
+			return (CompletableFuture<T>) pending;
+		}
+
+		exchange(buckets.computeIfAbsent(bucket, key -> new RateLimitBucket()), uri, responseType, 0)
+				.toFuture()
+				.whenComplete((body, error) -> {
+					pendingRequests.remove(uri, future);
+					if (error != null) {
+						future.completeExceptionally(error);
+					} else {
+						future.complete(body);
+					}
+				});
+		return future;
+	}
+
+	private <T> Mono<T> exchange(@NonNull RateLimitBucket bucket, String uri, Class<T> responseType, int attempt) {
+		return acquire(bucket).then(Mono.defer(() -> webClient.get().uri(uri).exchangeToMono(response -> {
+			final long now = System.currentTimeMillis();
+			final ClientResponse.Headers headers = response.headers();
+			final String limit = headers.asHttpHeaders().getFirst("X-RateLimit-Limit");
+			final String remaining = headers.asHttpHeaders().getFirst("X-RateLimit-Remaining");
+			final String resetAfter = headers.asHttpHeaders().getFirst("X-RateLimit-Reset-After");
+			if (limit != null && remaining != null && resetAfter != null) {
+				bucket.update(Integer.parseInt(limit), Integer.parseInt(remaining), toMillis(resetAfter), now);
+			}
+
+			if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+				final String retryAfterHeader = headers.asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+				final long retryAfter = retryAfterHeader != null ? toMillis(retryAfterHeader) : 1000;
+				if (Boolean.parseBoolean(headers.asHttpHeaders().getFirst("X-RateLimit-Global"))) {
+					globalResetAt = Math.max(globalResetAt, now + retryAfter);
+				} else {
+					bucket.block(retryAfter, now);
+				}
+				if (attempt >= MAX_RETRIES) {
+					return response.releaseBody().then(Mono.error(new IllegalStateException("Rate limit of " + uri + " exceeded")));
+				}
+				log.debug("Rate limit of {} exceeded. Retrying in {}ms", uri, retryAfter);
+				return response.releaseBody().then(exchange(bucket, uri, responseType, attempt + 1));
+			}
+			if (response.statusCode().isError()) {
+				log.debug("Request to {} failed with {}", uri, response.statusCode());
+				return response.releaseBody().then(Mono.empty());
+			}
+			return response.bodyToMono(responseType);
+		})));
+	}
+
+	/**
+	 * Completes once a request may be sent in the given bucket
+	 */
+	private Mono<Void> acquire(@NonNull RateLimitBucket bucket) {
+		return Mono.defer(() -> {
+			final long now = System.currentTimeMillis();
+			final long globalDelay = globalResetAt - now;
+			final long delay = globalDelay > 0 ? globalDelay : bucket.tryReserve(now);
+			if (delay <= 0) {
+				return Mono.empty();
+			}
+			return Mono.delay(Duration.ofMillis(delay)).then(acquire(bucket));
+		});
+	}
+
+	/**
+	 * Converts the given seconds with fractions to milliseconds
+	 */
+	private static long toMillis(@NonNull String seconds) {
+		return (long) Math.ceil(Double.parseDouble(seconds) * 1000);
+	}
+}
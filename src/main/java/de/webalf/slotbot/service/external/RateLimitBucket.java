@@ -0,0 +1,69 @@
+package de.webalf.slotbot.service.external;
+
+/**
+ * Tracks the rate limit of a discord route as reported by the rate limit headers
+ *
+ * @author Alf
+ * @see <a href="https://discord.com/developers/docs/topics/rate-limits" target="_top">https://discord.com/developers/docs/topics/rate-limits</a>
+ * @since 17.10.2026
+ */
+final class RateLimitBucket {
+	/**
+	 * Number of requests per window or -1 if unknown
+	 */
+	private int limit = -1;
+	/**
+	 * Requests left in the current window or -1 if unknown
+	 */
+	private int remaining = -1;
+	private long resetAt;
+	private long window;
+
+	/**
+	 * Reserves a request in this bucket
+	 *
+	 * @param now current time in milliseconds
+	 * @return 0 if the request was reserved or the milliseconds to wait before trying again
+	 */
+	synchronized long tryReserve(long now) {
+		if (now >= resetAt) {
+			remaining = limit;
+			resetAt = now + window;
+		}
+		if (remaining < 0) {
+			return 0;
+		}
+		if (remaining > 0) {
+			remaining--;
+			return 0;
+		}
+		return resetAt - now;
+	}
+
+	/**
+	 * Applies the rate limit reported by a response
+	 *
+	 * @param limit      requests per window
+	 * @param remaining  requests left in the current window
+	 * @param resetAfter milliseconds until the current window ends
+	 * @param now        current time in milliseconds
+	 */
+	synchronized void update(int limit, int remaining, long resetAfter, long now) {
+		this.limit = limit;
+		// Requests reserved after this response was sent aren't included in the reported remaining requests
+		this.remaining = this.remaining >= 0 && now < resetAt ? Math.min(this.remaining, remaining) : remaining;
+		resetAt = now + resetAfter;
+		window = Math.max(window, resetAfter);
+	}
+
+	/**
+	 * Blocks this bucket after a rate limit has been exceeded
+	 *
+	 * @param retryAfter milliseconds to wait
+	 * @param now        current time in milliseconds
+	 */
+	synchronized void block(long retryAfter, long now) {
+		remaining = 0;
+		resetAt = Math.max(resetAt, now + retryAfter);
+	}
+}
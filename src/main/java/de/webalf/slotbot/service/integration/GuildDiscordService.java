@@ -25,7 +25,7 @@ public class GuildDiscordService {
 	private final BotService botService;
 
 	public boolean isConnected(long guildId) {
-		return botService.getJda().getGuildById(guildId) != null;
+		return botService.getGuild(guildId) != null;
 	}
 
 	public boolean isAllowedToManageRoles(long guildId) {
@@ -63,7 +63,7 @@ public class GuildDiscordService {
 	}
 
 	private Guild getGuild(long guildId) {
-		final Guild guild = botService.getJda().getGuildById(guildId);
+		final Guild guild = botService.getGuild(guildId);
 		if (guild == null) {
 			throw BusinessRuntimeException.builder().title("Guild " + guildId + " couldn't be found.").build();
 		}
@@ -15,6 +15,12 @@ import org.springframework.stereotype.Component;
 public class HibernateInterceptor implements Interceptor {
 	private final UpdateInterceptorService updateInterceptorService;
 
+	@Override
+	public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) throws CallbackException {
+		updateInterceptorService.onSave(entity);
+		return Interceptor.super.onSave(entity, id, state, propertyNames, types);
+	}
+
 	@Override
 	public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState, String[] propertyNames, Type[] types) throws CallbackException {
 		updateInterceptorService.update(entity, currentState, previousState, propertyNames);
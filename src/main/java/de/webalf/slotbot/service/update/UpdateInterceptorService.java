@@ -1,7 +1,10 @@
 package de.webalf.slotbot.service.update;
 
 import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.authentication.ApiToken;
+import de.webalf.slotbot.model.event.ApiTokenUpdateEvent;
 import de.webalf.slotbot.model.event.EventMetadataUpdateEvent;
+import de.webalf.slotbot.model.event.GuildUpdateEvent;
 import de.webalf.slotbot.model.event.GuildUserRoleUpdateEvent;
 import de.webalf.slotbot.model.event.SlotUserChangedEvent;
 import de.webalf.slotbot.util.permissions.Role;
@@ -26,16 +29,36 @@ class UpdateInterceptorService {
 	private final ApplicationEventPublisher eventPublisher;
 
 	/**
-	 * Informs the discord bot about a deletion in an event
+	 * Informs about newly created guilds and api tokens
+	 *
+	 * @param entity that may be a guild or an api token
+	 */
+	void onSave(Object entity) {
+		if (entity instanceof final Guild guild) {
+			eventPublisher.publishEvent(new GuildUpdateEvent(guild.getId()));
+		} else if (entity instanceof final ApiToken apiToken) {
+			eventPublisher.publishEvent(new ApiTokenUpdateEvent(apiToken.getToken()));
+		}
+	}
+
+	/**
+	 * Informs the discord bot about a deletion in an event. Informs about guild and api token deletions
 	 *
 	 * @param entity that may be an event related object
 	 */
 	void onDelete(Object entity) {
+		if (entity instanceof final Guild guild) {
+			eventPublisher.publishEvent(new GuildUpdateEvent(guild.getId()));
+			return;
+		} else if (entity instanceof final ApiToken apiToken) {
+			eventPublisher.publishEvent(new ApiTokenUpdateEvent(apiToken.getToken()));
+			return;
+		}
 		eventUpdater.update(getEvent(entity));
 	}
 
 	/**
-	 * Informs the discord bot about an update in an event or a guild user role change
+	 * Informs the discord bot about an update in an event or a guild user role change. Informs about guild and api token changes
 	 *
 	 * @param entity        that may be an event related or guild user object
 	 * @param currentState  of the entity
@@ -48,7 +71,11 @@ class UpdateInterceptorService {
 			eventUpdater.update(eventUpdate);
 			return;
 		}
-		if (entity instanceof final GuildUser guildUser) {
+		if (entity instanceof final Guild guild) {
+			eventPublisher.publishEvent(new GuildUpdateEvent(guild.getId()));
+		} else if (entity instanceof final ApiToken apiToken) {
+			eventPublisher.publishEvent(new ApiTokenUpdateEvent(apiToken.getToken()));
+		} else if (entity instanceof final GuildUser guildUser) {
 			for (int i = 0; i < propertyNames.length; i++) {
 				if (propertyNames[i].equals(GuildUser_.ROLE)) {
 					final Role oldRole = (Role) previousState[i];
@@ -4,18 +4,18 @@ import de.webalf.slotbot.model.Event;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
+import net.fortuna.ical4j.data.FoldingWriter;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.component.VEvent;
-import net.fortuna.ical4j.model.property.Name;
-import net.fortuna.ical4j.model.property.ProdId;
-import net.fortuna.ical4j.model.property.Url;
+import net.fortuna.ical4j.model.property.*;
 import net.fortuna.ical4j.model.property.immutable.ImmutableCalScale;
 import net.fortuna.ical4j.model.property.immutable.ImmutableVersion;
-import net.fortuna.ical4j.util.RandomUidGenerator;
-import net.fortuna.ical4j.util.UidGenerator;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
@@ -25,22 +25,49 @@ import java.time.LocalDateTime;
 @UtilityClass
 @Slf4j
 public final class EventCalendarUtil {
-	private static final UidGenerator UID_GENERATOR = new RandomUidGenerator();
+	private static final String CALENDAR_FOOTER = "END:VCALENDAR\r\n";
+	/**
+	 * Start of the calendar including all calendar properties. Followed by the calendar events and {@link #CALENDAR_FOOTER}
+	 */
+	private static final String CALENDAR_HEADER = buildCalendarHeader();
 
-	public static Calendar buildEventCalendar(@NonNull Iterable<Event> eventList) {
-		// Create a calendar
-		Calendar icsCalendar = new Calendar();
+	private static String buildCalendarHeader() {
+		final Calendar icsCalendar = new Calendar();
 		icsCalendar.add(new ProdId("-//Alf//Slotbot Calendar//DE"));
 		icsCalendar.add(ImmutableVersion.VERSION_2_0);
 		icsCalendar.add(ImmutableCalScale.GREGORIAN);
 		icsCalendar.add(new Name("Slotbot Kalender"));
 
-		eventList.forEach(event -> addCalendarEvent(icsCalendar, event));
+		final String calendar = icsCalendar.toString();
+		return calendar.substring(0, calendar.lastIndexOf(CALENDAR_FOOTER));
+	}
 
-		return icsCalendar;
+	/**
+	 * Writes a calendar containing the given calendar events
+	 *
+	 * @param calendarEvents rendered calendar events (see {@link #buildCalendarEvent(Event, int, Instant)})
+	 * @param writer         to write the calendar to
+	 * @throws IOException if writing fails
+	 */
+	public static void writeCalendar(@NonNull Iterable<String> calendarEvents, @NonNull Writer writer) throws IOException {
+		final FoldingWriter foldingWriter = new FoldingWriter(writer);
+		foldingWriter.write(CALENDAR_HEADER);
+		for (String calendarEvent : calendarEvents) {
+			foldingWriter.write(calendarEvent);
+		}
+		foldingWriter.write(CALENDAR_FOOTER);
+		foldingWriter.flush();
 	}
 
-	private static void addCalendarEvent(@NonNull Calendar calendar, @NonNull Event event) {
+	/**
+	 * Renders the given event as an unfolded VEVENT. The uid of the calendar event only depends on the event id
+	 *
+	 * @param event        to render
+	 * @param sequence     revision of the calendar event
+	 * @param lastModified time of the last change of the calendar event
+	 * @return calendar event
+	 */
+	public static String buildCalendarEvent(@NonNull Event event, int sequence, @NonNull Instant lastModified) {
 		final String eventName = event.getName();
 		final LocalDateTime eventDateTime = event.getDateTime();
 
@@ -53,11 +80,16 @@ public final class EventCalendarUtil {
 			log.error("Event url '{}' isn't valid. Can't add to calendar event {}", eventUrl, eventName);
 		}
 
-		// generate unique identifier..
-		calendarEvent.add(UID_GENERATOR.generateUid());
+		calendarEvent.add(new Uid(buildUid(event.getId())));
+		calendarEvent.add(new Sequence(sequence));
+		calendarEvent.add(new LastModified(lastModified));
+		calendarEvent.replace(new DtStamp(lastModified));
+
+		return calendarEvent.toString();
+	}
 
-		// Add the event
-		calendar.add(calendarEvent);
+	static String buildUid(long eventId) {
+		return "event-" + eventId + "@slotbot.de";
 	}
 
 	public static final String ICS_FILE_EXTENSION = ".ics";
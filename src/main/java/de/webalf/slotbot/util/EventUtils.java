@@ -3,12 +3,10 @@ package de.webalf.slotbot.util;
 import de.webalf.slotbot.exception.ForbiddenException;
 import de.webalf.slotbot.model.Event;
 import de.webalf.slotbot.model.Guild;
-import de.webalf.slotbot.model.Slot;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.springframework.context.MessageSource;
 
-import java.util.List;
 import java.util.Locale;
 
 import static de.webalf.slotbot.util.permissions.ApiPermissionHelper.hasReadPermission;
@@ -76,17 +74,6 @@ public final class EventUtils {
 		return buildUrl(event.getId(), event.getOwnerGuild());
 	}
 
-	/**
-	 * Checks if the given slot number is already used in the given list of slots
-	 *
-	 * @param slots      existing slots
-	 * @param slotNumber slot number to check
-	 * @return true if the slot number is already used
-	 */
-	public static boolean slotNumberPresent(List<Slot> slots, int slotNumber) {
-		return slots.stream().anyMatch(slot -> slot.getNumber() == slotNumber);
-	}
-
 	public static String buildArchiveMessage(@NonNull Event event) {
 		final MessageSource messageSource = StaticContextAccessor.getBean(MessageSource.class);
 		final Locale guildLocale = event.getOwnerGuildLocale();
@@ -6,6 +6,7 @@ import lombok.experimental.UtilityClass;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import org.atteo.classindex.ClassIndex;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.StreamSupport;
@@ -38,7 +39,25 @@ public final class ButtonUtils {
 	 * @return matching class or null if not found
 	 */
 	public static Class<?> get(@NonNull String buttonId) {
-		return idPrefixToClassMap.get(buttonId.substring(0, buttonId.indexOf(BUTTON_ID_SEPARATOR)).toLowerCase());
+		return idPrefixToClassMap.get(getIdPrefix(buttonId));
+	}
+
+	/**
+	 * Returns the lowercase prefix of the given button id that identifies the class annotated with {@link ButtonInteraction}
+	 *
+	 * @see #buildButtonId(String, String)
+	 */
+	static String getIdPrefix(@NonNull String buttonId) {
+		return buttonId.substring(0, buttonId.indexOf(BUTTON_ID_SEPARATOR)).toLowerCase();
+	}
+
+	/**
+	 * Returns all button id prefixes with their class annotated with {@link ButtonInteraction}
+	 *
+	 * @return unmodifiable map
+	 */
+	static Map<String, Class<?>> getAll() {
+		return Collections.unmodifiableMap(idPrefixToClassMap);
 	}
 
 	/**
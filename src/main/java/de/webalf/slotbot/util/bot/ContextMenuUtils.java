@@ -6,6 +6,7 @@ import lombok.experimental.UtilityClass;
 import org.atteo.classindex.ClassIndex;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.StreamSupport;
@@ -45,4 +46,13 @@ public final class ContextMenuUtils {
 	public static Collection<Class<?>> get() {
 		return commandToClassMap.values();
 	}
+
+	/**
+	 * Returns all lowercase context menu names with their class annotated with {@link ContextMenu}
+	 *
+	 * @return unmodifiable map
+	 */
+	static Map<String, Class<?>> getAll() {
+		return Collections.unmodifiableMap(commandToClassMap);
+	}
 }
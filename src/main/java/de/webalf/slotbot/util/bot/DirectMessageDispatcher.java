@@ -0,0 +1,167 @@
+package de.webalf.slotbot.util.bot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.webalf.slotbot.service.bot.BotService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotBlank;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.concrete.PrivateChannel;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import static de.webalf.slotbot.configuration.ExecutorConfig.DIRECT_MESSAGE_SCHEDULER;
+
+/**
+ * Sends plain text direct messages. Messages to the same recipient that are queued within the {@link #COALESCE_WINDOW}
+ * are merged into one message. Recipients are served in the order their window elapsed with at most
+ * {@link #MESSAGES_PER_SECOND} messages per second. The private channel of each recipient is opened once and its id
+ * is cached. Messages that are still pending on shutdown are sent right away.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class DirectMessageDispatcher {
+	private final BotService botService;
+	private final TaskScheduler scheduler;
+
+	static final Duration COALESCE_WINDOW = Duration.ofSeconds(2);
+	static final int MESSAGES_PER_SECOND = 10;
+	static final String MESSAGE_SEPARATOR = "\n\n";
+
+	private final Cache<Long, Long> privateChannelIds = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterAccess(Duration.ofDays(1))
+			.build();
+	/**
+	 * Messages waiting to be sent by recipient
+	 */
+	private final Map<Long, List<String>> pendingMessages = new ConcurrentHashMap<>();
+	/**
+	 * Recipients whose {@link #COALESCE_WINDOW} elapsed
+	 */
+	private final Queue<Long> readyRecipients = new ConcurrentLinkedQueue<>();
+
+	public DirectMessageDispatcher(BotService botService, @Qualifier(DIRECT_MESSAGE_SCHEDULER) TaskScheduler scheduler) {
+		this.botService = botService;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Starts sending the queued messages
+	 */
+	public void startUp() {
+		final Duration period = Duration.ofSeconds(1).dividedBy(MESSAGES_PER_SECOND);
+		scheduler.scheduleAtFixedRate(this::sendNext, Instant.now().plus(period), period);
+	}
+
+	@PreDestroy
+	void cleanUp() {
+		log.debug("Sending direct messages to {} pending recipients", pendingMessages.size());
+		readyRecipients.addAll(pendingMessages.keySet());
+		while (!readyRecipients.isEmpty()) {
+			sendNext();
+		}
+	}
+
+	/**
+	 * Queues the given message for the user with the given id
+	 *
+	 * @param userId      id of the recipient
+	 * @param messageText text to send
+	 */
+	public void send(long userId, @NotBlank String messageText) {
+		final boolean[] firstMessage = {false};
+		pendingMessages.compute(userId, (id, messages) -> {
+			if (messages == null) {
+				messages = new ArrayList<>();
+				firstMessage[0] = true;
+			}
+			messages.add(messageText);
+			return messages;
+		});
+		if (firstMessage[0]) {
+			scheduler.schedule(() -> readyRecipients.add(userId), Instant.now().plus(COALESCE_WINDOW));
+		}
+	}
+
+	/**
+	 * Sends the pending messages of the next ready recipient as one message. Messages that don't fit into the same
+	 * message are sent on the next turn of the recipient.
+	 */
+	void sendNext() {
+		final Long userId = readyRecipients.poll();
+		if (userId == null) {
+			return;
+		}
+		final List<String> messages = pendingMessages.remove(userId);
+		if (messages == null || messages.isEmpty()) {
+			return;
+		}
+
+		final int merged = countMergeable(messages);
+		deliver(userId, String.join(MESSAGE_SEPARATOR, messages.subList(0, merged)));
+
+		if (merged < messages.size()) {
+			final List<String> remaining = new ArrayList<>(messages.subList(merged, messages.size()));
+			pendingMessages.merge(userId, remaining, (newer, older) -> {
+				older.addAll(newer);
+				return older;
+			});
+			readyRecipients.add(userId);
+		}
+	}
+
+	/**
+	 * Counts how many of the given messages, starting with the first, fit into one message. The first message is always
+	 * included
+	 */
+	static int countMergeable(@NonNull List<String> messages) {
+		int length = messages.getFirst().length();
+		int count = 1;
+		while (count < messages.size()) {
+			length += MESSAGE_SEPARATOR.length() + messages.get(count).length();
+			if (length > Message.MAX_CONTENT_LENGTH) {
+				break;
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Sends the given text to the private channel of the given user. Uses the cached private channel if known
+	 */
+	void deliver(long userId, @NonNull String messageText) {
+		final Consumer<Throwable> failure = fail -> {
+			privateChannelIds.invalidate(userId);
+			DirectMessageHelper.dmFailure(userId, fail);
+		};
+
+		final Long channelId = privateChannelIds.getIfPresent(userId);
+		final PrivateChannel channel = channelId != null ? botService.getShardManager().getPrivateChannelById(channelId) : null;
+		if (channel != null) {
+			channel.sendMessage(messageText).queue(null, failure);
+			return;
+		}
+		botService.getAnyShard().openPrivateChannelById(userId)
+				.onSuccess(privateChannel -> privateChannelIds.put(userId, privateChannel.getIdLong()))
+				.flatMap(privateChannel -> privateChannel.sendMessage(messageText))
+				.queue(null, failure);
+	}
+}
@@ -29,6 +29,7 @@ import static net.dv8tion.jda.api.requests.ErrorResponse.CANNOT_SEND_TO_USER;
 @Slf4j
 public class DirectMessageHelper {
 	private final BotService botService;
+	private final DirectMessageDispatcher directMessageDispatcher;
 
 	/**
 	 * Sends the given message to the given user. Logs an error if the message couldn't be sent.
@@ -38,7 +39,19 @@ public class DirectMessageHelper {
 	 * @see #sendDm(User, String)
 	 */
 	public void sendDmToRecipient(@NonNull de.webalf.slotbot.model.User user, @NotBlank String messageText) {
-		inPrivateChannel(user.getId(), channel -> channel.sendMessage(messageText), fail -> dmFailure(user.getId(), fail));
+		sendDmToRecipient(user.getId(), messageText);
+	}
+
+	/**
+	 * Queues the given message for the user with the given id. Messages to the same user that are queued shortly after
+	 * each other may be sent as one message. Logs an error if the message couldn't be sent.
+	 *
+	 * @param userId      id of the recipient
+	 * @param messageText text to send
+	 * @see DirectMessageDispatcher
+	 */
+	public void sendDmToRecipient(long userId, @NotBlank String messageText) {
+		directMessageDispatcher.send(userId, messageText);
 	}
 
 	/**
@@ -98,7 +111,7 @@ public class DirectMessageHelper {
 	 * @param action action to execute in the private channel
 	 */
 	public <T> void inPrivateChannel(long userId, Function<PrivateChannel, RestAction<T>> action, Consumer<? super Throwable> failure) {
-		botService.getJda().retrieveUserById(userId)
+		botService.getShardManager().retrieveUserById(userId)
 				.flatMap(User::openPrivateChannel)
 				.flatMap(action)
 				.queue(null, failure);
@@ -118,7 +131,7 @@ public class DirectMessageHelper {
 				.queue(success, failure);
 	}
 
-	private static void dmFailure(long userId, Throwable fail) {
+	static void dmFailure(long userId, Throwable fail) {
 		if (fail instanceof ErrorResponseException ex && ex.getErrorResponse() == CANNOT_SEND_TO_USER) {
 			log.warn("Couldn't send DM to {}. Probably the user prevents receiving messages from the bot.", userId);
 		} else {
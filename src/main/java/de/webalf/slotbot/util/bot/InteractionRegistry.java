@@ -0,0 +1,107 @@
+package de.webalf.slotbot.util.bot;
+
+import de.webalf.slotbot.model.annotations.bot.ButtonInteraction;
+import de.webalf.slotbot.model.annotations.bot.ContextMenu;
+import de.webalf.slotbot.model.annotations.bot.SlashCommand;
+import de.webalf.slotbot.model.annotations.bot.StringSelectInteraction;
+import de.webalf.slotbot.service.bot.command.DiscordButton;
+import de.webalf.slotbot.service.bot.command.DiscordSlashCommand;
+import de.webalf.slotbot.service.bot.command.DiscordStringSelect;
+import de.webalf.slotbot.service.bot.command.DiscordUserContext;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves every interaction handler once at startup. Each command name or component id is mapped to a single handler
+ * instance, so that dispatching an interaction is one map lookup and a call of the handler interface.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InteractionRegistry {
+	private final CommandClassHelper commandClassHelper;
+
+	private final Map<Class<?>, Object> handlers = new HashMap<>();
+	private final Map<String, DiscordSlashCommand> slashCommands = new HashMap<>();
+	private final Map<String, DiscordUserContext> userContexts = new HashMap<>();
+	private final Map<String, DiscordStringSelect> stringSelects = new HashMap<>();
+	private final Map<String, DiscordButton> buttons = new HashMap<>();
+
+	@PostConstruct
+	void init() {
+		register(SlashCommandUtils.getAll(), slashCommands, DiscordSlashCommand.class);
+		register(ContextMenuUtils.getAll(), userContexts, DiscordUserContext.class);
+		register(StringSelectUtils.getAll(), stringSelects, DiscordStringSelect.class);
+		register(ButtonUtils.getAll(), buttons, DiscordButton.class);
+		log.info("Registered {} interaction handlers.", handlers.size());
+	}
+
+	private <T> void register(@NonNull Map<String, Class<?>> classes, @NonNull Map<String, T> registry, @NonNull Class<T> handlerType) {
+		classes.forEach((key, handlerClass) -> {
+			final Object handler = handlers.computeIfAbsent(handlerClass, commandClassHelper::getConstructor);
+			if (!handlerType.isInstance(handler)) {
+				throw new IllegalStateException(handlerClass.getName() + " must implement " + handlerType.getSimpleName());
+			}
+			registry.put(key, handlerType.cast(handler));
+		});
+	}
+
+	/**
+	 * Searches for the given slash command the matching handler annotated with {@link SlashCommand}
+	 *
+	 * @param command to search
+	 * @return matching handler or null if not found
+	 */
+	public DiscordSlashCommand getSlashCommand(@NonNull String command) {
+		return slashCommands.get(command.toLowerCase());
+	}
+
+	/**
+	 * Returns the handler instance of the given class annotated with {@link SlashCommand}
+	 *
+	 * @param commandClass to get handler for
+	 * @return matching handler or null if not found
+	 */
+	public DiscordSlashCommand getSlashCommand(@NonNull Class<?> commandClass) {
+		return handlers.get(commandClass) instanceof final DiscordSlashCommand slashCommand ? slashCommand : null;
+	}
+
+	/**
+	 * Searches for the given context menu the matching handler annotated with {@link ContextMenu}
+	 *
+	 * @param command to search
+	 * @return matching handler or null if not found
+	 */
+	public DiscordUserContext getUserContext(@NonNull String command) {
+		return userContexts.get(command.toLowerCase());
+	}
+
+	/**
+	 * Searches for the given selection menu id the matching handler annotated with {@link StringSelectInteraction}
+	 *
+	 * @param stringSelectId to search
+	 * @return matching handler or null if not found
+	 */
+	public DiscordStringSelect getStringSelect(@NonNull String stringSelectId) {
+		return stringSelects.get(stringSelectId);
+	}
+
+	/**
+	 * Searches for the given button id the matching handler annotated with {@link ButtonInteraction}
+	 *
+	 * @param buttonId to search
+	 * @return matching handler or null if not found
+	 */
+	public DiscordButton getButton(@NonNull String buttonId) {
+		return buttons.get(ButtonUtils.getIdPrefix(buttonId));
+	}
+}
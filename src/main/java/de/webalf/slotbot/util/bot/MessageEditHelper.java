@@ -0,0 +1,86 @@
+package de.webalf.slotbot.util.bot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.requests.RestAction;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Util service to edit {@link Message}s. Remembers a hash of the last content written to each message and skips edits
+ * that wouldn't change the message content.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class MessageEditHelper {
+	/**
+	 * Limits how long a message edited by someone else may keep its content
+	 */
+	private static final Duration CONTENT_TTL = Duration.ofHours(12);
+
+	private final Cache<MessageKey, byte[]> contentHashes = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(CONTENT_TTL)
+			.build();
+
+	private record MessageKey(long channelId, long messageId) {}
+
+	/**
+	 * Replaces the content of the given message if it differs from the last content written
+	 *
+	 * @param channel   channel containing the message
+	 * @param messageId message to edit
+	 * @param content   new message content
+	 */
+	public void editMessage(@NonNull MessageChannel channel, long messageId, @NonNull String content) {
+		edit(channel, messageId, content, () -> channel.editMessageById(messageId, content));
+	}
+
+	/**
+	 * Replaces the embed of the given message if it differs from the last embed written
+	 *
+	 * @param channel   channel containing the message
+	 * @param messageId message to edit
+	 * @param embed     new message embed
+	 */
+	public void editMessageEmbed(@NonNull MessageChannel channel, long messageId, @NonNull MessageEmbed embed) {
+		edit(channel, messageId, embed.toData().toString(), () -> channel.editMessageEmbedsById(messageId, embed));
+	}
+
+	private void edit(@NonNull MessageChannel channel, long messageId, @NonNull String content, @NonNull Supplier<RestAction<Message>> editAction) {
+		final MessageKey key = new MessageKey(channel.getIdLong(), messageId);
+		final byte[] contentHash = hash(content);
+		if (Arrays.equals(contentHashes.getIfPresent(key), contentHash)) {
+			log.trace("Skip edit of unchanged message {} in {}", messageId, key.channelId());
+			return;
+		}
+
+		contentHashes.put(key, contentHash);
+		editAction.get().queue(null, fail -> {
+			contentHashes.invalidate(key);
+			RestAction.getDefaultFailure().accept(fail);
+		});
+	}
+
+	private static byte[] hash(@NonNull String content) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 isn't supported", e);
+		}
+	}
+}
@@ -8,6 +8,7 @@ import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import org.atteo.classindex.ClassIndex;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.StreamSupport;
@@ -52,6 +53,15 @@ public final class SlashCommandUtils {
 		return commandToClassMap.values();
 	}
 
+	/**
+	 * Returns all lowercase slash command names with their class annotated with {@link SlashCommand}
+	 *
+	 * @return unmodifiable map
+	 */
+	static Map<String, Class<?>> getAll() {
+		return Collections.unmodifiableMap(commandToClassMap);
+	}
+
 	private static OptionMapping getOptionMapping(@NonNull CommandInteractionPayload interaction, @NonNull String option) {
 		return interaction.getOption(DEFAULT_LOCALE.t(option));
 	}
@@ -7,6 +7,7 @@ import lombok.experimental.UtilityClass;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import org.atteo.classindex.ClassIndex;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.StreamSupport;
@@ -41,6 +42,15 @@ public final class StringSelectUtils {
 		return idToClassMap.get(stringSelectId);
 	}
 
+	/**
+	 * Returns all selection menu ids with their class annotated with {@link StringSelectInteraction}
+	 *
+	 * @return unmodifiable map
+	 */
+	static Map<String, Class<?>> getAll() {
+		return Collections.unmodifiableMap(idToClassMap);
+	}
+
 	/**
 	 * Builds the label string for a {@link SelectOption} respecting the maximum length
 	 *
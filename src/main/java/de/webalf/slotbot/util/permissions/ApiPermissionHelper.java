@@ -1,10 +1,12 @@
 package de.webalf.slotbot.util.permissions;
 
+import de.webalf.slotbot.configuration.authentication.api.SlotbotAuthentication;
 import de.webalf.slotbot.constant.AuthorizationCheckValues;
 import de.webalf.slotbot.model.Guild;
 import de.webalf.slotbot.model.authentication.ApiTokenType;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -81,13 +83,18 @@ public final class ApiPermissionHelper {
 	}
 
 	/**
-	 * Fetches the guildId of the currently logged-in token via the {@link AuthorizationCheckValues#GUILD} authorization
+	 * Fetches the guildId of the currently logged-in token. The guild of a {@link SlotbotAuthentication} is resolved
+	 * with the token, other authentications are searched for the {@link AuthorizationCheckValues#GUILD} authorization
 	 *
 	 * @return current guild id
 	 */
 	private static long getCurrentGuild() {
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication instanceof final SlotbotAuthentication slotbotAuthentication) {
+			return slotbotAuthentication.getGuildId();
+		}
 		return Long.parseLong(
-				SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+				authentication.getAuthorities().stream()
 						.map(GrantedAuthority::getAuthority)
 						.filter(authority -> authority.contains("_" + GUILD + "_"))
 						.map(authority -> authority.substring(authority.lastIndexOf("_") + 1))
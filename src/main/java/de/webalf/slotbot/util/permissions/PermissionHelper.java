@@ -1,21 +1,19 @@
 package de.webalf.slotbot.util.permissions;
 
 import de.webalf.slotbot.model.Guild;
+import de.webalf.slotbot.model.authentication.SlotbotOAuth2User;
 import de.webalf.slotbot.model.enums.DiscordUserObjectFields;
 import jakarta.validation.constraints.NotBlank;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.Collections;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static de.webalf.slotbot.constant.AuthorizationCheckValues.ROLE_PREFIX;
-import static de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER;
 import static de.webalf.slotbot.util.DiscordOAuthUtils.getAttribute;
 import static de.webalf.slotbot.util.permissions.Role.*;
 
@@ -39,11 +37,27 @@ public final class PermissionHelper {
 	}
 
 	public static Set<String> getAuthoritiesOfLoggedInUser() {
-		OAuth2User user = getLoggedIn();
-		if (user == null) {
+		if (getLoggedIn() == null) {
 			return Collections.emptySet();
 		}
-		return user.getAuthorities().stream().map(GrantedAuthority::getAuthority).filter(APPLICATION_ROLE_VALUES.keySet()::contains).collect(Collectors.toSet());
+		return getPermissions().getGlobalApplicationRoles();
+	}
+
+	/**
+	 * Returns the {@link PermissionMatrix} of the current authentication. The matrix of a logged-in
+	 * {@link SlotbotOAuth2User} is parsed once at login, every other authentication is parsed on each call
+	 *
+	 * @return permissions of the current authentication
+	 */
+	private static PermissionMatrix getPermissions() {
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null) {
+			return PermissionMatrix.EMPTY;
+		}
+		if (authentication.getPrincipal() instanceof final SlotbotOAuth2User user) {
+			return user.getPermissions();
+		}
+		return PermissionMatrix.ofAuthorities(authentication.getAuthorities());
 	}
 
 	public static OAuth2User getLoggedIn() {
@@ -92,20 +106,7 @@ public final class PermissionHelper {
 	 * @return true if allowed
 	 */
 	public static boolean hasPermissionInGuild(@NonNull Role role, long guildId) {
-		final Stream<? extends GrantedAuthority> authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream();
-		final Set<String> authorizedRoles = role.getAuthorizedRoles().stream().map(authorizedRole -> ROLE_PREFIX + authorizedRole.getApplicationRole()).collect(Collectors.toUnmodifiableSet());
-		if (guildId == GUILD_PLACEHOLDER || role == SYSTEM_ADMIN) {
-			return authorities.anyMatch(grantedAuthority -> {
-				final String authority = grantedAuthority.getAuthority();
-				return authorizedRoles.stream().anyMatch(authority::equals);
-			});
-		} else {
-			final String guild = Long.toString(guildId);
-			return authorities.anyMatch(grantedAuthority -> {
-				final String authority = grantedAuthority.getAuthority();
-				return authority.endsWith(guild) && authorizedRoles.stream().anyMatch(authority::startsWith);
-			});
-		}
+		return getPermissions().hasPermission(role, guildId);
 	}
 
 	/**
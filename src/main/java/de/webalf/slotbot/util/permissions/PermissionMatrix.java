@@ -0,0 +1,146 @@
+package de.webalf.slotbot.util.permissions;
+
+import lombok.NonNull;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+import static de.webalf.slotbot.constant.AuthorizationCheckValues.ROLE_PREFIX;
+import static de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER;
+import static de.webalf.slotbot.util.permissions.Role.SYSTEM_ADMIN;
+
+/**
+ * {@link Role}s of a user parsed once from the authority strings built by
+ * {@link PermissionHelper#buildAuthenticationWithPrefix(String)} and
+ * {@link PermissionHelper#buildGuildAuthenticationWithPrefix(String, long)}. Roles are stored as bitmasks of their
+ * ordinal, so that a permission check is a single lookup.
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+public final class PermissionMatrix implements Serializable {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	public static final PermissionMatrix EMPTY = new PermissionMatrix(0, Collections.emptyMap());
+
+	private static final Map<Role, Integer> AUTHORIZED_ROLES_MASKS = new EnumMap<>(Role.class);
+
+	static {
+		for (Role role : Role.values()) {
+			AUTHORIZED_ROLES_MASKS.put(role, toMask(role.getAuthorizedRoles()));
+		}
+	}
+
+	/**
+	 * Roles without a guild. These are global roles and the "potential" roles the user has in any guild
+	 */
+	private final int globalRoles;
+	private final Map<Long, Integer> guildRoles;
+
+	private PermissionMatrix(int globalRoles, @NonNull Map<Long, Integer> guildRoles) {
+		this.globalRoles = globalRoles;
+		this.guildRoles = guildRoles;
+	}
+
+	/**
+	 * @see #of(Collection)
+	 */
+	public static PermissionMatrix ofAuthorities(@NonNull Collection<? extends GrantedAuthority> authorities) {
+		return of(authorities.stream().map(GrantedAuthority::getAuthority).toList());
+	}
+
+	/**
+	 * Parses the given authorities. Authorities that don't belong to a {@link Role} are ignored
+	 *
+	 * @param authorities to parse
+	 * @return permission matrix of the authorities
+	 */
+	public static PermissionMatrix of(@NonNull Collection<String> authorities) {
+		int globalRoles = 0;
+		final Map<Long, Integer> guildRoles = new HashMap<>();
+		for (String authority : authorities) {
+			if (authority == null) {
+				continue;
+			}
+			final Role globalRole = Role.getByApplicationRole(authority);
+			if (globalRole != null) {
+				globalRoles |= toMask(globalRole);
+				continue;
+			}
+			for (Role role : Role.values()) {
+				final Long guildId = parseGuildId(authority, role);
+				if (guildId != null) {
+					guildRoles.merge(guildId, toMask(role), (a, b) -> a | b);
+					break;
+				}
+			}
+		}
+		return globalRoles == 0 && guildRoles.isEmpty() ? EMPTY : new PermissionMatrix(globalRoles, Map.copyOf(guildRoles));
+	}
+
+	/**
+	 * Returns the guild id of the given authority if it is a guild authority of the given role
+	 *
+	 * @return guild id or null
+	 */
+	private static Long parseGuildId(@NonNull String authority, @NonNull Role role) {
+		final String prefix = ROLE_PREFIX + role.getApplicationRole() + "_";
+		if (authority.length() <= prefix.length() || !authority.startsWith(prefix)) {
+			return null;
+		}
+		try {
+			return Long.parseLong(authority, prefix.length(), authority.length(), 10);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static int toMask(@NonNull Role role) {
+		return 1 << role.ordinal();
+	}
+
+	private static int toMask(@NonNull Set<Role> roles) {
+		int mask = 0;
+		for (Role role : roles) {
+			mask |= toMask(role);
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks if the given role is granted in the given guild.
+	 * If the guild is the {@link de.webalf.slotbot.model.Guild#GUILD_PLACEHOLDER} the "potential permission" is checked
+	 *
+	 * @param role    to check
+	 * @param guildId in which the permission should be present
+	 * @return true if allowed
+	 * @see PermissionHelper#hasPermissionInGuild(Role, long)
+	 */
+	public boolean hasPermission(@NonNull Role role, long guildId) {
+		final int authorizedRoles = AUTHORIZED_ROLES_MASKS.get(role);
+		if (guildId == GUILD_PLACEHOLDER || role == SYSTEM_ADMIN) {
+			return (globalRoles & authorizedRoles) != 0;
+		}
+		final Integer roles = guildRoles.get(guildId);
+		return roles != null && (roles & authorizedRoles) != 0;
+	}
+
+	/**
+	 * Returns the prefixed application roles that aren't bound to a guild
+	 *
+	 * @return application roles
+	 * @see Role#APPLICATION_ROLE_VALUES
+	 */
+	public Set<String> getGlobalApplicationRoles() {
+		final Set<String> applicationRoles = new HashSet<>();
+		for (Role role : Role.values()) {
+			if ((globalRoles & toMask(role)) != 0) {
+				applicationRoles.add(ROLE_PREFIX + role.getApplicationRole());
+			}
+		}
+		return applicationRoles;
+	}
+}
@@ -0,0 +1,95 @@
+package de.webalf.slotbot.assembler.website;
+
+import de.webalf.slotbot.assembler.referenceless.EventFieldReferencelessAssembler;
+import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.authentication.SlotbotOAuth2User;
+import de.webalf.slotbot.model.dtos.website.EventDetailsDto;
+import de.webalf.slotbot.model.dtos.website.EventDetailsSlotDto;
+import de.webalf.slotbot.service.UserService;
+import de.webalf.slotbot.service.external.DiscordMemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class EventDetailsAssemblerTest {
+	private static final int SLOTS = 150;
+	private static final long LOGGED_IN_USER_ID = 1;
+
+	private final DiscordMemberService discordMemberService = mock(DiscordMemberService.class);
+	private final UserService userService = mock(UserService.class);
+	private final EventDetailsAssembler sut = new EventDetailsAssembler(discordMemberService, mock(EventFieldReferencelessAssembler.class), userService);
+
+	private final Guild guild = Guild.builder().id(10).build();
+	private Event event;
+
+	@BeforeEach
+	void setUp() {
+		final List<Squad> squads = new ArrayList<>();
+		event = Event.builder()
+				.name("Event")
+				.dateTime(LocalDateTime.now().plusDays(1))
+				.pictureUrl("https://example.com/picture.png")
+				.eventType(EventType.builder().name("Type").color("#ffffff").build())
+				.ownerGuild(guild)
+				.squadList(squads)
+				.details(new ArrayList<>())
+				.build();
+		final List<Slot> slots = new ArrayList<>();
+		final Squad squad = Squad.builder().name("Squad").slotList(slots).event(event).build();
+		squads.add(squad);
+		final Map<Long, String> names = new HashMap<>();
+		for (int number = 1; number <= SLOTS; number++) {
+			//Every second slot is occupied
+			final User user = number % 2 == 0 ? User.builder().id(number).build() : null;
+			slots.add(Slot.builder().number(number).name("Slot " + number).squad(squad).user(user).build());
+			if (user != null) {
+				names.put(user.getId(), "User " + number);
+			}
+		}
+		slots.getFirst().setReservedFor(Guild.builder().id(20).build());
+
+		final User loggedInUser = User.builder().id(LOGGED_IN_USER_ID).build();
+		loggedInUser.setGuilds(Set.of(GuildUser.builder().guild(guild).user(loggedInUser).build()));
+		when(userService.getLoggedIn()).thenReturn(loggedInUser);
+		when(discordMemberService.getNames(anyCollection(), anyLong())).thenReturn(names);
+
+		final SlotbotOAuth2User principal = new SlotbotOAuth2User(Set.of(), Map.of("id", Long.toString(LOGGED_IN_USER_ID), "username", "user"), "username");
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(principal, null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void resolvesUserAndNamesOncePerEvent() {
+		final EventDetailsDto dto = sut.toDto(event);
+
+		verify(userService, times(1)).getLoggedIn();
+		verify(discordMemberService, times(1)).getNames(anyCollection(), eq(guild.getId()));
+		verifyNoMoreInteractions(discordMemberService);
+
+		final List<EventDetailsSlotDto> slots = dto.getSquadList().getFirst().getSlotList();
+		assertThat(slots).hasSize(SLOTS);
+		assertThat(slots.get(1).getText()).isEqualTo("User 2");
+		assertThat(slots.get(1).getSlottable()).isFalse();
+		//Reserved for another guild
+		assertThat(slots.get(0).getSlottable()).isFalse();
+		assertThat(slots.get(2).getSlottable()).isTrue();
+	}
+}
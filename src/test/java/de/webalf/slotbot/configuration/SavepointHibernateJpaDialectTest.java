@@ -0,0 +1,50 @@
+package de.webalf.slotbot.configuration;
+
+import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Alf
+ * @since 18.10.2026
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SavepointHibernateJpaDialectTest {
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void nestedRollbackKeepsChangesOfSurroundingTransaction() {
+		final TransactionTemplate nestedTemplate = new TransactionTemplate(transactionManager);
+		nestedTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			userRepository.save(User.builder().id(1).build());
+			assertThatThrownBy(() -> nestedTemplate.executeWithoutResult(nestedStatus -> {
+				userRepository.saveAndFlush(User.builder().id(2).build());
+				userRepository.save(User.builder().id(3).build());
+				throw new IllegalStateException();
+			})).isInstanceOf(IllegalStateException.class);
+			nestedTemplate.executeWithoutResult(nestedStatus -> userRepository.save(User.builder().id(4).build()));
+		});
+
+		assertThat(userRepository.findAll()).extracting(User::getId).containsExactlyInAnyOrder(1L, 4L);
+	}
+}
@@ -0,0 +1,83 @@
+package de.webalf.slotbot.configuration.authentication.api;
+
+import de.webalf.slotbot.configuration.CacheConfig;
+import de.webalf.slotbot.configuration.properties.CacheProperties;
+import de.webalf.slotbot.exception.ForbiddenException;
+import de.webalf.slotbot.model.Guild;
+import de.webalf.slotbot.model.authentication.ApiToken;
+import de.webalf.slotbot.model.authentication.ApiTokenType;
+import de.webalf.slotbot.model.event.ApiTokenUpdateEvent;
+import de.webalf.slotbot.repository.ApiTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class TokenAuthProviderTest {
+	private static final String TOKEN = "token";
+
+	private final ApiTokenRepository apiTokenRepository = mock(ApiTokenRepository.class);
+	private final TokenAuthProvider sut = new TokenAuthProvider(apiTokenRepository, new CacheConfig(new CacheProperties()).cacheManager());
+
+	//resolve
+	@Test
+	void resolveCachesKnownToken() {
+		final ApiToken apiToken = mockApiToken();
+		when(apiTokenRepository.findById(TOKEN)).thenReturn(Optional.of(apiToken));
+
+		final TokenAuthProvider.ResolvedApiToken first = sut.resolve(TOKEN);
+		final TokenAuthProvider.ResolvedApiToken second = sut.resolve(TOKEN);
+
+		assertThat(first.guildId()).isEqualTo(1);
+		assertThat(first.authorities()).hasSize(3);
+		assertThat(second).isSameAs(first);
+		verify(apiTokenRepository, times(1)).findById(TOKEN);
+	}
+
+	@Test
+	void resolveCachesUnknownToken() {
+		when(apiTokenRepository.findById(TOKEN)).thenReturn(Optional.empty());
+
+		assertThrows(ForbiddenException.class, () -> sut.resolve(TOKEN));
+		assertThrows(ForbiddenException.class, () -> sut.resolve(TOKEN));
+
+		verify(apiTokenRepository, times(1)).findById(TOKEN);
+	}
+
+	//onApiTokenUpdate
+	@Test
+	void onApiTokenUpdateInvalidatesUnknownToken() {
+		final ApiToken apiToken = mockApiToken();
+		when(apiTokenRepository.findById(TOKEN)).thenReturn(Optional.empty()).thenReturn(Optional.of(apiToken));
+
+		assertThrows(ForbiddenException.class, () -> sut.resolve(TOKEN));
+		sut.onApiTokenUpdate(new ApiTokenUpdateEvent(TOKEN));
+
+		assertThat(sut.resolve(TOKEN).guildId()).isEqualTo(1);
+	}
+
+	@Test
+	void onApiTokenUpdateInvalidatesKnownToken() {
+		final ApiToken apiToken = mockApiToken();
+		when(apiTokenRepository.findById(TOKEN)).thenReturn(Optional.of(apiToken)).thenReturn(Optional.empty());
+
+		sut.resolve(TOKEN);
+		sut.onApiTokenUpdate(new ApiTokenUpdateEvent(TOKEN));
+
+		assertThrows(ForbiddenException.class, () -> sut.resolve(TOKEN));
+	}
+
+	private static ApiToken mockApiToken() {
+		final ApiToken apiToken = mock(ApiToken.class);
+		when(apiToken.getType()).thenReturn(ApiTokenType.READ);
+		when(apiToken.getGuild()).thenReturn(Guild.builder().id(1).build());
+		return apiToken;
+	}
+}
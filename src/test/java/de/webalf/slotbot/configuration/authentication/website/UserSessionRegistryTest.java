@@ -0,0 +1,62 @@
+package de.webalf.slotbot.configuration.authentication.website;
+
+import de.webalf.slotbot.model.authentication.SlotbotOAuth2User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class UserSessionRegistryTest {
+	private final UserSessionRegistry sut = new UserSessionRegistry();
+
+	@Test
+	void findsOnlySessionsOfUser() {
+		sut.registerNewSession("a1", user(1));
+		sut.registerNewSession("a2", user(1));
+		sut.registerNewSession("b1", user(2));
+
+		assertThat(sut.getSessionsOfUser(1)).extracting(SessionInformation::getSessionId).containsExactlyInAnyOrder("a1", "a2");
+		assertThat(sut.getSessionsOfUser(2)).extracting(SessionInformation::getSessionId).containsExactly("b1");
+		assertThat(sut.getSessionsOfUser(3)).isEmpty();
+	}
+
+	@Test
+	void removedSessionsAreNotIndexed() {
+		final OAuth2User user = user(1);
+		sut.registerNewSession("a1", user);
+		//Session id change after login
+		sut.removeSessionInformation("a1");
+		sut.registerNewSession("a2", user);
+
+		assertThat(sut.getSessionsOfUser(1)).extracting(SessionInformation::getSessionId).containsExactly("a2");
+
+		sut.removeSessionInformation("a2");
+		assertThat(sut.getSessionsOfUser(1)).isEmpty();
+	}
+
+	@Test
+	void expiresSessionsOfAllGivenUsers() {
+		sut.registerNewSession("a1", user(1));
+		sut.registerNewSession("b1", user(2));
+		sut.registerNewSession("c1", user(3));
+
+		assertThat(sut.expireSessionsOfUsers(List.of(1L, 2L, 4L))).isEqualTo(2);
+
+		assertThat(sut.getSessionInformation("a1").isExpired()).isTrue();
+		assertThat(sut.getSessionInformation("b1").isExpired()).isTrue();
+		assertThat(sut.getSessionInformation("c1").isExpired()).isFalse();
+	}
+
+	private static OAuth2User user(long id) {
+		return new SlotbotOAuth2User(Set.of(), Map.of("id", Long.toString(id), "username", "user" + id), "username");
+	}
+}
@@ -1,11 +1,9 @@
 package de.webalf.slotbot.model;
 
 import de.webalf.slotbot.exception.BusinessRuntimeException;
-import de.webalf.slotbot.service.bot.EventNotificationService;
 import de.webalf.slotbot.util.bot.MentionUtils;
 import lombok.NonNull;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -13,8 +11,6 @@ import java.util.*;
 import static de.webalf.slotbot.AssertionUtils.assertMessageEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.never;
 
 /**
  * @author Alf
@@ -241,33 +237,23 @@ class EventTest {
 	}
 
 	@Test
-	void archiveRemovesNotifications() {
-		final int ownerGuild = 1;
-		final Event sut = Event.builder()
-				.ownerGuild(Guild.builder().id(ownerGuild).build())
-				.discordInformation(Collections.emptySet())
-				.build();
+	void archiveRemovesGuildVisibility() {
+		final long ownerGuild = 1;
+		final long archivingGuild = 2;
 
-		try (MockedStatic<EventNotificationService> eventNotificationService = mockStatic(EventNotificationService.class)) {
-			sut.archive(ownerGuild);
-
-			eventNotificationService.verify(() -> EventNotificationService.removeNotifications(sut.getId()));
-		}
-	}
-
-	@Test
-	void archiveDoesntRemoveNotificationsForOtherGuild() {
-		final int ownerGuild = 1;
-		final int otherGuild = 2;
 		final Event sut = Event.builder()
+				.discordInformation(new HashSet<>(List.of(
+						EventDiscordInformation.builder().guild(Guild.builder().id(ownerGuild).build()).build(),
+						EventDiscordInformation.builder().guild(Guild.builder().id(archivingGuild).build()).build()
+				)))
 				.ownerGuild(Guild.builder().id(ownerGuild).build())
-				.discordInformation(Collections.emptySet())
 				.build();
+		sut.updateGuildVisibility();
 
-		try (MockedStatic<EventNotificationService> eventNotificationService = mockStatic(EventNotificationService.class)) {
-			sut.archive(otherGuild);
+		sut.archive(archivingGuild);
 
-			eventNotificationService.verify(() -> EventNotificationService.removeNotifications(sut.getId()), never());
-		}
+		assertThat(sut.getGuildVisibility())
+				.extracting(EventGuildVisibility::getGuildId)
+				.containsExactly(ownerGuild);
 	}
-}
\ No newline at end of file
+}
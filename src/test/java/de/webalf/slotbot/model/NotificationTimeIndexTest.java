@@ -0,0 +1,75 @@
+package de.webalf.slotbot.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class NotificationTimeIndexTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 20, 0);
+
+	//pollDue
+	@Test
+	void pollDueReturnsOnlyDueNotifications() {
+		final NotificationTimeIndex sut = new NotificationTimeIndex();
+		final EventNotification past = buildNotification(1, 1, 1, NOW.minusMinutes(1));
+		final EventNotification now = buildNotification(2, 1, 2, NOW);
+		final EventNotification future = buildNotification(3, 1, 3, NOW.plusMinutes(1));
+		sut.add(future);
+		sut.add(now);
+		sut.add(past);
+
+		assertThat(sut.pollDue(NOW)).containsExactly(past, now);
+		assertThat(sut.size()).isEqualTo(1);
+		assertThat(sut.pollDue(NOW.plusMinutes(1))).containsExactly(future);
+	}
+
+	@Test
+	void addIsIdempotent() {
+		final NotificationTimeIndex sut = new NotificationTimeIndex();
+		final EventNotification notification = buildNotification(1, 1, 1, NOW);
+		sut.add(notification);
+		sut.add(notification);
+
+		assertThat(sut.pollDue(NOW)).containsExactly(notification);
+	}
+
+	//removeByEvent
+	@Test
+	void removeByEventRemovesOnlyThatEvent() {
+		final NotificationTimeIndex sut = new NotificationTimeIndex();
+		final EventNotification keep = buildNotification(1, 2, 1, NOW);
+		sut.add(buildNotification(2, 1, 1, NOW));
+		sut.add(buildNotification(3, 1, 2, NOW));
+		sut.add(keep);
+
+		sut.removeByEvent(1);
+
+		assertThat(sut.pollDue(NOW)).containsExactly(keep);
+	}
+
+	//removeByEventAndUser
+	@Test
+	void removeByEventAndUserRemovesOnlyCombination() {
+		final NotificationTimeIndex sut = new NotificationTimeIndex();
+		final EventNotification otherUser = buildNotification(1, 1, 2, NOW);
+		final EventNotification otherEvent = buildNotification(2, 2, 1, NOW);
+		sut.add(buildNotification(3, 1, 1, NOW));
+		sut.add(buildNotification(4, 1, 1, NOW.minusHours(1)));
+		sut.add(otherUser);
+		sut.add(otherEvent);
+
+		sut.removeByEventAndUser(1, 1);
+
+		assertThat(sut.pollDue(NOW)).containsExactlyInAnyOrder(otherUser, otherEvent);
+	}
+
+	private static EventNotification buildNotification(long id, long eventId, long userId, LocalDateTime notificationTime) {
+		return EventNotification.builder().id(id).eventId(eventId).userId(userId).notificationTime(notificationTime).build();
+	}
+}
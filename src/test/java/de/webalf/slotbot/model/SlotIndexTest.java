@@ -0,0 +1,169 @@
+package de.webalf.slotbot.model;
+
+import de.webalf.slotbot.exception.BusinessRuntimeException;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+
+import java.util.*;
+
+import static de.webalf.slotbot.model.Squad.RESERVE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies random sequences of slot changes to an event and compares the lookups of the {@link SlotIndex} with a scan
+ * of the slot list after every step
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+class SlotIndexTest {
+	private static final int USERS = 40;
+
+	enum Action {SLOT, UNSLOT, SWAP, ADD_SLOT, DELETE_SLOT, RENUMBER, RENAME_SQUAD}
+
+	record Operation(Action action, int first, int second) {}
+
+	@Property(tries = 200)
+	void lookupsMatchSlotList(@ForAll @IntRange(min = 1, max = 8) int squadCount,
+	                          @ForAll @IntRange(min = 1, max = 12) int slotsPerSquad,
+	                          @ForAll("operations") List<Operation> operations) {
+		final Event event = buildEvent(squadCount, slotsPerSquad);
+		assertConsistent(event);
+
+		for (Operation operation : operations) {
+			apply(event, operation);
+			assertConsistent(event);
+		}
+	}
+
+	@Property(tries = 100)
+	void fullEventAlwaysHasReserveWithPackedReservists(@ForAll @IntRange(min = 1, max = 30) int slotCount,
+	                                                   @ForAll("operations") List<Operation> operations) {
+		final Event event = buildEvent(1, slotCount);
+		for (int number = 1; number <= slotCount; number++) {
+			event.findSlot(number).orElseThrow().slot(User.builder().id(number).build());
+		}
+
+		for (Operation operation : operations) {
+			if (operation.action() == Action.SLOT || operation.action() == Action.UNSLOT) {
+				apply(event, operation);
+			}
+			final Optional<Squad> reserve = event.getSquadList().stream().filter(Squad::isReserve).findAny();
+			if (isFull(event)) {
+				assertThat(reserve).isPresent();
+				final List<Slot> reserveSlots = reserve.get().getSlotList();
+				final long reservists = reserveSlots.stream().filter(Slot::isNotEmpty).count();
+				assertThat(reserveSlots.stream().limit(reservists)).allMatch(Slot::isNotEmpty);
+			} else {
+				assertThat(reserve).isEmpty();
+			}
+			assertConsistent(event);
+		}
+	}
+
+	@Provide
+	Arbitrary<List<Operation>> operations() {
+		final Arbitrary<Operation> operation = Combinators.combine(
+				Arbitraries.of(Action.class),
+				Arbitraries.integers().between(0, 1000),
+				Arbitraries.integers().between(0, 1000)
+		).as(Operation::new);
+		return operation.list().ofMaxSize(60);
+	}
+
+	private static void apply(Event event, Operation operation) {
+		final List<Slot> slots = allSlots(event);
+		if (slots.isEmpty()) {
+			return;
+		}
+		final Slot slot = slots.get(operation.first() % slots.size());
+		try {
+			switch (operation.action()) {
+				case SLOT -> slot.slot(User.builder().id(1 + operation.second() % USERS).build());
+				case UNSLOT -> slot.unslot(slot.getUser() != null ? slot.getUser() : User.builder().id(1).build());
+				case SWAP -> slot.swapUsers(slots.get(operation.second() % slots.size()));
+				case ADD_SLOT -> {
+					if (!slot.isInReserve()) {
+						slot.getSquad().addSlot(Slot.builder().number(event.findFirstUnusedSlotNumber()).name("New").build());
+					}
+				}
+				case DELETE_SLOT -> {
+					if (!slot.isInReserve() && slot.isEmpty() && event.getSquadList().size() > 2) {
+						slot.getSquad().deleteSlot(slot);
+					}
+				}
+				case RENUMBER -> {
+					final int number = 200 + operation.second();
+					if (!slot.isInReserve() && event.findSlot(number).isEmpty()) {
+						slot.setNumber(number);
+					}
+				}
+				case RENAME_SQUAD -> {
+					if (!slot.isInReserve()) {
+						slot.getSquad().setName("Squad " + operation.second());
+					}
+				}
+			}
+		} catch (BusinessRuntimeException ignored) {
+			//Rejected changes must not modify the event
+		}
+	}
+
+	private static void assertConsistent(Event event) {
+		final List<Slot> slots = allSlots(event);
+		for (Slot slot : slots) {
+			assertThat(event.findSlot(slot.getNumber())).containsSame(slot);
+			if (slot.isNotEmpty()) {
+				assertThat(event.findSlotOfUser(slot.getUser())).get()
+						.extracting(indexed -> indexed.getUser().getId())
+						.isEqualTo(slot.getUser().getId());
+			}
+		}
+		for (int userId = 1; userId <= USERS; userId++) {
+			final long id = userId;
+			final boolean slotted = slots.stream().anyMatch(slot -> slot.isNotEmpty() && slot.getUser().getId() == id);
+			assertThat(event.findSlotOfUser(User.builder().id(id).build()).isPresent()).isEqualTo(slotted);
+		}
+
+		final Set<Integer> numbers = new HashSet<>();
+		slots.forEach(slot -> numbers.add(slot.getNumber()));
+		assertThat(numbers).hasSameSizeAs(slots);
+		int firstUnused = 1;
+		while (numbers.contains(firstUnused)) {
+			firstUnused++;
+		}
+		assertThat(event.findFirstUnusedSlotNumber()).isEqualTo(firstUnused);
+		assertThat(event.findSlot(firstUnused)).isEmpty();
+
+		final List<Squad> reserves = event.getSquadList().stream().filter(squad -> squad.getName().equalsIgnoreCase(RESERVE_NAME)).toList();
+		assertThat(reserves).hasSizeLessThanOrEqualTo(1);
+	}
+
+	private static boolean isFull(Event event) {
+		return event.getSquadList().stream()
+				.filter(squad -> !squad.isReserve())
+				.allMatch(squad -> squad.getSlotList().stream().allMatch(Slot::isNotEmpty));
+	}
+
+	private static List<Slot> allSlots(Event event) {
+		return event.getSquadList().stream().flatMap(squad -> squad.getSlotList().stream()).toList();
+	}
+
+	private static Event buildEvent(int squadCount, int slotsPerSquad) {
+		final List<Squad> squads = new ArrayList<>();
+		final Event event = Event.builder()
+				.squadList(squads)
+				.details(new ArrayList<>())
+				.build();
+		int number = 1;
+		for (int i = 0; i < squadCount; i++) {
+			final List<Slot> slots = new ArrayList<>();
+			final Squad squad = Squad.builder().name("Squad " + i).slotList(slots).event(event).build();
+			for (int j = 0; j < slotsPerSquad; j++) {
+				slots.add(Slot.builder().number(number++).name("Slot").squad(squad).build());
+			}
+			squads.add(squad);
+		}
+		return event;
+	}
+}
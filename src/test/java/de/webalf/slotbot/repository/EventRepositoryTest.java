@@ -0,0 +1,199 @@
+package de.webalf.slotbot.repository;
+
+import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.dtos.CalendarEventRevision;
+import de.webalf.slotbot.model.dtos.CalendarEventSummary;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts the number of SQL statements needed to load an event with 20 squads and 200 slots
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EventRepositoryTest {
+	private static final int SQUADS = 20;
+	private static final int SLOTS_PER_SQUAD = 10;
+	private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2026, 10, 17, 20, 0);
+
+	@Autowired
+	private EventRepository sut;
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Statistics statistics;
+	private Guild guild;
+	private long eventId;
+
+	@BeforeEach
+	void setUp() {
+		guild = entityManager.persist(Guild.builder().id(1).build());
+		final EventType eventType = entityManager.persist(EventType.builder().name("Type").color("#ffffff").guild(guild).build());
+		final Event event = buildEvent(eventType);
+		event.updateGuildVisibility();
+		eventId = entityManager.persist(event).getId();
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findByIdLoadsCompleteEventWithConstantStatements() {
+		final Event event = sut.findById(eventId).orElseThrow();
+
+		assertThat(countSlottedUsers(event)).isEqualTo(SQUADS * SLOTS_PER_SQUAD / 2);
+		assertThat(event.getDetails()).isEmpty();
+		assertThat(event.getDiscordInformation()).isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+	}
+
+	@Test
+	void slotListGraphLoadsSlotsInOneStatement() {
+		final List<Event> events = sut.findAllByGuildAndDateTimeBetween(guild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1));
+
+		assertThat(events).hasSize(1);
+		assertThat(countSlottedUsers(events.getFirst())).isEqualTo(SQUADS * SLOTS_PER_SQUAD / 2);
+		assertThat(events.getFirst().getSquadList()).hasSize(SQUADS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void summaryGraphDoesNotLoadSlots() {
+		final List<Event> events = sut.findAllByIdIn(List.of(eventId));
+
+		assertThat(events).hasSize(1);
+		final Event event = events.getFirst();
+		assertThat(event.getName()).isEqualTo("Event");
+		assertThat(event.getOwnerGuild().getId()).isEqualTo(guild.getId());
+		assertThat(Hibernate.isInitialized(event.getSquadList())).isFalse();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void calendarSummaryCountsSlotsInOneStatement() {
+		final List<CalendarEventSummary> summaries = sut.findCalendarSummariesByGuild(guild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1), false);
+
+		assertThat(summaries).containsExactly(new CalendarEventSummary(eventId, "Event", EVENT_DATE, "#ffffff", null,
+				SQUADS * SLOTS_PER_SQUAD, SQUADS * SLOTS_PER_SQUAD / 2, 0));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void calendarSummaryCountsEmptyReserveSlots() {
+		final Event event = entityManager.find(Event.class, eventId);
+		final List<Slot> reserveSlots = new ArrayList<>();
+		final Squad reserve = Squad.builder().name(Squad.RESERVE_NAME).slotList(reserveSlots).event(event).build();
+		reserveSlots.add(Slot.builder().number(1000).name("Reserve 1").squad(reserve).user(entityManager.persist(User.builder().id(1000).build())).build());
+		reserveSlots.add(Slot.builder().number(1001).name("Reserve 2").squad(reserve).build());
+		reserveSlots.add(Slot.builder().number(1002).name("Reserve 3").squad(reserve).build());
+		event.getSquadList().add(reserve);
+		entityManager.flush();
+		entityManager.clear();
+
+		final List<CalendarEventSummary> summaries = sut.findCalendarSummariesByGuild(guild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1), true);
+
+		assertThat(summaries).singleElement().satisfies(summary -> {
+			assertThat(summary.slotCount()).isEqualTo(SQUADS * SLOTS_PER_SQUAD);
+			assertThat(summary.emptySlotCount()).isEqualTo(SQUADS * SLOTS_PER_SQUAD / 2);
+			assertThat(summary.emptyReserveSlotCount()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void calendarRevisionsFollowRenderedValues() {
+		final User user = entityManager.find(User.class, 1L);
+		assertThat(sut.findCalendarRevisionsByUser(user)).containsExactly(new CalendarEventRevision(eventId, 0));
+
+		final Event event = entityManager.find(Event.class, eventId);
+		event.setName("Event");
+		event.setDescription("Description");
+		entityManager.flush();
+		assertThat(sut.findCalendarRevisionsByGuildAndHiddenFalse(guild)).containsExactly(new CalendarEventRevision(eventId, 0));
+
+		event.setName("Renamed event");
+		event.setDateTime(EVENT_DATE.plusHours(1));
+		entityManager.flush();
+		assertThat(sut.findCalendarRevisionsByUser(user)).containsExactly(new CalendarEventRevision(eventId, 2));
+	}
+
+	@Test
+	void guildVisibilityFollowsReservations() {
+		final Guild reservedGuild = entityManager.persist(Guild.builder().id(2).build());
+		final Event event = entityManager.find(Event.class, eventId);
+		event.getSquadList().getFirst().setReservedFor(reservedGuild);
+		event.setHidden(true);
+		event.updateGuildVisibility();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(sut.findAllByGuildAndDateTimeBetween(reservedGuild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1)))
+				.extracting(Event::getId).containsExactly(eventId);
+		assertThat(sut.findAllByGuildAndDateTimeBetweenAndHiddenFalse(reservedGuild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1))).isEmpty();
+		assertThat(sut.findAllByDateTimeIsBeforeAndOwnerGuildAndOrderByDateTime(EVENT_DATE.plusDays(1), reservedGuild.getId()))
+				.extracting(Event::getId).containsExactly(eventId);
+
+		final Event reservedEvent = entityManager.find(Event.class, eventId);
+		reservedEvent.getSquadList().getFirst().setReservedFor(null);
+		reservedEvent.updateGuildVisibility();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(sut.findAllByGuildAndDateTimeBetween(reservedGuild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1))).isEmpty();
+		assertThat(sut.findAllByGuildAndDateTimeBetween(guild.getId(), EVENT_DATE.minusDays(1), EVENT_DATE.plusDays(1))).hasSize(1);
+	}
+
+	private static long countSlottedUsers(Event event) {
+		return event.getSquadList().stream()
+				.flatMap(squad -> squad.getSlotList().stream())
+				.filter(Slot::isNotEmpty)
+				.map(slot -> slot.getUser().getId())
+				.count();
+	}
+
+	private Event buildEvent(EventType eventType) {
+		final List<Squad> squads = new ArrayList<>();
+		final Event event = Event.builder()
+				.name("Event")
+				.dateTime(EVENT_DATE)
+				.creator("Creator")
+				.eventType(eventType)
+				.ownerGuild(guild)
+				.details(new ArrayList<>())
+				.squadList(squads)
+				.discordInformation(new HashSet<>())
+				.build();
+
+		int slotNumber = 1;
+		for (int i = 0; i < SQUADS; i++) {
+			final List<Slot> slots = new ArrayList<>();
+			final Squad squad = Squad.builder().name("Squad " + i).slotList(slots).event(event).build();
+			for (int j = 0; j < SLOTS_PER_SQUAD; j++) {
+				final User user = j % 2 == 0 ? entityManager.persist(User.builder().id(slotNumber).build()) : null;
+				slots.add(Slot.builder().number(slotNumber).name("Slot " + slotNumber).squad(squad).user(user).build());
+				slotNumber++;
+			}
+			squads.add(squad);
+		}
+		return event;
+	}
+}
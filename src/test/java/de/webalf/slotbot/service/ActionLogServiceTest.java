@@ -0,0 +1,144 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.model.ActionLog;
+import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.enums.LogAction;
+import de.webalf.slotbot.repository.ActionLogRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ActionLogServiceTest {
+	private static final Event EVENT = Event.builder().id(1).dateTime(LocalDateTime.now().plusDays(1)).build();
+
+	@Mock
+	private ActionLogRepository logRepository;
+	@Mock
+	private SchedulerService schedulerService;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private EntityManager entityManager;
+
+	@InjectMocks
+	private ActionLogService sut;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+		lenient().when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+		lenient().when(entityManager.getReference(eq(User.class), anyLong()))
+				.thenAnswer(invocation -> User.builder().id(invocation.getArgument(1, Long.class)).build());
+	}
+
+	//logEventAction
+	@Test
+	void logEventActionWritesBehind() {
+		sut.logEventAction(LogAction.SWAP, EVENT, buildUser(1), buildUser(2));
+
+		verifyNoInteractions(logRepository);
+
+		sut.flush();
+
+		final List<ActionLog> actionLogs = captureSavedActionLogs(1).getFirst();
+		assertThat(actionLogs).extracting(actionLog -> actionLog.getUser().getId()).containsExactly(1L, 2L);
+		assertThat(actionLogs).allMatch(actionLog -> actionLog.getAction() == LogAction.SWAP && actionLog.getActionObjectId() == 1);
+	}
+
+	@Test
+	void logEventActionIgnoresDefaultUser() {
+		sut.logEventAction(LogAction.SLOT, EVENT, buildUser(User.DEFAULT_USER_ID));
+		sut.flush();
+
+		verifyNoInteractions(logRepository);
+	}
+
+	@Test
+	void logEventActionSchedulesFlushForCompleteBatch() {
+		for (int i = 1; i <= ActionLogService.BATCH_SIZE; i++) {
+			sut.logEventAction(LogAction.SLOT, EVENT, buildUser(i));
+		}
+
+		verify(schedulerService).schedule(any(), any(), eq(0L), any());
+	}
+
+	//flush
+	@Test
+	void flushWritesInBatches() {
+		for (int i = 1; i <= ActionLogService.BATCH_SIZE + 1; i++) {
+			sut.logEventAction(LogAction.UNSLOT, EVENT, buildUser(i));
+		}
+
+		sut.flush();
+
+		final List<List<ActionLog>> batches = captureSavedActionLogs(2);
+		assertThat(batches.getFirst()).hasSize(ActionLogService.BATCH_SIZE);
+		assertThat(batches.get(1)).hasSize(1);
+	}
+
+	@Test
+	void flushUsesNewTransaction() {
+		sut.logEventAction(LogAction.SLOT, EVENT, buildUser(1));
+		sut.flush();
+
+		verify(transactionManager).getTransaction(argThat(definition ->
+				definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+	}
+
+	@Test
+	void flushRetriesFailedBatch() {
+		when(logRepository.saveAll(any())).thenThrow(new IllegalStateException()).thenReturn(List.of());
+		sut.logEventAction(LogAction.SLOT, EVENT, buildUser(1));
+
+		sut.flush();
+		sut.flush();
+
+		final List<List<ActionLog>> batches = captureSavedActionLogs(2);
+		assertThat(batches.get(1)).extracting(actionLog -> actionLog.getUser().getId()).containsExactly(1L);
+	}
+
+	@Test
+	void flushDropsEntryAfterMaxAttempts() {
+		when(logRepository.saveAll(any())).thenThrow(new IllegalStateException());
+		sut.logEventAction(LogAction.SLOT, EVENT, buildUser(1));
+
+		for (int i = 0; i <= ActionLogService.MAX_ATTEMPTS; i++) {
+			sut.flush();
+		}
+
+		captureSavedActionLogs(ActionLogService.MAX_ATTEMPTS);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<List<ActionLog>> captureSavedActionLogs(int times) {
+		final ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+		verify(logRepository, times(times)).saveAll(captor.capture());
+		return captor.getAllValues();
+	}
+
+	private static User buildUser(long id) {
+		return User.builder().id(id).build();
+	}
+}
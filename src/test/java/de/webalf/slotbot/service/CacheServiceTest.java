@@ -0,0 +1,73 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.configuration.CacheConfig;
+import de.webalf.slotbot.configuration.properties.CacheProperties;
+import de.webalf.slotbot.model.dtos.CacheStatisticsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import static de.webalf.slotbot.constant.CacheNames.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class CacheServiceTest {
+	private CacheManager cacheManager;
+	private CacheService sut;
+
+	@BeforeEach
+	void setUp() {
+		final CacheProperties cacheProperties = new CacheProperties();
+		final CacheProperties.CacheSpec nicknames = new CacheProperties.CacheSpec();
+		nicknames.setMaximumSize(10);
+		cacheProperties.getRegions().put(DISCORD_NICKNAMES, nicknames);
+		cacheManager = new CacheConfig(cacheProperties).cacheManager();
+		sut = new CacheService(cacheManager);
+	}
+
+	//evictMember
+	@Test
+	void evictMemberRemovesMemberOfGuild() {
+		final Cache nicknames = cacheManager.getCache(DISCORD_NICKNAMES);
+		nicknames.put(new SimpleKey("1", 2L), "Nickname");
+		nicknames.put(new SimpleKey("1", 3L), "Other nickname");
+		cacheManager.getCache(GUILD_MEMBER).put(new SimpleKey("1", 2L), "Member");
+
+		sut.evictMember(2, 1);
+
+		assertThat(nicknames.get(new SimpleKey("1", 2L))).isNull();
+		assertThat(nicknames.get(new SimpleKey("1", 3L))).isNotNull();
+		assertThat(cacheManager.getCache(GUILD_MEMBER).get(new SimpleKey("1", 2L))).isNull();
+	}
+
+	//evictUser
+	@Test
+	void evictUserRemovesUser() {
+		final Cache users = cacheManager.getCache(DISCORD_USER);
+		users.put("1", "User");
+
+		sut.evictUser(1);
+
+		assertThat(users.get("1")).isNull();
+	}
+
+	//getStatistics
+	@Test
+	void getStatisticsCountsHitsAndMisses() {
+		final Cache nicknames = cacheManager.getCache(DISCORD_NICKNAMES);
+		nicknames.put("1", "Nickname");
+		nicknames.get("1");
+		nicknames.get("2");
+
+		final CacheStatisticsDto statistics = sut.getStatistics().get(DISCORD_NICKNAMES);
+
+		assertThat(statistics.getSize()).isEqualTo(1);
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+	}
+}
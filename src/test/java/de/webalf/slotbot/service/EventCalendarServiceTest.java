@@ -0,0 +1,78 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.configuration.CacheConfig;
+import de.webalf.slotbot.configuration.properties.CacheProperties;
+import de.webalf.slotbot.configuration.properties.StorageProperties;
+import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.Guild;
+import de.webalf.slotbot.model.User;
+import de.webalf.slotbot.model.dtos.CalendarEventRevision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class EventCalendarServiceTest {
+	private final EventService eventService = mock(EventService.class);
+	private final User user = User.builder().id(1).build();
+	private final Event event = Event.builder()
+			.id(10)
+			.name("Event")
+			.dateTime(LocalDateTime.of(2026, 10, 20, 20, 0))
+			.ownerGuild(Guild.builder().id(1).build())
+			.build();
+
+	@TempDir
+	private Path calendarOutput;
+	private EventCalendarService sut;
+
+	@BeforeEach
+	void setUp() {
+		final StorageProperties storageProperties = new StorageProperties();
+		storageProperties.setCalendarOutput(calendarOutput.toString());
+		sut = new EventCalendarService(storageProperties, eventService, new CacheConfig(new CacheProperties()).cacheManager());
+		user.setExternalCalendarIntegrationActive(true);
+		when(eventService.findAllById(List.of(event.getId()))).thenReturn(List.of(event));
+	}
+
+	@Test
+	void unchangedEventIsRenderedOnce() throws IOException {
+		when(eventService.findCalendarRevisionsOfUser(user)).thenReturn(List.of(new CalendarEventRevision(event.getId(), 0)));
+
+		sut.rebuildCalendar(user);
+		sut.rebuildCalendar(user);
+
+		verify(eventService, times(1)).findAllById(anyCollection());
+		assertThat(readCalendar()).contains("SEQUENCE:0\r\n");
+	}
+
+	@Test
+	void changedEventIsRenderedAgain() throws IOException {
+		when(eventService.findCalendarRevisionsOfUser(user))
+				.thenReturn(List.of(new CalendarEventRevision(event.getId(), 0)))
+				.thenReturn(List.of(new CalendarEventRevision(event.getId(), 1)));
+
+		sut.rebuildCalendar(user);
+		event.setName("Renamed event");
+		sut.rebuildCalendar(user);
+
+		verify(eventService, times(2)).findAllById(anyCollection());
+		assertThat(readCalendar()).contains("SUMMARY:Renamed event\r\n", "SEQUENCE:1\r\n");
+	}
+
+	private String readCalendar() throws IOException {
+		return Files.readString(calendarOutput.resolve(user.getId() + ".ics"));
+	}
+}
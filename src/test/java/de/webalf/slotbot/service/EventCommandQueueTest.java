@@ -0,0 +1,216 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.configuration.ExecutorConfig;
+import de.webalf.slotbot.exception.BusinessRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class EventCommandQueueTest {
+	private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+	private final ThreadPoolTaskExecutor workers = new ExecutorConfig().eventCommandExecutor();
+	private final EventCommandQueue sut = new EventCommandQueue(new OptimisticLockRetryService(new TransactionTemplate(transactionManager)),
+			workers, Runnable::run, transactionManager);
+
+	EventCommandQueueTest() {
+		workers.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		workers.shutdown();
+	}
+
+	@Test
+	void executesCommandsOfOneEventInOrder() {
+		final List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+		final List<CompletableFuture<Integer>> futures = IntStream.range(0, 100)
+				.mapToObj(i -> sut.submit(1, () -> {
+					executed.add(i);
+					return i;
+				}))
+				.toList();
+
+		assertThat(futures.stream().map(CompletableFuture::join)).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+		assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+	}
+
+	@Test
+	void commitsWaitingCommandsInOneTransaction() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<Boolean> blocking = sut.submit(1, () -> {
+			started.countDown();
+			return await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		final List<CompletableFuture<Integer>> waiting = IntStream.range(0, EventCommandQueue.BATCH_SIZE)
+				.mapToObj(i -> sut.submit(1, () -> i))
+				.toList();
+		release.countDown();
+
+		assertThat(blocking.join()).isTrue();
+		waiting.forEach(CompletableFuture::join);
+		assertThat(transactionManager.commits).hasValue(2);
+	}
+
+	@Test
+	void failedCommandDoesNotAffectOtherCommandsOfBatch() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		sut.submit(1, () -> {
+			started.countDown();
+			return await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		final AtomicInteger beforeExecutions = new AtomicInteger();
+		final CompletableFuture<Integer> before = sut.submit(1, beforeExecutions::incrementAndGet);
+		final CompletableFuture<Object> failing = sut.submit(1, () -> {
+			throw BusinessRuntimeException.builder().title("Slot occupied").build();
+		});
+		final CompletableFuture<String> after = sut.submit(1, () -> "after");
+		release.countDown();
+
+		assertThat(after.join()).isEqualTo("after");
+		assertThat(before.join()).isEqualTo(1);
+		assertThatThrownBy(failing::join).hasCauseInstanceOf(BusinessRuntimeException.class);
+		assertThat(transactionManager.savepointRollbacks).hasValue(1);
+		assertThat(transactionManager.rollbacks).hasValue(0);
+		assertThat(transactionManager.commits).hasValue(2);
+	}
+
+	@Test
+	void executeThrowsExceptionOfCommand() {
+		assertThatThrownBy(() -> sut.execute(1, () -> {
+			throw BusinessRuntimeException.builder().title("Slot occupied").build();
+		})).isInstanceOf(BusinessRuntimeException.class).hasMessage("Slot occupied");
+	}
+
+	@Test
+	void executesCommandsOfDifferentEventsInParallel() {
+		final CountDownLatch bothStarted = new CountDownLatch(2);
+		final CompletableFuture<Boolean> first = sut.submit(1, () -> {
+			bothStarted.countDown();
+			return await(bothStarted);
+		});
+		final CompletableFuture<Boolean> second = sut.submit(2, () -> {
+			bothStarted.countDown();
+			return await(bothStarted);
+		});
+
+		assertThat(first.join()).isTrue();
+		assertThat(second.join()).isTrue();
+	}
+
+	@Test
+	void submitReadsResultAfterCommit() {
+		final CompletableFuture<String> future = sut.submit(1, () -> 1, result -> "read " + result + " after " + transactionManager.commits.get());
+
+		assertThat(future.join()).isEqualTo("read 1 after 1");
+	}
+
+	@Test
+	void finishesQueuedCommandsOnShutdown() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		sut.submit(1, () -> {
+			started.countDown();
+			return await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		final List<CompletableFuture<Integer>> waiting = IntStream.range(0, EventCommandQueue.BATCH_SIZE * 2)
+				.mapToObj(i -> sut.submit(1, () -> i))
+				.toList();
+		workers.getThreadPoolExecutor().shutdown();
+		release.countDown();
+
+		assertThat(waiting.stream().map(CompletableFuture::join)).containsExactlyElementsOf(IntStream.range(0, EventCommandQueue.BATCH_SIZE * 2).boxed().toList());
+	}
+
+	@Test
+	void cancelsCommandsSubmittedAfterShutdown() {
+		workers.shutdown();
+
+		assertThat(sut.submit(1, () -> 1)).isCancelled();
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+		private final AtomicInteger commits = new AtomicInteger();
+		private final AtomicInteger rollbacks = new AtomicInteger();
+		private final AtomicInteger savepointRollbacks = new AtomicInteger();
+
+		private RecordingTransactionManager() {
+			setNestedTransactionAllowed(true);
+		}
+
+		@Override
+		protected Object doGetTransaction() {
+			return new SavepointManager() {
+				@Override
+				public Object createSavepoint() {
+					return new Object();
+				}
+
+				@Override
+				public void rollbackToSavepoint(Object savepoint) {
+					savepointRollbacks.incrementAndGet();
+				}
+
+				@Override
+				public void releaseSavepoint(Object savepoint) {}
+			};
+		}
+
+		@Override
+		protected boolean isExistingTransaction(Object transaction) {
+			return TransactionSynchronizationManager.isActualTransactionActive();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+			commits.incrementAndGet();
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+			rollbacks.incrementAndGet();
+		}
+	}
+}
@@ -15,16 +15,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static de.webalf.slotbot.AssertionUtils.assertMessageEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Alf
@@ -69,7 +66,7 @@ class EventDiscordInformationServiceTest {
 		final long guildId = 123;
 		final long channelId = 1123;
 
-		final Event event = Event.builder().discordInformation(new HashSet<>()).build();
+		final Event event = Event.builder().ownerGuild(Guild.builder().id(guildId).build()).discordInformation(new HashSet<>()).build();
 
 		final Set<EventDiscordInformationDto> informationDtos = buildInformationSet(Map.of(guildId, channelId));
 		final Set<EventDiscordInformation> expected = buildActualInformationSet(informationDtos, event);
@@ -134,10 +131,68 @@ class EventDiscordInformationServiceTest {
 		assertMessageEquals("In mindestens einem der angegebenen Kanäle gibt es bereits ein Event.", exception);
 	}
 
+	//removeByMessage
+	@Test
+	void removeByMessageUpdatesGuildVisibility() {
+		final long channelId = 1123;
+		final long messageId = 11123;
+		final Event event = spyEvent(123, channelId);
+		final EventDiscordInformation information = event.getDiscordInformation().iterator().next();
+		information.setInfoMsg(messageId);
+		final Runnable onRemoval = mock(Runnable.class);
+		when(discordInformationRepository.findById(channelId)).thenReturn(Optional.of(information));
+
+		sut.removeByMessage(channelId, messageId, onRemoval);
+
+		assertThat(event.getDiscordInformation()).isEmpty();
+		verify(onRemoval).run();
+		verify(event).updateGuildVisibility();
+	}
+
+	@Test
+	void removeByMessageIgnoresOtherMessage() {
+		final long channelId = 1123;
+		final Event event = spyEvent(123, channelId);
+		final EventDiscordInformation information = event.getDiscordInformation().iterator().next();
+		information.setInfoMsg(11124L);
+		information.setSlotListMsgPartOne(11125L);
+		information.setSlotListMsgPartTwo(11126L);
+		when(discordInformationRepository.findById(channelId)).thenReturn(Optional.of(information));
+
+		sut.removeByMessage(channelId, 11123, mock(Runnable.class));
+
+		assertThat(event.getDiscordInformation()).hasSize(1);
+		verify(event, never()).updateGuildVisibility();
+	}
+
+	//removeByGuild
+	@Test
+	void removeByGuildArchivesEvents() {
+		final long guildId = 123;
+		final Event event = spyEvent(guildId, 1123);
+		final Event otherEvent = spyEvent(guildId, 2123);
+		final List<EventDiscordInformation> information = new ArrayList<>(event.getDiscordInformation());
+		information.addAll(otherEvent.getDiscordInformation());
+		when(discordInformationRepository.findAllByGuildId(guildId)).thenReturn(information);
+
+		sut.removeByGuild(guildId);
+
+		assertThat(event.getDiscordInformation()).isEmpty();
+		assertThat(otherEvent.getDiscordInformation()).isEmpty();
+		verify(event).updateGuildVisibility();
+		verify(otherEvent).updateGuildVisibility();
+	}
+
 	private Event buildEvent(long guildId, long channel) {
 		final Set<EventDiscordInformation> information = new HashSet<>();
 		information.add(EventDiscordInformation.builder().guild(Guild.builder().id(guildId).build()).channel(channel).build());
-		final Event event = Event.builder().discordInformation(information).build();
+		final Event event = Event.builder().ownerGuild(Guild.builder().id(guildId).build()).discordInformation(information).build();
+		event.getDiscordInformation().forEach(eventDiscordInformation -> eventDiscordInformation.setEvent(event));
+		return event;
+	}
+
+	private Event spyEvent(long guildId, long channel) {
+		final Event event = spy(buildEvent(guildId, channel));
 		event.getDiscordInformation().forEach(eventDiscordInformation -> eventDiscordInformation.setEvent(event));
 		return event;
 	}
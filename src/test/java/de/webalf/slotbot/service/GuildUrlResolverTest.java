@@ -0,0 +1,100 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.model.Guild;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class GuildUrlResolverTest {
+	private static final Guild EXACT = buildGuild(1, "https://events\\.example\\.de/backend");
+	private static final Guild REGEX = buildGuild(2, "https?://(www\\.)?other\\.de(:\\d+)?/backend");
+	private static final Guild SECOND_REGEX = buildGuild(3, "http://localhost:\\d+/backend");
+
+	//resolve
+	@Test
+	void resolveFindsExactUri() {
+		final GuildUrlResolver sut = new GuildUrlResolver(List.of(EXACT, REGEX, SECOND_REGEX));
+
+		assertThat(sut.resolve("https://events.example.de/backend")).isEqualTo(1);
+	}
+
+	@Test
+	void resolveFindsGuildOfMatchingPattern() {
+		final GuildUrlResolver sut = new GuildUrlResolver(List.of(EXACT, REGEX, SECOND_REGEX));
+
+		assertThat(sut.resolve("https://www.other.de:8080/backend")).isEqualTo(2);
+		assertThat(sut.resolve("http://localhost:3000/backend")).isEqualTo(3);
+	}
+
+	@Test
+	void resolveReturnsNullForUnknownUri() {
+		final GuildUrlResolver sut = new GuildUrlResolver(List.of(EXACT, REGEX, SECOND_REGEX));
+
+		assertThat(sut.resolve("https://eventsXexample.de/backend")).isNull();
+		assertThat(sut.resolve("https://unknown.de/backend")).isNull();
+	}
+
+	@Test
+	void resolveWithoutGuilds() {
+		final GuildUrlResolver sut = new GuildUrlResolver(Collections.emptyList());
+
+		assertThat(sut.resolve("https://events.example.de/backend")).isNull();
+	}
+
+	@Test
+	void resolveKeepsOrderOfExactAndRegexPatterns() {
+		final Guild catchAll = buildGuild(4, "https://.*/backend");
+
+		assertThat(new GuildUrlResolver(List.of(catchAll, EXACT)).resolve("https://events.example.de/backend")).isEqualTo(4);
+		assertThat(new GuildUrlResolver(List.of(EXACT, catchAll)).resolve("https://events.example.de/backend")).isEqualTo(1);
+	}
+
+	@Test
+	void resolveWithBackreference() {
+		final GuildUrlResolver sut = new GuildUrlResolver(List.of(REGEX, buildGuild(4, "https://(\\w+)\\.\\1\\.de/backend")));
+
+		assertThat(sut.resolve("https://ab.ab.de/backend")).isEqualTo(4);
+		assertThat(sut.resolve("https://ab.cd.de/backend")).isNull();
+		assertThat(sut.resolve("https://other.de/backend")).isEqualTo(2);
+	}
+
+	@Test
+	void resolveWithConflictingGroupName() {
+		final GuildUrlResolver sut = new GuildUrlResolver(List.of(REGEX, buildGuild(4, "https://(?<g0>\\w+)\\.de/app")));
+
+		assertThat(sut.resolve("https://example.de/app")).isEqualTo(4);
+		assertThat(sut.resolve("https://other.de/backend")).isEqualTo(2);
+	}
+
+	//hasNumberedBackreference
+	@Test
+	void hasNumberedBackreference() {
+		assertThat(GuildUrlResolver.hasNumberedBackreference("(a)\\1")).isTrue();
+		assertThat(GuildUrlResolver.hasNumberedBackreference("a\\\\1")).isFalse();
+		assertThat(GuildUrlResolver.hasNumberedBackreference("(:\\d+)?")).isFalse();
+	}
+
+	//toLiteral
+	@Test
+	void toLiteralUnescapesMetaCharacters() {
+		assertThat(GuildUrlResolver.toLiteral("https://a\\.b\\.de/backend")).isEqualTo("https://a.b.de/backend");
+	}
+
+	@Test
+	void toLiteralReturnsNullForRegex() {
+		assertThat(GuildUrlResolver.toLiteral("https://a.b.de")).isNull();
+		assertThat(GuildUrlResolver.toLiteral("https://a\\.de(:\\d+)?")).isNull();
+	}
+
+	private static Guild buildGuild(long id, String urlPattern) {
+		return Guild.builder().id(id).urlPattern(Pattern.compile(urlPattern)).build();
+	}
+}
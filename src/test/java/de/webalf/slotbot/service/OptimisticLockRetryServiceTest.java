@@ -0,0 +1,121 @@
+package de.webalf.slotbot.service;
+
+import de.webalf.slotbot.exception.BusinessRuntimeException;
+import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.dtos.OptimisticLockStatisticsDto;
+import de.webalf.slotbot.repository.SlotRepository;
+import de.webalf.slotbot.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires competing slot requests for a few slots of one event from several threads, each in its own transaction
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(OptimisticLockRetryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticLockRetryServiceTest {
+	private static final int SLOTS = 10;
+	private static final int REQUESTS = 300;
+	private static final int THREADS = 8;
+
+	@Autowired
+	private OptimisticLockRetryService sut;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private SlotRepository slotRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void competingSlotRequestsOccupyEachSlotOnce() throws InterruptedException {
+		final List<Long> slotIds = transactionTemplate.execute(status -> createEvent());
+
+		final AtomicInteger slotted = new AtomicInteger();
+		final AtomicInteger occupied = new AtomicInteger();
+		final List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		for (int i = 0; i < REQUESTS; i++) {
+			final long userId = i + 1;
+			final long slotId = slotIds.get(i % SLOTS);
+			executor.execute(() -> {
+				try {
+					start.await();
+					sut.execute(status -> {
+						slotRepository.findById(slotId).orElseThrow().slot(userRepository.findById(userId).orElseThrow());
+						return null;
+					});
+					slotted.incrementAndGet();
+				} catch (BusinessRuntimeException e) {
+					occupied.incrementAndGet();
+				} catch (Throwable e) {
+					unexpected.add(e);
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+		assertThat(unexpected).isEmpty();
+		assertThat(slotted).hasValue(SLOTS);
+		assertThat(occupied).hasValue(REQUESTS - SLOTS);
+		final List<Slot> slots = slotRepository.findAllById(slotIds);
+		assertThat(slots).allMatch(Slot::isNotEmpty);
+		assertThat(slots).extracting(slot -> slot.getUser().getId()).doesNotHaveDuplicates();
+
+		final OptimisticLockStatisticsDto statistics = sut.getStatistics();
+		assertThat(statistics.getExhaustedCount()).isZero();
+		assertThat(statistics.getConflictCount()).isEqualTo(statistics.getRetryCount());
+	}
+
+	private List<Long> createEvent() {
+		final Guild guild = entityManager.persist(Guild.builder().id(1).build());
+		final EventType eventType = entityManager.persist(EventType.builder().name("Type").color("#ffffff").guild(guild).build());
+		final List<Squad> squads = new ArrayList<>();
+		final Event event = Event.builder()
+				.name("Event")
+				.dateTime(LocalDateTime.of(2026, 10, 17, 20, 0))
+				.creator("Creator")
+				.eventType(eventType)
+				.ownerGuild(guild)
+				.details(new ArrayList<>())
+				.squadList(squads)
+				.discordInformation(new HashSet<>())
+				.build();
+		final List<Slot> slots = new ArrayList<>();
+		final Squad squad = Squad.builder().name("Squad").slotList(slots).event(event).build();
+		for (int number = 1; number <= SLOTS; number++) {
+			slots.add(Slot.builder().number(number).name("Slot " + number).squad(squad).build());
+		}
+		squads.add(squad);
+		entityManager.persist(event);
+		for (int userId = 1; userId <= REQUESTS; userId++) {
+			entityManager.persist(User.builder().id(userId).build());
+		}
+		entityManager.flush();
+		return slots.stream().map(Slot::getId).toList();
+	}
+}
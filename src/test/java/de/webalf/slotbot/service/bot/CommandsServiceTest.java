@@ -0,0 +1,95 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.service.GuildService;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.OptionData;
+import net.dv8tion.jda.api.requests.restaction.CommandListUpdateAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static net.dv8tion.jda.api.interactions.DiscordLocale.FRENCH;
+import static net.dv8tion.jda.api.interactions.DiscordLocale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class CommandsServiceTest {
+	private static final long GUILD_ID = 10;
+
+	private final GuildService guildService = mock(GuildService.class);
+	private final Guild guild = mock(Guild.class);
+	private CommandsService sut;
+	private CommandsService.ApplicationCommands applicationCommands;
+
+	@BeforeEach
+	void setUp() {
+		when(guild.getIdLong()).thenReturn(GUILD_ID);
+		final List<CommandData> commands = List.of(command("slot"), Commands.slash("unslot", "Unslot"));
+		applicationCommands = new CommandsService.ApplicationCommands(commands, CommandsService.fingerprint(commands));
+		sut = spy(new CommandsService(null, null, guildService, Runnable::run));
+		doReturn(applicationCommands).when(sut).getApplicationCommands();
+	}
+
+	@Test
+	void fingerprintIgnoresOrder() {
+		final CommandData germanFirst = command("slot")
+				.setNameLocalization(GERMAN, "slotten")
+				.setNameLocalization(FRENCH, "slotter");
+		final CommandData frenchFirst = command("slot")
+				.setNameLocalization(FRENCH, "slotter")
+				.setNameLocalization(GERMAN, "slotten");
+		final CommandData unslot = Commands.slash("unslot", "Unslot");
+
+		assertThat(CommandsService.fingerprint(List.of(germanFirst, unslot)))
+				.isEqualTo(CommandsService.fingerprint(List.of(unslot, frenchFirst)))
+				.hasSize(64);
+	}
+
+	@Test
+	void fingerprintChangesWithDefinition() {
+		final CommandData changedOption = Commands.slash("slot", "Slot")
+				.addOptions(new OptionData(OptionType.INTEGER, "number", "Slot number", false));
+
+		assertThat(CommandsService.fingerprint(List.of(changedOption)))
+				.isNotEqualTo(CommandsService.fingerprint(List.of(command("slot"))));
+	}
+
+	@Test
+	void unchangedCommandsAreNotRegistered() {
+		when(guildService.findCommandsFingerprint(GUILD_ID)).thenReturn(applicationCommands.fingerprint());
+
+		sut.registerCommands(guild);
+
+		verify(guild, never()).updateCommands();
+		verify(guildService, never()).updateCommandsFingerprint(anyLong(), any());
+	}
+
+	@Test
+	void changedCommandsAreRegistered() {
+		when(guildService.findCommandsFingerprint(GUILD_ID)).thenReturn("outdated");
+		final CommandListUpdateAction updateAction = mock(CommandListUpdateAction.class);
+		when(guild.updateCommands()).thenReturn(updateAction);
+		when(updateAction.addCommands(anyCollection())).thenReturn(updateAction);
+
+		sut.registerCommands(guild);
+
+		verify(updateAction).addCommands(applicationCommands.commands());
+		verify(updateAction).complete();
+		verify(guildService).updateCommandsFingerprint(GUILD_ID, applicationCommands.fingerprint());
+	}
+
+	private static CommandData command(String name) {
+		return Commands.slash(name, "Slot")
+				.addOptions(new OptionData(OptionType.INTEGER, "number", "Number", true));
+	}
+}
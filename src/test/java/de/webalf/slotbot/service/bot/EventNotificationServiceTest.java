@@ -0,0 +1,144 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.model.*;
+import de.webalf.slotbot.model.event.EventArchiveEvent;
+import de.webalf.slotbot.repository.EventNotificationRepository;
+import de.webalf.slotbot.service.EventService;
+import de.webalf.slotbot.service.NotificationSettingsService;
+import de.webalf.slotbot.service.SchedulerService;
+import de.webalf.slotbot.util.bot.DirectMessageHelper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Asserts the number of SQL statements needed to rebuild the notifications of an event with 200 participants
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=50",
+		"spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({EventNotificationService.class, NotificationSettingsService.class})
+class EventNotificationServiceTest {
+	private static final int PARTICIPANTS = 200;
+
+	@Autowired
+	private EventNotificationService sut;
+	@Autowired
+	private EventNotificationRepository notificationRepository;
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@MockBean
+	private SchedulerService schedulerService;
+	@MockBean
+	private DirectMessageHelper directMessageHelper;
+	@MockBean
+	private EventService eventService;
+	@MockBean
+	private MessageSource messageSource;
+
+	private Event event;
+
+	@BeforeEach
+	void setUp() {
+		final Guild guild = entityManager.persist(Guild.builder().id(1).build());
+		final EventType eventType = entityManager.persist(EventType.builder().name("Type").color("#ffffff").guild(guild).build());
+		final List<Squad> squads = new ArrayList<>();
+		event = Event.builder()
+				.name("Event")
+				.dateTime(LocalDateTime.now().plusDays(7))
+				.creator("Creator")
+				.eventType(eventType)
+				.ownerGuild(guild)
+				.details(new ArrayList<>())
+				.squadList(squads)
+				.discordInformation(new HashSet<>())
+				.build();
+		final List<Slot> slots = new ArrayList<>();
+		final Squad squad = Squad.builder().name("Squad").slotList(slots).event(event).build();
+		squads.add(squad);
+		for (int number = 1; number <= PARTICIPANTS; number++) {
+			final User user = entityManager.persist(User.builder().id(number).build());
+			slots.add(Slot.builder().number(number).name("Slot " + number).squad(squad).user(user).build());
+			entityManager.persist(NotificationSetting.builder().user(user).hoursBeforeEvent(1).build());
+			entityManager.persist(NotificationSetting.builder().user(user).hoursBeforeEvent(24).build());
+		}
+		entityManager.persist(event);
+		//Event specific setting replaces the global ones
+		entityManager.persist(NotificationSetting.builder().user(slots.getFirst().getUser()).event(event).minutesBeforeEvent(30).build());
+		entityManager.flush();
+		when(eventService.findAllInFuture()).thenReturn(List.of(event));
+	}
+
+	@Test
+	void rebuildLoadsSettingsOfAllParticipantsAtOnce() {
+		final Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		sut.rebuildAllNotifications();
+		entityManager.flush();
+
+		assertThat(statistics.getQueryExecutionCount()).isLessThanOrEqualTo(3);
+		//Besides the queries only batched inserts and the allocation of ids in blocks of 50 are left
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 + 2 * (PARTICIPANTS * 2 / 50 + 1));
+		final List<EventNotification> notifications = notificationRepository.findAllByEventId(event.getId());
+		assertThat(notifications).hasSize((PARTICIPANTS - 1) * 2 + 1);
+		assertThat(notifications).filteredOn(notification -> notification.getUserId() == 1)
+				.singleElement()
+				.extracting(EventNotification::getNotificationTime)
+				.isEqualTo(event.getDateTime().minusMinutes(30).withNano(0));
+	}
+
+	@Test
+	void archiveByOwnerGuildRemovesNotifications() {
+		sut.rebuildAllNotifications();
+
+		sut.onEventArchiveEvent(EventArchiveEvent.builder().event(event).guildId(event.getOwnerGuild().getId()).build());
+
+		assertThat(notificationRepository.findAllByEventId(event.getId())).isEmpty();
+	}
+
+	@Test
+	void archiveByOtherGuildKeepsNotifications() {
+		sut.rebuildAllNotifications();
+
+		sut.onEventArchiveEvent(EventArchiveEvent.builder().event(event).guildId(2).build());
+
+		assertThat(notificationRepository.findAllByEventId(event.getId())).isNotEmpty();
+	}
+
+	@Test
+	void startUpSkipsMissedNotifications() {
+		final EventNotification missed = notificationRepository.save(EventNotification.builder()
+				.eventId(event.getId())
+				.userId(1)
+				.notificationTime(LocalDateTime.now().minusMinutes(5))
+				.build());
+
+		sut.startUp();
+		entityManager.clear();
+
+		assertThat(notificationRepository.findById(missed.getId())).isEmpty();
+	}
+}
@@ -0,0 +1,85 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.service.GuildUsersService;
+import de.webalf.slotbot.service.SchedulerService;
+import net.dv8tion.jda.api.entities.Role;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 18.10.2026
+ */
+class GuildUsersBotServiceTest {
+	private static final long GUILD_ID = 10;
+	private static final long ROLE_ID = 100;
+
+	private final GuildUsersService guildUsersService = mock(GuildUsersService.class);
+	private final SchedulerService schedulerService = mock(SchedulerService.class);
+	private final GuildUsersBotService sut = new GuildUsersBotService(guildUsersService, schedulerService);
+
+	//memberUpdated
+	@Test
+	void memberUpdatedSynchronizesMemberWithConfiguredRole() {
+		final long userId = 1;
+		when(guildUsersService.noRoleConfiguredForGuild(GUILD_ID, Set.of(ROLE_ID))).thenReturn(false);
+
+		sut.memberUpdated(GUILD_ID, userId, List.of(role()), false);
+
+		runScheduledRoleChange();
+		verify(guildUsersService).onRolesChanged(GUILD_ID, userId, Set.of(ROLE_ID));
+	}
+
+	@Test
+	void memberUpdatedSynchronizesExistingGuildUser() {
+		final long userId = 2;
+		when(guildUsersService.noRoleConfiguredForGuild(GUILD_ID, Set.of())).thenReturn(true);
+		when(guildUsersService.exists(GUILD_ID, userId)).thenReturn(true);
+
+		sut.memberUpdated(GUILD_ID, userId, List.of(), true);
+
+		runScheduledRoleChange();
+		verify(guildUsersService).onRolesChanged(GUILD_ID, userId, Set.of());
+	}
+
+	@Test
+	void memberUpdatedIgnoresKnownMemberWithoutGuildUser() {
+		final long userId = 3;
+		when(guildUsersService.noRoleConfiguredForGuild(GUILD_ID, Set.of(ROLE_ID))).thenReturn(true);
+		when(guildUsersService.exists(GUILD_ID, userId)).thenReturn(false);
+
+		sut.memberUpdated(GUILD_ID, userId, List.of(role()), true);
+
+		verifyNoInteractions(schedulerService);
+	}
+
+	@Test
+	void memberUpdatedIgnoresUnknownMemberWithoutConfiguredRole() {
+		final long userId = 4;
+		when(guildUsersService.noRoleConfiguredForGuild(GUILD_ID, Set.of(ROLE_ID))).thenReturn(true);
+
+		sut.memberUpdated(GUILD_ID, userId, List.of(role()), false);
+
+		verify(guildUsersService, never()).exists(anyLong(), anyLong());
+		verifyNoInteractions(schedulerService);
+	}
+
+	private void runScheduledRoleChange() {
+		final ArgumentCaptor<Runnable> roleChange = ArgumentCaptor.forClass(Runnable.class);
+		verify(schedulerService).schedule(roleChange.capture(), any(), eq(2L), eq(TimeUnit.SECONDS));
+		roleChange.getValue().run();
+	}
+
+	private static Role role() {
+		final Role role = mock(Role.class);
+		when(role.getIdLong()).thenReturn(ROLE_ID);
+		return role;
+	}
+}
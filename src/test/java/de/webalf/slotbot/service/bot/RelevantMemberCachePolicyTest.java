@@ -0,0 +1,60 @@
+package de.webalf.slotbot.service.bot;
+
+import de.webalf.slotbot.repository.GuildUsersRepository;
+import de.webalf.slotbot.repository.SlotRepository;
+import de.webalf.slotbot.service.SchedulerService;
+import net.dv8tion.jda.api.entities.Member;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Alf
+ * @since 18.10.2026
+ */
+class RelevantMemberCachePolicyTest {
+	private final GuildUsersRepository guildUsersRepository = mock(GuildUsersRepository.class);
+	private final SlotRepository slotRepository = mock(SlotRepository.class);
+	private final RelevantMemberCachePolicy sut = new RelevantMemberCachePolicy(guildUsersRepository, slotRepository, mock(SchedulerService.class));
+
+	@Test
+	void cacheMemberBeforeRefresh() {
+		assertThat(sut.cacheMember(member(1))).isFalse();
+	}
+
+	@Test
+	void cacheMemberCachesGuildUsersAndSlottedUsers() {
+		when(guildUsersRepository.findAllUserIds()).thenReturn(Set.of(1L));
+		when(slotRepository.findUserIdsBySquadEventDateTimeAfter(any(LocalDateTime.class))).thenReturn(Set.of(2L));
+
+		sut.refresh();
+
+		assertThat(sut.cacheMember(member(1))).isTrue();
+		assertThat(sut.cacheMember(member(2))).isTrue();
+		assertThat(sut.cacheMember(member(3))).isFalse();
+	}
+
+	@Test
+	void refreshForgetsUsersNoLongerKnown() {
+		when(guildUsersRepository.findAllUserIds()).thenReturn(Set.of(1L));
+		when(slotRepository.findUserIdsBySquadEventDateTimeAfter(any(LocalDateTime.class))).thenReturn(Set.of());
+		sut.refresh();
+
+		when(guildUsersRepository.findAllUserIds()).thenReturn(Set.of());
+		sut.refresh();
+
+		assertThat(sut.cacheMember(member(1))).isFalse();
+	}
+
+	private static Member member(long userId) {
+		final Member member = mock(Member.class);
+		when(member.getIdLong()).thenReturn(userId);
+		return member;
+	}
+}
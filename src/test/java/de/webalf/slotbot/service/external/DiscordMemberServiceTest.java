@@ -0,0 +1,129 @@
+package de.webalf.slotbot.service.external;
+
+import de.webalf.slotbot.model.external.discord.DiscordGuildMember;
+import de.webalf.slotbot.service.bot.BotService;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.concurrent.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static de.webalf.slotbot.constant.CacheNames.DISCORD_NICKNAMES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class DiscordMemberServiceTest {
+	private static final long GUILD_ID = 10;
+
+	private final ShardManager shardManager = mock(ShardManager.class);
+	private final Guild guild = mock(Guild.class);
+	private final DiscordApiService discordApiService = mock(DiscordApiService.class);
+	private final BotService botService = mock(BotService.class);
+	private final CacheManager cacheManager = new CaffeineCacheManager();
+	private DiscordMemberService sut;
+
+	@BeforeEach
+	void setUp() {
+		when(botService.getShardManager()).thenReturn(shardManager);
+		when(botService.getGuild(GUILD_ID)).thenReturn(guild);
+		when(guild.getIdLong()).thenReturn(GUILD_ID);
+		sut = new DiscordMemberService(botService, discordApiService, cacheManager);
+	}
+
+	@Test
+	void cachedMembersAreNotRequested() {
+		when(guild.getMemberById(anyLong())).thenAnswer(invocation -> member(invocation.getArgument(0)));
+
+		final Map<Long, String> names = sut.getNames(List.of(1L, 2L, 3L), GUILD_ID);
+
+		assertThat(names).containsOnly(Map.entry(1L, "Member 1"), Map.entry(2L, "Member 2"), Map.entry(3L, "Member 3"));
+		verify(guild, never()).retrieveMembersByIds(anyCollection());
+		verifyNoInteractions(discordApiService);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void missingMembersAreRequestedInBatches() {
+		final List<Long> userIds = LongStream.rangeClosed(1, 250).boxed().toList();
+		//First member is cached
+		final Member cachedMember = member(1);
+		when(guild.getMemberById(1L)).thenReturn(cachedMember);
+		when(guild.retrieveMembersByIds(anyCollection())).thenAnswer(invocation -> {
+			final Collection<Long> ids = invocation.getArgument(0);
+			final List<Member> members = ids.stream().map(DiscordMemberServiceTest::member).toList();
+			final Task<List<Member>> task = mock(Task.class);
+			when(task.setTimeout(any(Duration.class))).thenReturn(task);
+			when(task.get()).thenReturn(members);
+			return task;
+		});
+
+		final Map<Long, String> names = sut.getNames(userIds, GUILD_ID);
+
+		assertThat(names).hasSize(userIds.size()).containsEntry(250L, "Member 250");
+		final ArgumentCaptor<Collection<Long>> requested = ArgumentCaptor.forClass(Collection.class);
+		verify(guild, times(3)).retrieveMembersByIds(requested.capture());
+		assertThat(requested.getAllValues())
+				.allSatisfy(ids -> assertThat(ids).hasSizeLessThanOrEqualTo(DiscordMemberService.MEMBER_REQUEST_LIMIT))
+				.flatMap(ids -> ids)
+				.hasSize(userIds.size() - 1)
+				.doesNotContain(1L);
+		verify(shardManager, never()).retrieveUserById(anyLong());
+	}
+
+	@Test
+	void cachedNamesAreUsedAndResolvedNamesAreCached() {
+		final Cache cache = cacheManager.getCache(DISCORD_NICKNAMES);
+		cache.put(new SimpleKey("1", GUILD_ID), "Cached 1");
+		when(guild.getMemberById(anyLong())).thenAnswer(invocation -> member(invocation.getArgument(0)));
+
+		final Map<Long, String> names = sut.getNames(List.of(1L, 2L), GUILD_ID);
+
+		assertThat(names).containsOnly(Map.entry(1L, "Cached 1"), Map.entry(2L, "Member 2"));
+		verify(guild, never()).getMemberById(1L);
+		assertThat(cache.get(new SimpleKey("2", GUILD_ID), String.class)).isEqualTo("Member 2");
+	}
+
+	@Test
+	void membersAreRequestedConcurrentlyWithoutJda() {
+		when(botService.getShardManager()).thenReturn(null);
+		when(discordApiService.getGuildMemberWithUserAsync(anyString(), eq(GUILD_ID))).thenAnswer(invocation -> {
+			final String userId = invocation.getArgument(0);
+			if ("3".equals(userId)) {
+				return CompletableFuture.failedFuture(new IllegalStateException("Unknown user"));
+			}
+			return CompletableFuture.completedFuture(DiscordGuildMember.builder().nick("Member " + userId).build());
+		});
+
+		final Map<Long, DiscordGuildMember> members = sut.getMembers(List.of(1L, 2L, 3L), GUILD_ID);
+
+		assertThat(members).containsOnlyKeys(1L, 2L);
+		verify(discordApiService, never()).getGuildMemberWithUser(anyString(), anyLong());
+	}
+
+	private static Member member(long userId) {
+		final Member member = mock(Member.class, RETURNS_DEEP_STUBS);
+		when(member.getIdLong()).thenReturn(userId);
+		when(member.getUser().getIdLong()).thenReturn(userId);
+		when(member.getNickname()).thenReturn("Member " + userId);
+		when(member.getGuild().getIdLong()).thenReturn(GUILD_ID);
+		return member;
+	}
+}
@@ -0,0 +1,123 @@
+package de.webalf.slotbot.service.external;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.webalf.slotbot.model.external.discord.DiscordUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the client against a local stub server that responds with discords rate limit headers
+ *
+ * @author Alf
+ * @since 17.10.2026
+ */
+class DiscordRestClientTest {
+	private static final String USER = "{\"id\": 1, \"username\": \"User\"}";
+
+	private HttpServer server;
+	private DiscordRestClient sut;
+	private final Queue<Long> requestTimes = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.start();
+		sut = new DiscordRestClient("http://localhost:" + server.getAddress().getPort(), "Bot token");
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void getWaitsForExhaustedBucket() {
+		server.createContext("/users", exchange -> {
+			requestTimes.add(System.currentTimeMillis());
+			exchange.getResponseHeaders().add("X-RateLimit-Limit", "1");
+			exchange.getResponseHeaders().add("X-RateLimit-Remaining", "0");
+			exchange.getResponseHeaders().add("X-RateLimit-Reset-After", "0.5");
+			respond(exchange, 200, USER);
+		});
+
+		sut.get("/users", "/users/1", DiscordUser.class).join();
+		sut.get("/users", "/users/2", DiscordUser.class).join();
+
+		final List<Long> times = List.copyOf(requestTimes);
+		assertThat(times).hasSize(2);
+		assertThat(times.get(1) - times.get(0)).isGreaterThanOrEqualTo(450);
+	}
+
+	@Test
+	void getRetriesAfterTooManyRequests() {
+		final AtomicInteger requests = new AtomicInteger();
+		server.createContext("/users", exchange -> {
+			if (requests.getAndIncrement() == 0) {
+				exchange.getResponseHeaders().add("Retry-After", "0.2");
+				respond(exchange, 429, "{\"message\": \"You are being rate limited.\", \"retry_after\": 0.2, \"global\": false}");
+			} else {
+				respond(exchange, 200, USER);
+			}
+		});
+
+		final DiscordUser user = sut.get("/users", "/users/1", DiscordUser.class).join();
+
+		assertThat(user.getUsername()).isEqualTo("User");
+		assertThat(requests).hasValue(2);
+	}
+
+	@Test
+	void getReturnsNullOnError() {
+		server.createContext("/users", exchange -> respond(exchange, 404, "{\"message\": \"Unknown User\", \"code\": 10013}"));
+
+		assertThat(sut.get("/users", "/users/1", DiscordUser.class).join()).isNull();
+	}
+
+	@Test
+	void getSharesConcurrentRequests() throws InterruptedException {
+		final AtomicInteger requests = new AtomicInteger();
+		final CountDownLatch release = new CountDownLatch(1);
+		server.createContext("/users", exchange -> {
+			requests.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, USER);
+		});
+
+		final CompletableFuture<DiscordUser> first = sut.get("/users", "/users/1", DiscordUser.class);
+		final CompletableFuture<DiscordUser> second = sut.get("/users", "/users/1", DiscordUser.class);
+		release.countDown();
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.join().getUsername()).isEqualTo("User");
+		assertThat(requests).hasValue(1);
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+}
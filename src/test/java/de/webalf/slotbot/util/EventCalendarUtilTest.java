@@ -0,0 +1,65 @@
+package de.webalf.slotbot.util;
+
+import de.webalf.slotbot.model.Event;
+import de.webalf.slotbot.model.Guild;
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.data.ParserException;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.component.VEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class EventCalendarUtilTest {
+	private static final Instant LAST_MODIFIED = Instant.parse("2026-10-17T18:00:00Z");
+
+	//buildCalendarEvent
+	@Test
+	void buildCalendarEventIsDeterministic() {
+		final Event event = buildEvent(1, "Event");
+
+		assertThat(EventCalendarUtil.buildCalendarEvent(event, 0, LAST_MODIFIED))
+				.isEqualTo(EventCalendarUtil.buildCalendarEvent(event, 0, LAST_MODIFIED))
+				.contains("UID:event-1@slotbot.de\r\n", "SEQUENCE:0\r\n", "LAST-MODIFIED:20261017T180000Z\r\n", "DTSTAMP:20261017T180000Z\r\n");
+	}
+
+	//writeCalendar
+	@Test
+	void writeCalendarWritesParsableCalendar() throws IOException, ParserException {
+		final String longName = "Event with a name that is way too long to fit into a single content line of the calendar";
+		final List<String> calendarEvents = List.of(
+				EventCalendarUtil.buildCalendarEvent(buildEvent(1, longName), 2, LAST_MODIFIED),
+				EventCalendarUtil.buildCalendarEvent(buildEvent(2, "Other event"), 0, LAST_MODIFIED));
+
+		final StringWriter writer = new StringWriter();
+		EventCalendarUtil.writeCalendar(calendarEvents, writer);
+
+		final Calendar calendar = new CalendarBuilder().build(new StringReader(writer.toString()));
+		final List<VEvent> events = calendar.getComponents(VEvent.VEVENT);
+		assertThat(events).hasSize(2);
+		assertThat(events.getFirst().getSummary().orElseThrow().getValue()).isEqualTo(longName);
+		assertThat(events.getFirst().getSequence().orElseThrow().getSequenceNo()).isEqualTo(2);
+		assertThat(events.get(1).getUid().orElseThrow().getValue()).isEqualTo("event-2@slotbot.de");
+		assertThat(writer.toString().lines()).allMatch(line -> line.length() <= 75);
+	}
+
+	private static Event buildEvent(long id, String name) {
+		return Event.builder()
+				.id(id)
+				.name(name)
+				.dateTime(LocalDateTime.of(2026, 10, 20, 20, 0))
+				.ownerGuild(Guild.builder().id(1).build())
+				.build();
+	}
+}
@@ -0,0 +1,103 @@
+package de.webalf.slotbot.util.bot;
+
+import de.webalf.slotbot.service.bot.BotService;
+import net.dv8tion.jda.api.entities.Message;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class DirectMessageDispatcherTest {
+	private final TaskScheduler scheduler = mock(TaskScheduler.class);
+	private final List<Map.Entry<Long, String>> delivered = new ArrayList<>();
+	private int elapsedWindows;
+	private final DirectMessageDispatcher sut = new DirectMessageDispatcher(mock(BotService.class), scheduler) {
+		@Override
+		void deliver(long userId, String messageText) {
+			delivered.add(Map.entry(userId, messageText));
+		}
+	};
+
+	@Test
+	void mergesMessagesToSameRecipient() {
+		sut.send(1, "first");
+		sut.send(2, "other");
+		sut.send(1, "second");
+		elapseWindows(2);
+
+		sut.sendNext();
+		sut.sendNext();
+		sut.sendNext();
+
+		assertThat(delivered).containsExactly(
+				Map.entry(1L, "first" + DirectMessageDispatcher.MESSAGE_SEPARATOR + "second"),
+				Map.entry(2L, "other"));
+	}
+
+	@Test
+	void splitsMessagesExceedingMaxLength() {
+		final String half = "a".repeat(Message.MAX_CONTENT_LENGTH / 2);
+		sut.send(1, half);
+		sut.send(1, half);
+		sut.send(1, "last");
+		elapseWindows(1);
+
+		sut.sendNext();
+		sut.sendNext();
+
+		assertThat(delivered).containsExactly(
+				Map.entry(1L, half),
+				Map.entry(1L, half + DirectMessageDispatcher.MESSAGE_SEPARATOR + "last"));
+	}
+
+	@Test
+	void startsNewWindowAfterSending() {
+		sut.send(1, "first");
+		elapseWindows(1);
+		sut.sendNext();
+		sut.send(1, "second");
+
+		//Not ready before its own window elapsed
+		sut.sendNext();
+		assertThat(delivered).hasSize(1);
+
+		elapseWindows(2);
+		sut.sendNext();
+		assertThat(delivered).containsExactly(Map.entry(1L, "first"), Map.entry(1L, "second"));
+	}
+
+	@Test
+	void cleanUpSendsPendingMessages() {
+		sut.send(1, "first");
+		sut.send(2, "other");
+		sut.send(1, "second");
+
+		sut.cleanUp();
+
+		assertThat(delivered).containsExactlyInAnyOrder(
+				Map.entry(1L, "first" + DirectMessageDispatcher.MESSAGE_SEPARATOR + "second"),
+				Map.entry(2L, "other"));
+	}
+
+	/**
+	 * Ends all coalesce windows that were started since the last call in the order they were started
+	 */
+	private void elapseWindows(int totalWindows) {
+		final ArgumentCaptor<Runnable> windowEnds = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler, times(totalWindows)).schedule(windowEnds.capture(), any(Instant.class));
+		windowEnds.getAllValues().subList(elapsedWindows, totalWindows).forEach(Runnable::run);
+		elapsedWindows = totalWindows;
+	}
+}
@@ -0,0 +1,93 @@
+package de.webalf.slotbot.util.bot;
+
+import de.webalf.slotbot.model.annotations.bot.SlashCommand;
+import de.webalf.slotbot.service.bot.command.event.AddEventToChannel;
+import de.webalf.slotbot.service.bot.command.event.Slot;
+import de.webalf.slotbot.service.bot.command.event.Swap;
+import de.webalf.slotbot.service.bot.command.guild.AddUserToGuild;
+import de.webalf.slotbot.util.StaticContextAccessor;
+import org.atteo.classindex.ClassIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import static de.webalf.slotbot.util.bot.CommandClassHelper.getSlashCommand;
+import static de.webalf.slotbot.util.bot.DiscordLocaleHelper.DEFAULT_LOCALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class InteractionRegistryTest {
+	@InjectMocks
+	CommandClassHelper commandClassHelper;
+
+	InteractionRegistry sut;
+
+	/**
+	 * Provides the message source for {@link DiscordLocaleHelper#DEFAULT_LOCALE}
+	 */
+	@BeforeAll
+	static void setUpMessageSource() {
+		final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages");
+		messageSource.setFallbackToSystemLocale(false);
+		final GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(AbstractApplicationContext.MESSAGE_SOURCE_BEAN_NAME, MessageSource.class, () -> messageSource);
+		context.refresh();
+		new StaticContextAccessor().setApplicationContext(context);
+	}
+
+	@BeforeEach
+	void setUp() {
+		sut = new InteractionRegistry(commandClassHelper);
+		sut.init();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("provideDiscordSlashCommandClasses")
+	void getSlashCommandForAllDiscordSlashCommandClasses(Class<?> command) {
+		for (SlashCommand slashCommand : getSlashCommand(command)) {
+			assertThat(sut.getSlashCommand(DEFAULT_LOCALE.t(slashCommand.name()))).isInstanceOf(command);
+		}
+		assertThat(sut.getSlashCommand(command)).isInstanceOf(command);
+	}
+
+	private static Iterable<Class<?>> provideDiscordSlashCommandClasses() {
+		return ClassIndex.getAnnotated(SlashCommand.class);
+	}
+
+	@Test
+	void handlersAreSharedBetweenInteractions() {
+		assertThat(sut.getSlashCommand(DEFAULT_LOCALE.t("bot.slash.event.slot")))
+				.isInstanceOf(Slot.class)
+				.isSameAs(sut.getSlashCommand(DEFAULT_LOCALE.t("bot.slash.event.slot.force")));
+		assertThat(sut.getButton(ButtonUtils.buildButtonId(Swap.SWAP_ACCEPT, "1")))
+				.isInstanceOf(Swap.class)
+				.isSameAs(sut.getButton(ButtonUtils.buildButtonId(Swap.SWAP_DECLINE, "2")))
+				.isSameAs(sut.getSlashCommand(Swap.class));
+		assertThat(sut.getStringSelect("addEventToChannel"))
+				.isInstanceOf(AddEventToChannel.class)
+				.isSameAs(sut.getSlashCommand(AddEventToChannel.class));
+		assertThat(sut.getUserContext(DEFAULT_LOCALE.t("bot.context.guild.addUserToGuild"))).isInstanceOf(AddUserToGuild.class);
+	}
+
+	@Test
+	void unknownInteractionsAreNotFound() {
+		assertThat(sut.getSlashCommand("unknown")).isNull();
+		assertThat(sut.getButton("unknown-1")).isNull();
+		assertThat(sut.getStringSelect("unknown")).isNull();
+		assertThat(sut.getUserContext("unknown")).isNull();
+	}
+}
@@ -0,0 +1,68 @@
+package de.webalf.slotbot.util.bot;
+
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageEditHelperTest {
+	private static final long MESSAGE_ID = 2;
+
+	@Mock
+	private MessageChannel channel;
+	@Mock
+	private MessageEditAction editAction;
+
+	private final MessageEditHelper sut = new MessageEditHelper();
+
+	@BeforeEach
+	void setUp() {
+		when(channel.getIdLong()).thenReturn(1L);
+		lenient().when(channel.editMessageById(eq(MESSAGE_ID), any(CharSequence.class))).thenReturn(editAction);
+	}
+
+	//editMessage
+	@Test
+	void editMessageSkipsUnchangedContent() {
+		sut.editMessage(channel, MESSAGE_ID, "Slotlist");
+		sut.editMessage(channel, MESSAGE_ID, "Slotlist");
+
+		verify(channel, times(1)).editMessageById(MESSAGE_ID, "Slotlist");
+	}
+
+	@Test
+	void editMessageEditsChangedContent() {
+		sut.editMessage(channel, MESSAGE_ID, "Slotlist");
+		sut.editMessage(channel, MESSAGE_ID, "Changed slotlist");
+
+		verify(channel).editMessageById(MESSAGE_ID, "Slotlist");
+		verify(channel).editMessageById(MESSAGE_ID, "Changed slotlist");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void editMessageRetriesContentAfterFailure() {
+		sut.editMessage(channel, MESSAGE_ID, "Slotlist");
+		final ArgumentCaptor<Consumer<Throwable>> failure = ArgumentCaptor.forClass(Consumer.class);
+		verify(editAction).queue(isNull(), failure.capture());
+		failure.getValue().accept(new IllegalStateException());
+
+		sut.editMessage(channel, MESSAGE_ID, "Slotlist");
+
+		verify(channel, times(2)).editMessageById(MESSAGE_ID, "Slotlist");
+	}
+}
@@ -0,0 +1,62 @@
+package de.webalf.slotbot.util.permissions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.webalf.slotbot.model.Guild.GUILD_PLACEHOLDER;
+import static de.webalf.slotbot.util.permissions.PermissionHelper.buildAuthenticationWithPrefix;
+import static de.webalf.slotbot.util.permissions.PermissionHelper.buildGuildAuthenticationWithPrefix;
+import static de.webalf.slotbot.util.permissions.Role.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Alf
+ * @since 17.10.2026
+ */
+class PermissionMatrixTest {
+	@Test
+	void guildRolesAreOnlyGrantedInTheirGuild() {
+		final PermissionMatrix sut = PermissionMatrix.of(List.of(
+				buildAuthenticationWithPrefix(ApplicationRole.EVENT_MANAGE),
+				buildGuildAuthenticationWithPrefix(ApplicationRole.EVENT_MANAGE, 123),
+				buildAuthenticationWithPrefix(ApplicationRole.ADMIN),
+				buildGuildAuthenticationWithPrefix(ApplicationRole.ADMIN, 456)));
+
+		assertThat(sut.hasPermission(EVENT_MANAGE, 123)).isTrue();
+		assertThat(sut.hasPermission(ADMINISTRATOR, 123)).isFalse();
+		assertThat(sut.hasPermission(EVENT_MANAGE, 456)).isTrue();
+		assertThat(sut.hasPermission(ADMINISTRATOR, 456)).isTrue();
+		assertThat(sut.hasPermission(EVENT_MANAGE, 23)).isFalse();
+		assertThat(sut.hasPermission(EVENT_MANAGE, 789)).isFalse();
+		assertThat(sut.hasPermission(SYSTEM_ADMIN, 456)).isFalse();
+	}
+
+	@Test
+	void potentialRolesAreCheckedForPlaceholderGuild() {
+		final PermissionMatrix sut = PermissionMatrix.of(List.of(
+				buildAuthenticationWithPrefix(ApplicationRole.EVENT_MANAGE),
+				buildGuildAuthenticationWithPrefix(ApplicationRole.EVENT_MANAGE, 123)));
+
+		assertThat(sut.hasPermission(EVENT_MANAGE, GUILD_PLACEHOLDER)).isTrue();
+		assertThat(sut.hasPermission(ADMINISTRATOR, GUILD_PLACEHOLDER)).isFalse();
+		assertThat(sut.getGlobalApplicationRoles()).containsExactly(buildAuthenticationWithPrefix(ApplicationRole.EVENT_MANAGE));
+	}
+
+	@Test
+	void systemAdminIsGlobal() {
+		final PermissionMatrix sut = PermissionMatrix.of(List.of(buildAuthenticationWithPrefix(ApplicationRole.SYS_ADMIN)));
+
+		assertThat(sut.hasPermission(SYSTEM_ADMIN, 123)).isTrue();
+		assertThat(sut.hasPermission(ADMINISTRATOR, GUILD_PLACEHOLDER)).isTrue();
+		assertThat(sut.hasPermission(ADMINISTRATOR, 123)).isFalse();
+	}
+
+	@Test
+	void unknownAuthoritiesAreIgnored() {
+		final PermissionMatrix sut = PermissionMatrix.of(List.of("OAUTH2_USER", "SCOPE_identify", "ROLE_ADMIN_abc", "ROLE_WRITE_123"));
+
+		assertThat(sut).isSameAs(PermissionMatrix.EMPTY);
+		assertThat(sut.hasPermission(EVENT_MANAGE, 123)).isFalse();
+	}
+}